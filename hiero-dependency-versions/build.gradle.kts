@@ -47,6 +47,9 @@ dependencies.constraints {
     api("org.junit.jupiter:junit-jupiter-api:5.11.4") { because("org.junit.jupiter.api") }
     api("org.mockito:mockito-core:5.15.2") { because("org.mockito") }
 
+    // Benchmarks
+    api("org.openjdk.jmh:jmh-core:1.37") { because("jmh.core") }
+
     api("com.google.protobuf:protoc:$protobuf")
     api("io.grpc:protoc-gen-grpc-java:$grpc")
 
@@ -0,0 +1,80 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
+import org.bouncycastle.crypto.signers.ECDSASigner;
+import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
+import org.bouncycastle.util.BigIntegers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ECDSA(secp256k1) signatures per second on one thread, so per core: signing the way {@link PrivateKeyECDSA} used to,
+ * with a signer, nonce calculator and digests created for every signature on the generic curve, against
+ * {@link PrivateKey#sign(byte[])} and {@link PrivateKey#sign(byte[], byte[], int)} with the cached signing context.
+ * Run with {@code -prof gc} to see the allocation difference.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EcdsaSignBenchmark {
+    // A transaction body is typically a few hundred bytes
+    @Param({"200"})
+    public int messageBytes;
+
+    private PrivateKey privateKey;
+    private BigInteger keyData;
+    private byte[] message;
+    private final byte[] signature = new byte[64];
+
+    @Setup
+    public void setup() {
+        privateKey = PrivateKey.fromStringECDSA("8776c6b831a1b61ac10dac0304a2843de4716f54b1919bb91a2685d0fe3f3048");
+        keyData = new BigInteger(1, privateKey.toBytesRaw());
+        message = new byte[messageBytes];
+        new Random(42).nextBytes(message);
+    }
+
+    @Benchmark
+    public byte[] signerPerCall() {
+        var hash = Crypto.calcKeccak256(message);
+
+        var signer = new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()));
+        signer.init(true, new ECPrivateKeyParameters(keyData, Key.ECDSA_SECP256K1_DOMAIN));
+        var rs = signer.generateSignature(hash);
+
+        var bytes = new byte[64];
+        BigIntegers.asUnsignedByteArray(rs[0], bytes, 0, 32);
+        BigIntegers.asUnsignedByteArray(rs[1], bytes, 32, 32);
+        return bytes;
+    }
+
+    @Benchmark
+    public byte[] signingContext() {
+        return privateKey.sign(message);
+    }
+
+    @Benchmark
+    public byte[] signingContextIntoBuffer() {
+        privateKey.sign(message, signature, 0);
+        return signature;
+    }
+}
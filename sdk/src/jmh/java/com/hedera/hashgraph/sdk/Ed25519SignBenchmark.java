@@ -0,0 +1,67 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.bouncycastle.math.ec.rfc8032.Ed25519;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ED25519 signatures per second on one thread, so per core: signing the way {@link PrivateKeyED25519} used to, deriving
+ * the public key from the seed for every signature, against {@link PrivateKey#sign(byte[])} and
+ * {@link PrivateKey#sign(byte[], byte[], int)} with the public key derived once.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class Ed25519SignBenchmark {
+    // A transaction body is typically a few hundred bytes
+    @Param({"200"})
+    public int messageBytes;
+
+    private PrivateKey privateKey;
+    private byte[] keyData;
+    private byte[] message;
+    private final byte[] signature = new byte[Ed25519.SIGNATURE_SIZE];
+
+    @Setup
+    public void setup() {
+        privateKey = PrivateKey.fromStringED25519("db484b828e64b2d8f12ce3c0a0e93a0b8cce7af1bb8f39c97732394482538e10");
+        keyData = privateKey.toBytesRaw();
+        message = new byte[messageBytes];
+        new Random(42).nextBytes(message);
+    }
+
+    @Benchmark
+    public byte[] publicKeyPerCall() {
+        var bytes = new byte[Ed25519.SIGNATURE_SIZE];
+        Ed25519.sign(keyData, 0, message, 0, message.length, bytes, 0);
+        return bytes;
+    }
+
+    @Benchmark
+    public byte[] cachedPublicKey() {
+        return privateKey.sign(message);
+    }
+
+    @Benchmark
+    public byte[] cachedPublicKeyIntoBuffer() {
+        privateKey.sign(message, signature, 0);
+        return signature;
+    }
+}
@@ -0,0 +1,114 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+import com.sun.net.httpserver.HttpServer;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of many mirror node contract calls, one query at a time versus {@link MirrorNodeContractCallBatch}, against
+ * a local HTTP stub that answers every call after {@code latencyMillis}.
+ * <p>
+ * Without a ledger ID the SDK sends contract calls to port 8545 of the first mirror node, so the stub binds there.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MirrorNodeContractCallBatchBenchmark {
+    private static final int CALLS = 256;
+
+    @Param({"0", "5"})
+    public int latencyMillis;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private Client client;
+    private List<MirrorNodeContractCallQuery> queries;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        var response = ("{\"result\":\"0x" + "00".repeat(31) + "2a\"}").getBytes(StandardCharsets.UTF_8);
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 8545), 0);
+        serverExecutor = Executors.newFixedThreadPool(64);
+        server.setExecutor(serverExecutor);
+        server.createContext("/api/v1/contracts/call", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            if (latencyMillis > 0) {
+                try {
+                    Thread.sleep(latencyMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            exchange.getResponseBody().write(response);
+            exchange.close();
+        });
+        server.start();
+
+        client = Client.forNetwork(Map.of()).setMirrorNetwork(List.of("127.0.0.1:5600"));
+
+        queries = new ArrayList<>(CALLS);
+        for (int i = 0; i < CALLS; i++) {
+            queries.add(new MirrorNodeContractCallQuery()
+                    .setContractId(new ContractId(0, 0, 1000 + i))
+                    .setFunctionParameters(ByteString.copyFrom(new byte[] {0x18, 0x16, 0x0d, (byte) 0xdd})));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        client.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALLS)
+    public int sequential() throws Exception {
+        int total = 0;
+        for (var query : queries) {
+            total += query.execute(client).length();
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALLS)
+    public int batch() throws Exception {
+        var batch = new MirrorNodeContractCallBatch();
+        queries.forEach(batch::addCall);
+
+        int total = 0;
+        for (var result : batch.execute(client)) {
+            total += result.getResult().length();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,56 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.google.gson.JsonParser;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares reading a mirror node contract call response into a {@code String} and a Gson tree against streaming it
+ * through {@link MirrorNodeJsonBodyHandler}. Run with {@code -prof gc} to see the allocation difference.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MirrorNodeResponseParsingBenchmark {
+    @Param({"1", "4", "16"})
+    public int resultMegabytes;
+
+    private byte[] body;
+
+    @Setup
+    public void setup() {
+        var hex = "0123456789abcdef".repeat(resultMegabytes * 1024 * 1024 / 16);
+        body = ("{\"result\":\"0x" + hex + "\",\"links\":{\"next\":null}}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String stringAndTree() {
+        var responseBody = new String(body, StandardCharsets.UTF_8);
+        return JsonParser.parseString(responseBody)
+                .getAsJsonObject()
+                .get("result")
+                .getAsString();
+    }
+
+    @Benchmark
+    public String streaming() {
+        return MirrorNodeJsonBodyHandler.parse(
+                new ByteArrayInputStream(body), MirrorNodeContractQuery::parseContractCallResult);
+    }
+}
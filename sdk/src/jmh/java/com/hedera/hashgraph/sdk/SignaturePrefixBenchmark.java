@@ -0,0 +1,84 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The size of a transfer signed by one, two and five keys of mixed types, as a single key, a 2-of-3 and a 5-of-7
+ * threshold key would sign it, for one node and for ten, with whole public keys and with the shortest unique prefixes
+ * of {@link Transaction#setShortenSignaturePrefixes(boolean)}, along with the time to serialize it.
+ * <p>
+ * The sizes are reported as the {@code transactionBytes} and {@code bytesPerNode} counters.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SignaturePrefixBenchmark {
+    @Param({"1", "10"})
+    public int nodes;
+
+    @Param({"1", "2", "5"})
+    public int signers;
+
+    @Param({"false", "true"})
+    public boolean shortenSignaturePrefixes;
+
+    private TransferTransaction transaction;
+
+    @Setup
+    public void setup() {
+        var nodeAccountIds = new ArrayList<AccountId>(nodes);
+        for (int i = 0; i < nodes; i++) {
+            nodeAccountIds.add(new AccountId(3 + i));
+        }
+
+        transaction = new TransferTransaction()
+                .addHbarTransfer(new AccountId(1001), Hbar.fromTinybars(-1))
+                .addHbarTransfer(new AccountId(1002), Hbar.fromTinybars(1))
+                .setNodeAccountIds(nodeAccountIds)
+                .setTransactionId(TransactionId.generate(new AccountId(1001)))
+                .setShortenSignaturePrefixes(shortenSignaturePrefixes)
+                .freeze();
+
+        // Alternate key types, as multi-sig accounts often mix them
+        for (int i = 0; i < signers; i++) {
+            var key = i % 2 == 0 ? PrivateKey.generateED25519() : PrivateKey.generateECDSA();
+            key.signTransaction(transaction);
+        }
+    }
+
+    @Benchmark
+    public int toBytes(Sizes sizes) {
+        var bytes = transaction.toBytes();
+
+        sizes.transactionBytes = bytes.length;
+        sizes.bytesPerNode = bytes.length / nodes;
+        return bytes.length;
+    }
+
+    /**
+     * The sizes of the serialized transaction, reported next to the time.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Sizes {
+        public long transactionBytes;
+        public long bytesPerNode;
+    }
+}
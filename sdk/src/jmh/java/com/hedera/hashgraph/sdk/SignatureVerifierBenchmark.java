@@ -0,0 +1,93 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The cost of verifying every signature of a transaction frozen for several nodes and signed by several keys, with
+ * {@link PublicKey#verify(byte[], byte[])} on keys already at hand, with {@link SignatureVerifier} looking the keys up
+ * on the calling thread only, and with {@link SignatureVerifier} on the common fork-join pool.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SignatureVerifierBenchmark {
+    @Param({"1", "10"})
+    public int nodes;
+
+    @Param({"ED25519", "ECDSA"})
+    public String keyType;
+
+    @Param({"3"})
+    public int signers;
+
+    private TransferTransaction transaction;
+    private List<PublicKey> publicKeys;
+    private SignatureVerifier sequentialVerifier;
+    private SignatureVerifier parallelVerifier;
+
+    @Setup
+    public void setup() {
+        var nodeAccountIds = new ArrayList<AccountId>(nodes);
+        for (int i = 0; i < nodes; i++) {
+            nodeAccountIds.add(new AccountId(3 + i));
+        }
+
+        transaction = new TransferTransaction()
+                .setNodeAccountIds(nodeAccountIds)
+                .setTransactionId(TransactionId.generate(new AccountId(1001)))
+                .freeze();
+
+        publicKeys = new ArrayList<>(signers);
+        for (int i = 0; i < signers; i++) {
+            var key = keyType.equals("ED25519") ? PrivateKey.generateED25519() : PrivateKey.generateECDSA();
+            key.signTransaction(transaction);
+            publicKeys.add(key.getPublicKey());
+        }
+
+        // Runs every verification on the calling thread
+        sequentialVerifier = new SignatureVerifier(Runnable::run);
+        parallelVerifier = new SignatureVerifier();
+    }
+
+    @Benchmark
+    public boolean publicKeyVerify() {
+        boolean valid = true;
+        for (var signedTransaction : transaction.innerSignedTransactions) {
+            var body = signedTransaction.getBodyBytes().toByteArray();
+            var sigPairs = signedTransaction.getSigMap().getSigPairList();
+            for (int i = 0; i < sigPairs.size(); i++) {
+                var sigPair = sigPairs.get(i);
+                var signature = keyType.equals("ED25519") ? sigPair.getEd25519() : sigPair.getECDSASecp256K1();
+                valid &= publicKeys.get(i).verify(body, signature.toByteArray());
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public boolean signatureVerifierSequential() {
+        return sequentialVerifier.verifyTransaction(transaction);
+    }
+
+    @Benchmark
+    public boolean signatureVerifierParallel() {
+        return parallelVerifier.verifyTransaction(transaction);
+    }
+}
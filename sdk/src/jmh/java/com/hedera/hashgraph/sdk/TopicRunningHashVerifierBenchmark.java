@@ -0,0 +1,117 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.AccountID;
+import com.hedera.hashgraph.sdk.proto.ConsensusMessageChunkInfo;
+import com.hedera.hashgraph.sdk.proto.Timestamp;
+import com.hedera.hashgraph.sdk.proto.TransactionID;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The cost per message of verifying a topic's running hashes with {@link TopicRunningHashVerifier} against
+ * recomputing them the straightforward way, copying the message and the fields into a new array for every message.
+ * Run with {@code -prof gc} to see the allocation difference.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TopicRunningHashVerifierBenchmark {
+    private static final int CHAIN_LENGTH = 1_000;
+    private static final TopicId TOPIC = new TopicId(0, 0, 1000);
+    private static final AccountID PAYER = AccountID.newBuilder().setAccountNum(1001).build();
+
+    @Param({"100", "1024", "6144"})
+    public int messageBytes;
+
+    private ConsensusTopicResponse[] responses;
+
+    @Setup
+    public void setup() throws Exception {
+        var random = new Random(42);
+        var runningHash = new byte[48];
+        responses = new ConsensusTopicResponse[CHAIN_LENGTH];
+
+        for (int i = 0; i < CHAIN_LENGTH; i++) {
+            var message = new byte[messageBytes];
+            random.nextBytes(message);
+
+            var response = ConsensusTopicResponse.newBuilder()
+                    .setConsensusTimestamp(Timestamp.newBuilder().setSeconds(1_700_000_000L + i))
+                    .setSequenceNumber(i + 1)
+                    .setMessage(ByteString.copyFrom(message))
+                    .setRunningHashVersion(3)
+                    .setChunkInfo(ConsensusMessageChunkInfo.newBuilder()
+                            .setInitialTransactionID(TransactionID.newBuilder().setAccountID(PAYER))
+                            .setNumber(1)
+                            .setTotal(1))
+                    .build();
+
+            runningHash = hashByCopying(runningHash, response);
+            responses[i] = response.toBuilder().setRunningHash(ByteString.copyFrom(runningHash)).build();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHAIN_LENGTH)
+    public long verifier() throws TopicIntegrityException {
+        var verifier = new TopicRunningHashVerifier(TOPIC);
+        for (var response : responses) {
+            verifier.verify(response);
+        }
+        return verifier.getVerifiedCount();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHAIN_LENGTH)
+    public byte[] copying() throws IOException, NoSuchAlgorithmException {
+        var runningHash = responses[0].getRunningHash().toByteArray();
+        for (int i = 1; i < responses.length; i++) {
+            runningHash = hashByCopying(runningHash, responses[i]);
+        }
+        return runningHash;
+    }
+
+    private static byte[] hashByCopying(byte[] previousRunningHash, ConsensusTopicResponse response)
+            throws IOException, NoSuchAlgorithmException {
+        var payer = response.getChunkInfo().getInitialTransactionID().getAccountID();
+        var bytes = new ByteArrayOutputStream();
+        var out = new ObjectOutputStream(bytes);
+        out.write(previousRunningHash);
+        out.writeLong(response.getRunningHashVersion());
+        out.writeLong(payer.getShardNum());
+        out.writeLong(payer.getRealmNum());
+        out.writeLong(payer.getAccountNum());
+        out.writeLong(TOPIC.shard);
+        out.writeLong(TOPIC.realm);
+        out.writeLong(TOPIC.num);
+        out.writeLong(response.getConsensusTimestamp().getSeconds());
+        out.writeInt(response.getConsensusTimestamp().getNanos());
+        out.writeLong(response.getSequenceNumber());
+        out.write(MessageDigest.getInstance("SHA-384").digest(response.getMessage().toByteArray()));
+        out.flush();
+        return MessageDigest.getInstance("SHA-384").digest(bytes.toByteArray());
+    }
+}
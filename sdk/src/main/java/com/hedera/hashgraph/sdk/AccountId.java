@@ -293,7 +293,7 @@ public final class AccountId implements Comparable<AccountId> {
      */
     @Deprecated
     public CompletableFuture<AccountId> populateAccountNumAsync(Client client) {
-        return EntityIdHelper.getAccountNumFromMirrorNodeAsync(client, evmAddress.toString())
+        return EntityIdHelper.getAccountNumFromMirrorNodeAsync(client, shard, realm, evmAddress.toString())
                 .thenApply(accountNumFromMirrorNode -> new AccountId(
                         this.shard,
                         this.realm,
@@ -324,7 +324,7 @@ public final class AccountId implements Comparable<AccountId> {
      */
     @Deprecated
     public CompletableFuture<AccountId> populateAccountEvmAddressAsync(Client client) {
-        return EntityIdHelper.getEvmAddressFromMirrorNodeAsync(client, num)
+        return EntityIdHelper.getEvmAddressFromMirrorNodeAsync(client, shard, realm, num)
                 .thenApply(evmAddressFromMirrorNode -> new AccountId(
                         this.shard, this.realm, this.num, this.checksum, this.aliasKey, evmAddressFromMirrorNode));
     }
@@ -35,6 +35,9 @@ public class AddressBookQuery {
     private int maxAttempts = 10;
     private Duration maxBackoff = Duration.ofSeconds(8L);
 
+    @Nullable
+    private Duration stallTimeout = null;
+
     /**
      * Constructor.
      */
@@ -132,6 +135,31 @@ public class AddressBookQuery {
         return this;
     }
 
+    /**
+     * Extract the time without a node address after which a stream is considered stalled.
+     *
+     * @return the stall timeout, or {@code null} if streams never stall
+     */
+    @Nullable
+    public Duration getStallTimeout() {
+        return stallTimeout;
+    }
+
+    /**
+     * Assign the time without a node address after which a stream is considered stalled, and the query is retried on
+     * another mirror node. Stalling counts as an attempt. Disabled by default, leaving it to the timeout of the query.
+     *
+     * @param stallTimeout the stall timeout, or {@code null} to never consider a stream stalled
+     * @return {@code this}
+     */
+    public AddressBookQuery setStallTimeout(@Nullable Duration stallTimeout) {
+        if (stallTimeout != null && (stallTimeout.isNegative() || stallTimeout.isZero())) {
+            throw new IllegalArgumentException("stallTimeout must be positive");
+        }
+        this.stallTimeout = stallTimeout;
+        return this;
+    }
+
     /**
      * Execute the query with preset timeout.
      *
@@ -151,21 +179,44 @@ public class AddressBookQuery {
      */
     public NodeAddressBook execute(Client client, Duration timeout) {
         var deadline = Deadline.after(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        MirrorNode previousNode = null;
         for (int attempt = 1; true; attempt++) {
+            MirrorNode node = null;
+            MirrorStreamMonitor monitor = null;
             try {
-                var addressProtoIter =
-                        ClientCalls.blockingServerStreamingCall(buildCall(client, deadline), buildQuery());
+                node = nextMirrorNode(client, previousNode);
+                var call = buildCall(node, deadline);
+                monitor = new MirrorStreamMonitor(
+                        node, stallTimeout, client.executor, () -> call.cancel("stalled", null));
+                var addressProtoIter = ClientCalls.blockingServerStreamingCall(call, buildQuery());
+                monitor.start();
                 List<NodeAddress> addresses = new ArrayList<>();
                 while (addressProtoIter.hasNext()) {
-                    addresses.add(NodeAddress.fromProtobuf(addressProtoIter.next()));
+                    var addressProto = addressProtoIter.next();
+                    monitor.onMessage(null);
+                    addresses.add(NodeAddress.fromProtobuf(addressProto));
                 }
+                monitor.onCompleted();
                 return new NodeAddressBook().setNodeAddresses(addresses);
             } catch (Throwable error) {
-                if (!shouldRetry(error) || attempt >= maxAttempts) {
-                    LOGGER.error("Error attempting to get address book at FileId {}", fileId, error);
+                RuntimeException stallError = null;
+                if (monitor != null) {
+                    monitor.onError();
+                    if (monitor.hasStalled()) {
+                        stallError = MirrorStreamMonitor.stallError(stallTimeout);
+                    }
+                }
+
+                var cause = stallError != null ? stallError : error;
+                if (!shouldRetry(cause) || attempt >= maxAttempts) {
+                    LOGGER.error("Error attempting to get address book at FileId {}", fileId, cause);
+                    if (stallError != null) {
+                        throw stallError;
+                    }
                     throw error;
                 }
-                warnAndDelay(attempt, error);
+                warnAndDelay(attempt, cause);
+                previousNode = node;
             }
         }
     }
@@ -203,18 +254,31 @@ public class AddressBookQuery {
      * @param attempt      maximum number of attempts
      */
     void executeAsync(Client client, Deadline deadline, CompletableFuture<NodeAddressBook> returnFuture, int attempt) {
+        executeAsync(client, deadline, returnFuture, attempt, null);
+    }
+
+    private void executeAsync(
+            Client client,
+            Deadline deadline,
+            CompletableFuture<NodeAddressBook> returnFuture,
+            int attempt,
+            @Nullable MirrorNode previousNode) {
+        var node = nextMirrorNode(client, previousNode);
+        var call = buildCall(node, deadline);
+        var monitor = new MirrorStreamMonitor(node, stallTimeout, client.executor, () -> call.cancel("stalled", null));
         List<NodeAddress> addresses = new ArrayList<>();
         ClientCalls.asyncServerStreamingCall(
-                buildCall(client, deadline),
-                buildQuery(),
-                new StreamObserver<com.hedera.hashgraph.sdk.proto.NodeAddress>() {
+                call, buildQuery(), new StreamObserver<com.hedera.hashgraph.sdk.proto.NodeAddress>() {
                     @Override
                     public void onNext(com.hedera.hashgraph.sdk.proto.NodeAddress addressProto) {
+                        monitor.onMessage(null);
                         addresses.add(NodeAddress.fromProtobuf(addressProto));
                     }
 
                     @Override
-                    public void onError(Throwable error) {
+                    public void onError(Throwable t) {
+                        monitor.onError();
+                        var error = monitor.hasStalled() ? MirrorStreamMonitor.stallError(stallTimeout) : t;
                         if (attempt >= maxAttempts || !shouldRetry(error)) {
                             LOGGER.error("Error attempting to get address book at FileId {}", fileId, error);
                             returnFuture.completeExceptionally(error);
@@ -222,14 +286,16 @@ public class AddressBookQuery {
                         }
                         warnAndDelay(attempt, error);
                         addresses.clear();
-                        executeAsync(client, deadline, returnFuture, attempt + 1);
+                        executeAsync(client, deadline, returnFuture, attempt + 1, node);
                     }
 
                     @Override
                     public void onCompleted() {
+                        monitor.onCompleted();
                         returnFuture.complete(new NodeAddressBook().setNodeAddresses(addresses));
                     }
                 });
+        monitor.start();
     }
 
     /**
@@ -248,19 +314,21 @@ public class AddressBookQuery {
         return builder.build();
     }
 
-    private ClientCall<
-                    com.hedera.hashgraph.sdk.proto.mirror.AddressBookQuery, com.hedera.hashgraph.sdk.proto.NodeAddress>
-            buildCall(Client client, Deadline deadline) {
+    private static MirrorNode nextMirrorNode(Client client, @Nullable MirrorNode previousNode) {
         try {
-            return client.mirrorNetwork
-                    .getNextMirrorNode()
-                    .getChannel()
-                    .newCall(NetworkServiceGrpc.getGetNodesMethod(), CallOptions.DEFAULT.withDeadline(deadline));
+            return client.mirrorNetwork.getNextMirrorNode(previousNode);
         } catch (InterruptedException e) {
             throw new RuntimeException(e);
         }
     }
 
+    private static ClientCall<
+                    com.hedera.hashgraph.sdk.proto.mirror.AddressBookQuery, com.hedera.hashgraph.sdk.proto.NodeAddress>
+            buildCall(MirrorNode node, Deadline deadline) {
+        return node.getChannel()
+                .newCall(NetworkServiceGrpc.getGetNodesMethod(), CallOptions.DEFAULT.withDeadline(deadline));
+    }
+
     private void warnAndDelay(int attempt, Throwable error) {
         var delay = Math.min(500 * (long) Math.pow(2, attempt), maxBackoff.toMillis());
         LOGGER.warn(
@@ -245,6 +245,18 @@ abstract class BaseNode<N extends BaseNode<N, KeyT>, KeyT> {
             return channel;
         }
 
+        channel = createChannel();
+
+        return channel;
+    }
+
+    /**
+     * Create a new gRPC channel to this node, configured like the one returned by {@link #getChannel()}. The caller
+     * owns the channel and has to shut it down.
+     *
+     * @return                          the channel
+     */
+    ManagedChannel createChannel() {
         ManagedChannelBuilder<?> channelBuilder;
 
         if (address.isInProcess()) {
@@ -260,15 +272,13 @@ abstract class BaseNode<N extends BaseNode<N, KeyT>, KeyT> {
             channelBuilder = ManagedChannelBuilder.forTarget(address.toString()).usePlaintext();
         }
 
-        channel = channelBuilder
+        return channelBuilder
                 .keepAliveTimeout(10, TimeUnit.SECONDS)
                 .keepAliveWithoutCalls(true)
                 .disableRetry()
                 .userAgent(getUserAgent())
                 .executor(executor)
                 .build();
-
-        return channel;
     }
 
     /**
@@ -205,17 +205,15 @@ abstract class ChunkedTransaction<T extends ChunkedTransaction<T>> extends Trans
         var nodeCount = nodeAccountIds.size();
         var transactionHashes = new ArrayList<Map<AccountId, byte[]>>(txCount);
 
+        // Every chunk for every node at once, so a large matrix is hashed in parallel
+        var allHashes = getTransactionHashes(0, txCount * nodeCount);
+
         for (var txIndex = 0; txIndex < txCount; ++txIndex) {
             var hashes = new HashMap<AccountId, byte[]>();
             var offset = txIndex * nodeCount;
 
             for (var nodeIndex = 0; nodeIndex < nodeCount; ++nodeIndex) {
-                hashes.put(
-                        nodeAccountIds.get(nodeIndex),
-                        hash(outerTransactions
-                                .get(offset + nodeIndex)
-                                .getSignedTransactionBytes()
-                                .toByteArray()));
+                hashes.put(nodeAccountIds.get(nodeIndex), allHashes[offset + nodeIndex]);
             }
 
             transactionHashes.add(hashes);
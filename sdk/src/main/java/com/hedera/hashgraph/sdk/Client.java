@@ -91,6 +91,15 @@ public final class Client implements AutoCloseable {
 
     private Logger logger = new Logger(LogLevel.SILENT);
 
+    @Nullable
+    private volatile EvmAddressCache evmAddressCache = null;
+
+    @Nullable
+    private volatile MirrorNodeContractCallCache mirrorNodeContractCallCache = null;
+
+    @Nullable
+    private volatile MirrorReceiptSource mirrorReceiptSource = null;
+
     /**
      * Constructor.
      *
@@ -363,6 +372,15 @@ public final class Client implements AutoCloseable {
         return mirrorNetwork.getNetwork();
     }
 
+    /**
+     * The health of the streams of each mirror node, by which mirror nodes are chosen for new streams.
+     *
+     * @return the health of each mirror node
+     */
+    public synchronized List<MirrorNodeStats> getMirrorNodeStats() {
+        return mirrorNetwork.getStats();
+    }
+
     /**
      * Set the mirror network nodes.
      *
@@ -1316,6 +1334,76 @@ public final class Client implements AutoCloseable {
         return this;
     }
 
+    /**
+     * The cache of EVM address to entity ID mappings resolved through the mirror node.
+     *
+     * @return the cache, or {@code null} if caching is disabled, as it is by default
+     */
+    @Nullable
+    public EvmAddressCache getEvmAddressCache() {
+        return evmAddressCache;
+    }
+
+    /**
+     * Set the cache of EVM address to entity ID mappings resolved through the mirror node. The cache can be shared
+     * between clients of the same network, and prefilled or loaded from a file before use.
+     * <p>
+     * No cache is set by default, so every mapping is resolved through the mirror node.
+     *
+     * @param evmAddressCache the cache, or {@code null} to always ask the mirror node
+     * @return {@code this}
+     */
+    public Client setEvmAddressCache(@Nullable EvmAddressCache evmAddressCache) {
+        this.evmAddressCache = evmAddressCache;
+        return this;
+    }
+
+    /**
+     * The cache of mirror node contract call and gas estimate results.
+     *
+     * @return the cache, or {@code null} if results are not cached
+     */
+    @Nullable
+    public MirrorNodeContractCallCache getMirrorNodeContractCallCache() {
+        return mirrorNodeContractCallCache;
+    }
+
+    /**
+     * Set a cache for the results of {@link MirrorNodeContractCallQuery} and {@link MirrorNodeContractEstimateGasQuery}.
+     * Results are not cached by default.
+     *
+     * @param mirrorNodeContractCallCache the cache, or {@code null} to disable caching
+     * @return {@code this}
+     */
+    public Client setMirrorNodeContractCallCache(@Nullable MirrorNodeContractCallCache mirrorNodeContractCallCache) {
+        this.mirrorNodeContractCallCache = mirrorNodeContractCallCache;
+        return this;
+    }
+
+    /**
+     * The source that learns from the mirror node when transactions reached consensus.
+     *
+     * @return the source, or {@code null} if receipts are polled from the consensus nodes right away
+     */
+    @Nullable
+    public MirrorReceiptSource getMirrorReceiptSource() {
+        return mirrorReceiptSource;
+    }
+
+    /**
+     * Set a source that learns from the mirror node when transactions reached consensus, so that
+     * {@link TransactionResponse#getReceiptAsync(Client)} asks the consensus node for the receipt once the transaction
+     * is listed instead of polling it. The synchronous {@link TransactionResponse#getReceipt(Client)} ignores the
+     * source and polls right away. Not set by default.
+     *
+     * @param mirrorReceiptSource the source, or {@code null} to poll the consensus nodes right away
+     * @return {@code this}
+     */
+    public Client setMirrorReceiptSource(@Nullable MirrorReceiptSource mirrorReceiptSource) {
+        this.mirrorReceiptSource = mirrorReceiptSource;
+        return this;
+    }
+
     /**
      * Initiates an orderly shutdown of all channels (to the Hedera network) in which preexisting transactions or
      * queries continue but more would be immediately cancelled.
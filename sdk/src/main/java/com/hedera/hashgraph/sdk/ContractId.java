@@ -217,7 +217,7 @@ public class ContractId extends Key implements Comparable<ContractId> {
     public CompletableFuture<ContractId> populateContractNumAsync(Client client) {
         EvmAddress address = new EvmAddress(this.evmAddress);
 
-        return EntityIdHelper.getContractNumFromMirrorNodeAsync(client, address.toString())
+        return EntityIdHelper.getContractNumFromMirrorNodeAsync(client, shard, realm, address.toString())
                 .thenApply(contractNumFromMirrorNode ->
                         new ContractId(this.shard, this.realm, contractNumFromMirrorNode, checksum));
     }
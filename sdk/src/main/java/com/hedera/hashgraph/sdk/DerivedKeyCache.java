@@ -0,0 +1,153 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import javax.annotation.Nullable;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.macs.HMac;
+import org.bouncycastle.crypto.params.KeyParameter;
+
+/**
+ * Keeps the keys derived by PBKDF2 from keystore passphrases, so opening the same keystore again, as on a hot reload,
+ * skips the key derivation. Passed to {@link PrivateKey#readKeystore(java.io.InputStream, String, DerivedKeyCache)}
+ * and the other keystore readers of {@link PrivateKey}.
+ * <p>
+ * Keys are kept by an HMAC of the salt, the iteration count, the key length and the passphrase, under a random secret
+ * of the cache, so a wrong passphrase never finds the key of the right one and the kept entries offer no quick check of
+ * guessed passphrases. Each key is zeroed once it is evicted or the cache is cleared, and callers get a copy of it. The
+ * cache holds the keys that decrypt the keystores, so it must be as protected as the decrypted keys themselves; clear
+ * it once the keystores are loaded.
+ * <p>
+ * Safe to use from several threads at once.
+ */
+public final class DerivedKeyCache {
+    /**
+     * The default maximum number of keys kept.
+     */
+    public static final long DEFAULT_MAXIMUM_SIZE = 64;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final Cache<ByteString, DerivedKey> keys;
+    private final byte[] secret = new byte[32];
+
+    /**
+     * Constructor with the default maximum size.
+     */
+    public DerivedKeyCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize the maximum number of keys kept
+     */
+    public DerivedKeyCache(long maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be greater than zero");
+        }
+
+        RANDOM.nextBytes(secret);
+        this.keys = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .removalListener((RemovalNotification<ByteString, DerivedKey> notification) -> {
+                    var key = notification.getValue();
+                    if (key != null) {
+                        key.destroy();
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Derive a key as {@link Crypto#deriveKeySha256(String, byte[], int, int)} does, or copy the one derived before.
+     *
+     * @param passphrase the passphrase
+     * @param salt       the salt
+     * @param iterations the iterations
+     * @param dkLenBytes the key length in bytes
+     * @return the key, which the caller may zero once done with it
+     */
+    KeyParameter deriveKeySha256(String passphrase, byte[] salt, int iterations, int dkLenBytes) {
+        var cacheKey = cacheKey(passphrase, salt, iterations, dkLenBytes);
+
+        var cached = keys.getIfPresent(cacheKey);
+        var copy = cached != null ? cached.copy() : null;
+        if (copy != null) {
+            return copy;
+        }
+
+        var derived = Crypto.deriveKeySha256(passphrase, salt, iterations, dkLenBytes);
+        keys.put(cacheKey, new DerivedKey(derived.getKey()));
+        return derived;
+    }
+
+    /**
+     * The number of keys kept.
+     *
+     * @return the number of keys
+     */
+    public long size() {
+        return keys.size();
+    }
+
+    /**
+     * Zero and drop every key.
+     */
+    public void clear() {
+        keys.invalidateAll();
+        keys.cleanUp();
+    }
+
+    private ByteString cacheKey(String passphrase, byte[] salt, int iterations, int dkLenBytes) {
+        var parameters = ByteBuffer.allocate(12)
+                .putInt(iterations)
+                .putInt(dkLenBytes)
+                .putInt(salt.length)
+                .array();
+        var passphraseBytes = passphrase.getBytes(StandardCharsets.UTF_8);
+
+        var hmac = new HMac(new SHA256Digest());
+        hmac.init(new KeyParameter(secret));
+        hmac.update(parameters, 0, parameters.length);
+        hmac.update(salt, 0, salt.length);
+        hmac.update(passphraseBytes, 0, passphraseBytes.length);
+        var mac = new byte[hmac.getMacSize()];
+        hmac.doFinal(mac, 0);
+        Arrays.fill(passphraseBytes, (byte) 0);
+
+        return UnsafeByteOperations.unsafeWrap(mac);
+    }
+
+    /**
+     * A kept key, which is copied out and zeroed under its lock so no caller gets a zeroed key.
+     */
+    private static final class DerivedKey {
+        // Guarded by `this`
+        private final byte[] key;
+        private boolean destroyed = false;
+
+        DerivedKey(byte[] key) {
+            this.key = key.clone();
+        }
+
+        @Nullable
+        synchronized KeyParameter copy() {
+            return destroyed ? null : new KeyParameter(key);
+        }
+
+        synchronized void destroy() {
+            destroyed = true;
+            Arrays.fill(key, (byte) 0);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * A chunked topic message whose chunks were discarded by a subscription before all of them arrived.
+ * <p>
+ * Passed to the handler set with {@link TopicMessageQuery#setDroppedMessageHandler(java.util.function.Consumer)}.
+ */
+public final class DroppedTopicMessage {
+    /**
+     * Why the chunks of a message were discarded.
+     */
+    public enum Reason {
+        /**
+         * The pending chunks of the subscription exceeded its memory limit and this was the oldest incomplete message.
+         */
+        MEMORY_LIMIT,
+        /**
+         * Too much consensus time passed since the first chunk arrived.
+         */
+        TIMED_OUT,
+        /**
+         * Too many topic messages arrived since the first chunk arrived.
+         */
+        SEQUENCE_GAP
+    }
+
+    /**
+     * The transaction ID of the first chunk of the message.
+     */
+    public final TransactionId transactionId;
+
+    /**
+     * The number of chunks that arrived.
+     */
+    public final int receivedChunks;
+
+    /**
+     * The number of chunks of the whole message.
+     */
+    public final int totalChunks;
+
+    /**
+     * The sequence number of the first chunk that arrived.
+     */
+    public final long firstSequenceNumber;
+
+    /**
+     * The size of the contents of the chunks that arrived.
+     */
+    public final long contentSize;
+
+    /**
+     * Why the chunks were discarded.
+     */
+    public final Reason reason;
+
+    DroppedTopicMessage(
+            TransactionId transactionId,
+            int receivedChunks,
+            int totalChunks,
+            long firstSequenceNumber,
+            long contentSize,
+            Reason reason) {
+        this.transactionId = transactionId;
+        this.receivedChunks = receivedChunks;
+        this.totalChunks = totalChunks;
+        this.firstSequenceNumber = firstSequenceNumber;
+        this.contentSize = contentSize;
+        this.reason = reason;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("transactionId", transactionId)
+                .add("receivedChunks", receivedChunks)
+                .add("totalChunks", totalChunks)
+                .add("firstSequenceNumber", firstSequenceNumber)
+                .add("contentSize", contentSize)
+                .add("reason", reason)
+                .toString();
+    }
+}
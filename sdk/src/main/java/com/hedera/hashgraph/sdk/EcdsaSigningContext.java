@@ -0,0 +1,84 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import java.math.BigInteger;
+import org.bouncycastle.crypto.digests.KeccakDigest;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.ec.CustomNamedCurves;
+import org.bouncycastle.crypto.params.ECDomainParameters;
+import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
+import org.bouncycastle.crypto.signers.ECDSASigner;
+import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
+import org.bouncycastle.math.ec.FixedPointUtil;
+import org.bouncycastle.util.BigIntegers;
+
+/**
+ * The state an ECDSA(secp256k1) private key signs with, kept with the key so it is set up once instead of for every
+ * signature.
+ * <p>
+ * Signing runs on the secp256k1 implementation with dedicated field arithmetic rather than the generic one of
+ * {@link Key#ECDSA_SECP256K1_DOMAIN}, with the comb table of the generator computed once for all keys. The Keccak
+ * digest is reused per thread, while the signer and its deterministic nonce calculator (RFC 6979) are created for every
+ * signature, as they hold on to the private key and the nonce generator state, which must not stay behind in pooled
+ * threads.
+ * <p>
+ * Safe to use from several threads at once.
+ */
+final class EcdsaSigningContext {
+    /**
+     * The length of a signature, {@code r} then {@code s}.
+     */
+    static final int SIGNATURE_LENGTH = 64;
+
+    private static final ECDomainParameters DOMAIN;
+
+    private static final ThreadLocal<Workspace> WORKSPACE = ThreadLocal.withInitial(Workspace::new);
+
+    static {
+        var curve = CustomNamedCurves.getByName("secp256k1");
+        DOMAIN = new ECDomainParameters(curve.getCurve(), curve.getG(), curve.getN(), curve.getH());
+
+        // Stored with the generator, where every signer's fixed-point multiplier finds it
+        FixedPointUtil.precompute(DOMAIN.getG());
+    }
+
+    private final ECPrivateKeyParameters privateKey;
+
+    /**
+     * Constructor.
+     *
+     * @param keyData the private scalar
+     */
+    EcdsaSigningContext(BigInteger keyData) {
+        this.privateKey = new ECPrivateKeyParameters(keyData, DOMAIN);
+    }
+
+    /**
+     * Sign the Keccak-256 hash of a message.
+     *
+     * @param message         the message
+     * @param signature       the buffer the signature is written to
+     * @param signatureOffset the offset of the signature in the buffer, which the caller checked
+     */
+    void sign(byte[] message, byte[] signature, int signatureOffset) {
+        var workspace = WORKSPACE.get();
+        workspace.digest.update(message, 0, message.length);
+        workspace.digest.doFinal(workspace.hash, 0);
+
+        // Only stores the key; a deterministic signer takes no randomness
+        var signer = new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()));
+        signer.init(true, privateKey);
+        var rs = signer.generateSignature(workspace.hash);
+
+        BigIntegers.asUnsignedByteArray(rs[0], signature, signatureOffset, 32);
+        BigIntegers.asUnsignedByteArray(rs[1], signature, signatureOffset + 32, 32);
+    }
+
+    /**
+     * The reusable objects of one thread.
+     */
+    private static final class Workspace {
+        final KeccakDigest digest = new KeccakDigest(256);
+        final byte[] hash = new byte[32];
+    }
+}
@@ -1,12 +1,11 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.hashgraph.sdk;
 
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.net.http.HttpTimeoutException;
 import java.nio.ByteBuffer;
 import java.time.Duration;
@@ -15,6 +14,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import javax.annotation.Nullable;
 import org.bouncycastle.util.encoders.DecoderException;
@@ -39,6 +39,14 @@ public class EntityIdHelper {
 
     static final Duration MIRROR_NODE_CONNECTION_TIMEOUT = Duration.ofSeconds(30);
 
+    /**
+     * One HTTP client is shared by every mirror node REST request so that connections are pooled (and multiplexed over
+     * HTTP/2) instead of being opened for each request.
+     */
+    private static final class MirrorNodeHttpClientHolder {
+        static final HttpClient INSTANCE = HttpClient.newHttpClient();
+    }
+
     /**
      * Constructor.
      */
@@ -254,18 +262,31 @@ public class EntityIdHelper {
     }
 
     /**
-     * Get AccountId num from mirror node using evm address.
+     * Get AccountId num from mirror node using evm address, consulting the {@link EvmAddressCache} of the client
+     * first.
      *
      * <p>Note: This method requires API level 33 or higher. It will not work on devices running API versions below 33
      * because it uses features introduced in API level 33 (Android 13).</p>*
      *
      * @param client
+     * @param shard      the shard of the account, used to cache the reverse mapping
+     * @param realm      the realm of the account, used to cache the reverse mapping
      * @param evmAddress
      */
-    static CompletableFuture<Long> getAccountNumFromMirrorNodeAsync(Client client, String evmAddress) {
+    static CompletableFuture<Long> getAccountNumFromMirrorNodeAsync(
+            Client client, long shard, long realm, String evmAddress) {
         String apiEndpoint = "/accounts/" + evmAddress;
-        return performQueryToMirrorNodeAsync(client, apiEndpoint, null, false)
-                .thenApply(response -> parseNumFromMirrorNodeResponse(response, "account"));
+        return getNumCachedAsync(
+                client,
+                shard,
+                realm,
+                evmAddress,
+                () -> performQueryToMirrorNodeAsync(
+                        client,
+                        apiEndpoint,
+                        null,
+                        false,
+                        reader -> parseNumFromMirrorNodeResponse(reader, "account")));
     }
 
     /**
@@ -279,8 +300,12 @@ public class EntityIdHelper {
      */
     public static CompletableFuture<EvmAddress> getEvmAddressFromMirrorNodeAsync(Client client, long num) {
         String apiEndpoint = "/accounts/" + num;
-        return performQueryToMirrorNodeAsync(client, apiEndpoint, null, false)
-                .thenApply(response -> EvmAddress.fromString(parseStringMirrorNodeResponse(response, "evm_address")));
+        return performQueryToMirrorNodeAsync(
+                client,
+                apiEndpoint,
+                null,
+                false,
+                reader -> EvmAddress.fromString(parseStringMirrorNodeResponse(reader, "evm_address")));
     }
 
     /**
@@ -295,13 +320,95 @@ public class EntityIdHelper {
     public static CompletableFuture<Long> getContractNumFromMirrorNodeAsync(Client client, String evmAddress) {
         String apiEndpoint = "/contracts/" + evmAddress;
 
-        CompletableFuture<String> responseFuture = performQueryToMirrorNodeAsync(client, apiEndpoint, null, false);
+        return performQueryToMirrorNodeAsync(
+                client, apiEndpoint, null, false, reader -> parseNumFromMirrorNodeResponse(reader, "contract_id"));
+    }
 
-        return responseFuture.thenApply(response -> parseNumFromMirrorNodeResponse(response, "contract_id"));
+    /**
+     * Get ContractId num from mirror node using evm address, consulting the {@link EvmAddressCache} of the client
+     * first.
+     *
+     * @param client
+     * @param shard      the shard of the contract, used to cache the reverse mapping
+     * @param realm      the realm of the contract, used to cache the reverse mapping
+     * @param evmAddress
+     */
+    static CompletableFuture<Long> getContractNumFromMirrorNodeAsync(
+            Client client, long shard, long realm, String evmAddress) {
+        return getNumCachedAsync(
+                client, shard, realm, evmAddress, () -> getContractNumFromMirrorNodeAsync(client, evmAddress));
     }
 
-    static CompletableFuture<String> performQueryToMirrorNodeAsync(
-            Client client, String apiEndpoint, String jsonBody, boolean isContractCall) {
+    /**
+     * Get EvmAddress from mirror node using account num, consulting the {@link EvmAddressCache} of the client first.
+     *
+     * @param client
+     * @param shard
+     * @param realm
+     * @param num
+     */
+    static CompletableFuture<EvmAddress> getEvmAddressFromMirrorNodeAsync(
+            Client client, long shard, long realm, long num) {
+        var cache = client.getEvmAddressCache();
+        if (cache == null) {
+            return getEvmAddressFromMirrorNodeAsync(client, num);
+        }
+
+        var cached = cache.getEvmAddress(shard, realm, num);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        return getEvmAddressFromMirrorNodeAsync(client, num).thenApply(evmAddress -> {
+            if (evmAddress != null) {
+                cache.put(shard, realm, num, evmAddress);
+            }
+            return evmAddress;
+        });
+    }
+
+    private static CompletableFuture<Long> getNumCachedAsync(
+            Client client,
+            long shard,
+            long realm,
+            String evmAddress,
+            Supplier<CompletableFuture<Long>> mirrorNodeQuery) {
+        var cache = client.getEvmAddressCache();
+        if (cache == null) {
+            return mirrorNodeQuery.get();
+        }
+
+        var cached = cache.getNum(shard, realm, evmAddress);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        return mirrorNodeQuery.get().thenApply(num -> {
+            var address = EvmAddress.fromString(evmAddress);
+            if (address != null) {
+                cache.put(shard, realm, num, address);
+            }
+            return num;
+        });
+    }
+
+    /**
+     * Perform a request against the mirror node REST API, parsing the response body as it is streamed in.
+     *
+     * @param client         the client whose mirror network should be queried
+     * @param apiEndpoint    the endpoint, relative to {@code /api/v1}
+     * @param jsonBody       the body to {@code POST}, or {@code null} to {@code GET}
+     * @param isContractCall whether the request goes to the contract call (web3) port on local networks
+     * @param parser         the parser applied to a successful response
+     * @return the parsed value
+     * @param <T> the type of the parsed value
+     */
+    static <T> CompletableFuture<T> performQueryToMirrorNodeAsync(
+            Client client,
+            String apiEndpoint,
+            @Nullable String jsonBody,
+            boolean isContractCall,
+            MirrorNodeJsonBodyHandler.JsonReaderParser<T> parser) {
         Optional<String> mirrorUrl = client.getMirrorNetwork().stream()
                 .map(url -> url.substring(0, url.indexOf(":")))
                 .findFirst();
@@ -320,7 +427,7 @@ public class EntityIdHelper {
             }
         }
 
-        HttpClient httpClient = HttpClient.newHttpClient();
+        HttpClient httpClient = MirrorNodeHttpClientHolder.INSTANCE;
         var httpBuilder =
                 HttpRequest.newBuilder().timeout(MIRROR_NODE_CONNECTION_TIMEOUT).uri(URI.create(apiUrl));
 
@@ -330,7 +437,7 @@ public class EntityIdHelper {
         var httpRequest = httpBuilder.build();
 
         return httpClient
-                .sendAsync(httpRequest, HttpResponse.BodyHandlers.ofString())
+                .sendAsync(httpRequest, new MirrorNodeJsonBodyHandler<>(parser))
                 .handle((response, ex) -> {
                     if (ex != null) {
                         if (ex instanceof HttpTimeoutException) {
@@ -341,23 +448,19 @@ public class EntityIdHelper {
                         }
                     }
 
-                    int statusCode = response.statusCode();
-                    if (statusCode != 200) {
-                        throw new CompletionException(
-                                new RuntimeException("Received non-200 response from Mirror Node: " + response.body()));
-                    }
                     return response.body();
-                });
+                })
+                // The body is read from the response stream here, off the executor of the HTTP client
+                .thenApplyAsync(Supplier::get, client.executor);
     }
 
-    private static String parseStringMirrorNodeResponse(String responseBody, String memberName) {
-        JsonObject jsonObject = JsonParser.parseString(responseBody).getAsJsonObject();
-        String evmAddress = jsonObject.get(memberName).getAsString();
-        return evmAddress.substring(evmAddress.lastIndexOf(".") + 1);
+    private static String parseStringMirrorNodeResponse(JsonReader reader, String memberName) throws IOException {
+        String value = MirrorNodeJsonBodyHandler.readStringMember(reader, memberName);
+        return value.substring(value.lastIndexOf(".") + 1);
     }
 
-    private static long parseNumFromMirrorNodeResponse(String responseBody, String memberName) {
-        return Long.parseLong(parseStringMirrorNodeResponse(responseBody, memberName));
+    private static long parseNumFromMirrorNodeResponse(JsonReader reader, String memberName) throws IOException {
+        return Long.parseLong(parseStringMirrorNodeResponse(reader, memberName));
     }
 
     @FunctionalInterface
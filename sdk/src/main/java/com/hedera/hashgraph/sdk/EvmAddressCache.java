@@ -0,0 +1,238 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.Nullable;
+
+/**
+ * A bounded, thread safe, two-way cache between entity IDs ({@link AccountId} and {@link ContractId}) and their
+ * {@link EvmAddress}.
+ * <p>
+ * Once an entity has an EVM address the mapping never changes, so the SDK consults this cache before asking the mirror
+ * node and stores every answer it receives. Clients do not cache by default; set a cache with
+ * {@link Client#setEvmAddressCache(EvmAddressCache)}. Both directions are kept per shard and realm, so one cache may
+ * serve entities of several shards and realms.
+ * <p>
+ * The cache can be prefilled in bulk with {@link #putAccounts(Map)} and {@link #putContracts(Map)}, and persisted to a
+ * local file with {@link #saveTo(Path)} / {@link #loadFrom(Path)} to keep it warm across restarts.
+ */
+public final class EvmAddressCache {
+    /**
+     * The default maximum number of mappings kept.
+     */
+    public static final long DEFAULT_MAXIMUM_SIZE = 100_000;
+
+    // Keyed by `shard.realm.num`
+    private final Cache<String, EvmAddress> evmAddressByEntity;
+
+    // Keyed by `shard.realm.` and the lowercase hex of the address, without `0x`
+    private final Cache<String, Long> numByEvmAddress;
+
+    /**
+     * Create a cache holding at most {@link #DEFAULT_MAXIMUM_SIZE} mappings.
+     */
+    public EvmAddressCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Create a cache holding at most {@code maximumSize} mappings. The least recently used mappings are evicted first.
+     *
+     * @param maximumSize the maximum number of mappings
+     */
+    public EvmAddressCache(long maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be greater than zero");
+        }
+
+        this.evmAddressByEntity = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+        this.numByEvmAddress = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+    }
+
+    private static String entityKey(long shard, long realm, long num) {
+        return EntityIdHelper.toString(shard, realm, num);
+    }
+
+    private static String evmAddressKey(long shard, long realm, String evmAddress) {
+        var hex = (evmAddress.startsWith("0x") ? evmAddress.substring(2) : evmAddress).toLowerCase(Locale.ROOT);
+        return shard + "." + realm + "." + hex;
+    }
+
+    /**
+     * Store the mapping between an entity and its EVM address, in both directions.
+     *
+     * @param shard      the shard number of the entity
+     * @param realm      the realm number of the entity
+     * @param num        the entity number
+     * @param evmAddress the EVM address of the entity
+     * @return {@code this}
+     */
+    public EvmAddressCache put(long shard, long realm, long num, EvmAddress evmAddress) {
+        Objects.requireNonNull(evmAddress);
+
+        evmAddressByEntity.put(entityKey(shard, realm, num), evmAddress);
+        numByEvmAddress.put(evmAddressKey(shard, realm, evmAddress.toString()), num);
+        return this;
+    }
+
+    /**
+     * Store the mapping between an account and its EVM address.
+     *
+     * @param accountId  the account
+     * @param evmAddress the EVM address of the account
+     * @return {@code this}
+     */
+    public EvmAddressCache put(AccountId accountId, EvmAddress evmAddress) {
+        return put(accountId.shard, accountId.realm, accountId.num, evmAddress);
+    }
+
+    /**
+     * Store the mapping between a contract and its EVM address.
+     *
+     * @param contractId the contract
+     * @param evmAddress the EVM address of the contract
+     * @return {@code this}
+     */
+    public EvmAddressCache put(ContractId contractId, EvmAddress evmAddress) {
+        return put(contractId.shard, contractId.realm, contractId.num, evmAddress);
+    }
+
+    /**
+     * Prefill the cache with many accounts at once.
+     *
+     * @param evmAddresses the EVM address of each account
+     * @return {@code this}
+     */
+    public EvmAddressCache putAccounts(Map<AccountId, EvmAddress> evmAddresses) {
+        evmAddresses.forEach(this::put);
+        return this;
+    }
+
+    /**
+     * Prefill the cache with many contracts at once.
+     *
+     * @param evmAddresses the EVM address of each contract
+     * @return {@code this}
+     */
+    public EvmAddressCache putContracts(Map<ContractId, EvmAddress> evmAddresses) {
+        evmAddresses.forEach(this::put);
+        return this;
+    }
+
+    /**
+     * Look up the EVM address of an entity.
+     *
+     * @param shard the shard number of the entity
+     * @param realm the realm number of the entity
+     * @param num   the entity number
+     * @return the EVM address, or {@code null} if it is not cached
+     */
+    @Nullable
+    public EvmAddress getEvmAddress(long shard, long realm, long num) {
+        return evmAddressByEntity.getIfPresent(entityKey(shard, realm, num));
+    }
+
+    /**
+     * Look up the entity number behind an EVM address in a shard and realm.
+     *
+     * @param shard      the shard number of the entity
+     * @param realm      the realm number of the entity
+     * @param evmAddress the EVM address
+     * @return the entity number, or {@code null} if it is not cached
+     */
+    @Nullable
+    public Long getNum(long shard, long realm, EvmAddress evmAddress) {
+        return getNum(shard, realm, evmAddress.toString());
+    }
+
+    @Nullable
+    Long getNum(long shard, long realm, String evmAddress) {
+        return numByEvmAddress.getIfPresent(evmAddressKey(shard, realm, evmAddress));
+    }
+
+    /**
+     * The number of entities currently cached.
+     *
+     * @return the number of entities
+     */
+    public long size() {
+        return evmAddressByEntity.size();
+    }
+
+    /**
+     * Remove every mapping.
+     */
+    public void clear() {
+        evmAddressByEntity.invalidateAll();
+        numByEvmAddress.invalidateAll();
+    }
+
+    /**
+     * Write every mapping to a file, one {@code shard.realm.num evmAddress} pair per line.
+     * <p>
+     * The file is written next to its destination first and then moved into place, so a crash never leaves a
+     * truncated file behind.
+     *
+     * @param path the file to write
+     * @throws IOException if the file could not be written
+     */
+    public void saveTo(Path path) throws IOException {
+        var lines = new ArrayList<String>((int) evmAddressByEntity.size());
+        evmAddressByEntity.asMap().forEach((entity, evmAddress) -> lines.add(entity + " " + evmAddress));
+
+        // Resolved against the working directory, so a bare file name still gets its temporary file next to it
+        var absolutePath = path.toAbsolutePath();
+        var directory = absolutePath.toAbsolutePath().getParent();
+        if (directory == null) {
+            throw new IOException("cannot write the EVM address cache to " + absolutePath);
+        }
+        var tempFile = Files.createTempFile(directory, absolutePath.getFileName().toString(), ".tmp");
+        try {
+            Files.write(tempFile, lines, StandardCharsets.UTF_8);
+            Files.move(tempFile, absolutePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Load mappings previously written by {@link #saveTo(Path)} into this cache. A missing file is ignored so that the
+     * first start of a service does not need special handling.
+     *
+     * @param path the file to read
+     * @return {@code this}
+     * @throws IOException if the file exists but could not be read or is malformed
+     */
+    public EvmAddressCache loadFrom(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return this;
+        }
+
+        for (var line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+
+            var parts = line.trim().split(" ");
+            var evmAddress = parts.length == 2 ? EvmAddress.fromString(parts[1]) : null;
+            if (evmAddress == null) {
+                throw new IOException("malformed EVM address cache entry: " + line);
+            }
+
+            // Accounts and contracts share one entity number space, either type parses the same
+            put(AccountId.fromString(parts[0]), evmAddress);
+        }
+
+        return this;
+    }
+}
@@ -0,0 +1,215 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link TopicCheckpointStore} that keeps the checkpoints of all topics in one local file.
+ * <p>
+ * Saved checkpoints are only kept in memory and written out together, when {@code maxBatchSize} of them have
+ * accumulated or {@code maxDelay} after the first unwritten one, whichever comes first. Every write replaces the file
+ * atomically after syncing it to disk, so a crash loses at most the checkpoints of the last batch and never corrupts
+ * the file. The subscription then resumes from the previous checkpoint and the messages of the lost batch are
+ * delivered again.
+ * <p>
+ * The file has one line per topic: {@code <topic> <seconds>.<nanos> <sequenceNumber>}. Only one store should use a file
+ * at a time. {@link #close()} writes the remaining checkpoints.
+ */
+public final class FileTopicCheckpointStore implements TopicCheckpointStore, Closeable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileTopicCheckpointStore.class);
+
+    /**
+     * The default number of saved checkpoints that triggers a write.
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 1_000;
+
+    /**
+     * The default longest time a saved checkpoint waits to be written.
+     */
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofMillis(200);
+
+    private final Path path;
+    private final int maxBatchSize;
+    private final Duration maxDelay;
+    private final ConcurrentHashMap<TopicId, TopicCheckpoint> checkpoints = new ConcurrentHashMap<>();
+    private final AtomicInteger unwritten = new AtomicInteger();
+    private final AtomicBoolean writeScheduled = new AtomicBoolean();
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "topic-checkpoint-writer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /**
+     * Open a store with the default batching.
+     *
+     * @param path the file of the store, created on the first write
+     * @throws IOException if the file exists but could not be read or is malformed
+     */
+    public FileTopicCheckpointStore(Path path) throws IOException {
+        this(path, DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_DELAY);
+    }
+
+    /**
+     * Open a store.
+     *
+     * @param path         the file of the store, created on the first write
+     * @param maxBatchSize the number of saved checkpoints that triggers a write
+     * @param maxDelay     the longest time a saved checkpoint waits to be written
+     * @throws IOException if the file exists but could not be read or is malformed
+     */
+    public FileTopicCheckpointStore(Path path, int maxBatchSize, Duration maxDelay) throws IOException {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize must be greater than zero");
+        }
+        if (maxDelay.isNegative() || maxDelay.isZero()) {
+            throw new IllegalArgumentException("maxDelay must be positive");
+        }
+
+        this.path = path.toAbsolutePath();
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelay = maxDelay;
+
+        read();
+    }
+
+    private void read() throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+
+        for (var line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+
+            var parts = line.trim().split(" ");
+            try {
+                if (parts.length != 3) {
+                    throw new IllegalArgumentException("expected 3 fields");
+                }
+                checkpoints.put(
+                        TopicId.fromString(parts[0]),
+                        new TopicCheckpoint(InstantConverter.fromString(parts[1]), Long.parseLong(parts[2])));
+            } catch (RuntimeException e) {
+                throw new IOException("malformed topic checkpoint: " + line, e);
+            }
+        }
+    }
+
+    @Nullable
+    @Override
+    public TopicCheckpoint load(TopicId topicId) {
+        return checkpoints.get(topicId);
+    }
+
+    @Override
+    public void save(TopicId topicId, TopicCheckpoint checkpoint) {
+        checkpoints.put(Objects.requireNonNull(topicId), Objects.requireNonNull(checkpoint));
+
+        // Lock-free on the delivering thread, the writer thread does the rest
+        if (unwritten.incrementAndGet() == maxBatchSize) {
+            scheduleWrite(0);
+        } else if (writeScheduled.compareAndSet(false, true)) {
+            scheduleWrite(maxDelay.toNanos());
+        }
+    }
+
+    private void scheduleWrite(long delayNanos) {
+        if (!writer.isShutdown()) {
+            writer.schedule(this::writeInBackground, delayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void writeInBackground() {
+        try {
+            flush();
+        } catch (IOException e) {
+            LOGGER.error("Failed to write topic checkpoints to {}, retrying in {}", path, maxDelay, e);
+        }
+    }
+
+    /**
+     * Write every saved checkpoint to the file now.
+     *
+     * @throws IOException if the file could not be written
+     */
+    @Override
+    public synchronized void flush() throws IOException {
+        writeScheduled.set(false);
+        if (unwritten.getAndSet(0) == 0) {
+            return;
+        }
+
+        // Sorted, to keep the file stable for humans and diffs
+        var content = new StringBuilder();
+        for (Map.Entry<TopicId, TopicCheckpoint> entry : new TreeMap<>(checkpoints).entrySet()) {
+            var resumeAfter = entry.getValue().resumeAfter;
+            content.append(entry.getKey())
+                    .append(' ')
+                    .append(resumeAfter.getEpochSecond())
+                    .append('.')
+                    .append(String.format(Locale.ROOT, "%09d", resumeAfter.getNano()))
+                    .append(' ')
+                    .append(entry.getValue().sequenceNumber)
+                    .append('\n');
+        }
+
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+            try (var channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                var bytes = ByteBuffer.wrap(content.toString().getBytes(StandardCharsets.UTF_8));
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+                channel.force(true);
+            }
+            Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // Try again later even if nothing else is saved, so the last checkpoints before a quiet period are not lost
+            unwritten.addAndGet(1);
+            if (writeScheduled.compareAndSet(false, true)) {
+                scheduleWrite(maxDelay.toNanos());
+            }
+            throw e;
+        } finally {
+            if (tempFile != null) {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+    }
+
+    /**
+     * Write the remaining checkpoints and stop the background writer.
+     *
+     * @throws IOException if the file could not be written
+     */
+    @Override
+    public void close() throws IOException {
+        writer.shutdownNow();
+        flush();
+    }
+}
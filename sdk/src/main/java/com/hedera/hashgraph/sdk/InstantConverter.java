@@ -35,6 +35,23 @@ final class InstantConverter {
         return Instant.ofEpochSecond(timestampSeconds.getSeconds());
     }
 
+    /**
+     * Create an instance from a timestamp string, {@code <seconds>.<nanoseconds>} or {@code <seconds>}, as the mirror
+     * node REST API writes them.
+     *
+     * @param timestamp                 the string
+     * @return                          the instance
+     * @throws NumberFormatException    if the string is not a timestamp
+     */
+    static Instant fromString(String timestamp) {
+        var dot = timestamp.indexOf('.');
+        if (dot < 0) {
+            return Instant.ofEpochSecond(Long.parseLong(timestamp));
+        }
+        return Instant.ofEpochSecond(
+                Long.parseLong(timestamp, 0, dot, 10), Long.parseLong(timestamp, dot + 1, timestamp.length(), 10));
+    }
+
     /**
      * Convert an instance into a timestamp.
      *
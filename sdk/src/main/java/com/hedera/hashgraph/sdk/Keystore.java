@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.hashgraph.sdk;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.Gson;
 import com.google.gson.JsonIOException;
 import com.google.gson.JsonObject;
@@ -14,8 +15,16 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import javax.annotation.Nullable;
 import org.bouncycastle.crypto.params.KeyParameter;
 import org.bouncycastle.util.encoders.Hex;
 
@@ -37,11 +46,25 @@ final class Keystore {
     }
 
     public static Keystore fromStream(InputStream stream, String passphrase) throws IOException {
+        return fromStream(stream, passphrase, null);
+    }
+
+    /**
+     * Decrypt a keystore, taking the key derived from the passphrase from a cache when it holds it.
+     *
+     * @param stream     the keystore
+     * @param passphrase the passphrase
+     * @param cache      the cache of derived keys, or {@code null} to derive the key
+     * @return the keystore
+     * @throws IOException if reading the stream fails
+     */
+    public static Keystore fromStream(InputStream stream, String passphrase, @Nullable DerivedKeyCache cache)
+            throws IOException {
         try {
             JsonObject jsonObject = jsonParser
                     .parse(new InputStreamReader(stream, StandardCharsets.UTF_8))
                     .getAsJsonObject();
-            return fromJson(jsonObject, passphrase);
+            return fromJson(jsonObject, passphrase, cache);
         } catch (IllegalStateException e) {
             throw new BadKeyException(Optional.ofNullable(e.getMessage()).orElse("failed to parse Keystore"));
         } catch (JsonIOException e) {
@@ -54,21 +77,113 @@ final class Keystore {
         }
     }
 
-    private static Keystore fromJson(JsonObject object, String passphrase) {
+    /**
+     * Decrypt a keystore on an executor, as the key derivation takes a long time by design.
+     *
+     * @param stream     the keystore
+     * @param passphrase the passphrase
+     * @param executor   the executor to decrypt on
+     * @param cache      the cache of derived keys, or {@code null} to derive the key
+     * @return a future completing with the keystore, or exceptionally with an {@link IOException} or a
+     *         {@link BadKeyException}
+     */
+    public static CompletableFuture<Keystore> fromStreamAsync(
+            InputStream stream, String passphrase, Executor executor, @Nullable DerivedKeyCache cache) {
+        Objects.requireNonNull(stream, "stream must not be null");
+        Objects.requireNonNull(passphrase, "passphrase must not be null");
+        Objects.requireNonNull(executor, "executor must not be null");
+
+        return CompletableFuture.supplyAsync(
+                () -> {
+                    try {
+                        return fromStream(stream, passphrase, cache);
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                },
+                executor);
+    }
+
+    /**
+     * Decrypt many keystores in parallel, on a pool of at most {@code parallelism} threads that lives as long as the
+     * call.
+     *
+     * @param streams     the keystores
+     * @param passphrases the passphrase of each keystore
+     * @param parallelism the maximum number of keystores decrypted at once
+     * @param cache       the cache of derived keys, or {@code null} to derive every key
+     * @return the keystores, in order
+     * @throws IOException if reading a stream fails
+     */
+    public static List<Keystore> fromStreams(
+            List<? extends InputStream> streams,
+            List<String> passphrases,
+            int parallelism,
+            @Nullable DerivedKeyCache cache)
+            throws IOException {
+        Objects.requireNonNull(streams, "streams must not be null");
+        Objects.requireNonNull(passphrases, "passphrases must not be null");
+        if (streams.size() != passphrases.size()) {
+            throw new IllegalArgumentException("streams and passphrases must have the same size");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be greater than zero");
+        }
+        if (streams.isEmpty()) {
+            return List.of();
+        }
+
+        var threadFactory = new ThreadFactoryBuilder()
+                .setNameFormat("hedera-sdk-keystore-%d")
+                .setDaemon(true)
+                .build();
+        var executor = Executors.newFixedThreadPool(Math.min(parallelism, streams.size()), threadFactory);
+
+        try {
+            var futures = new ArrayList<CompletableFuture<Keystore>>(streams.size());
+            for (int i = 0; i < streams.size(); i++) {
+                futures.add(fromStreamAsync(streams.get(i), passphrases.get(i), executor, cache));
+            }
+
+            var keystores = new ArrayList<Keystore>(futures.size());
+            for (var future : futures) {
+                try {
+                    keystores.add(future.join());
+                } catch (CompletionException e) {
+                    var cause = e.getCause();
+                    if (cause instanceof IOException ioException) {
+                        throw ioException;
+                    } else if (cause instanceof RuntimeException runtimeException) {
+                        throw runtimeException;
+                    } else if (cause instanceof Error error) {
+                        throw error;
+                    }
+                    throw e;
+                }
+            }
+
+            return keystores;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Keystore fromJson(JsonObject object, String passphrase, @Nullable DerivedKeyCache cache) {
         int version = expectInt(object, "version");
 
         //noinspection SwitchStatementWithTooFewBranches
         switch (version) {
             case 1:
-                return parseKeystoreV1(expectObject(object, "crypto"), passphrase);
+                return parseKeystoreV1(expectObject(object, "crypto"), passphrase, cache);
             case 2:
-                return parseKeystoreV2(expectObject(object, "crypto"), passphrase);
+                return parseKeystoreV2(expectObject(object, "crypto"), passphrase, cache);
             default:
                 throw new BadKeyException("unsupported keystore version: " + version);
         }
     }
 
-    private static Keystore parseKeystoreV1(JsonObject crypto, String passphrase) {
+    private static Keystore parseKeystoreV1(
+            JsonObject crypto, String passphrase, @Nullable DerivedKeyCache cache) {
         String ciphertext = expectString(crypto, "ciphertext");
         String ivString = expectString(expectObject(crypto, "cipherparams"), "iv");
         String cipher = expectString(crypto, "cipher");
@@ -98,18 +213,25 @@ final class Keystore {
         byte[] mac = Hex.decode(macString);
         byte[] salt = Hex.decode(saltStr);
 
-        KeyParameter cipherKey = Crypto.deriveKeySha256(passphrase, salt, count, dkLen);
+        KeyParameter cipherKey = cache != null
+                ? cache.deriveKeySha256(passphrase, salt, count, dkLen)
+                : Crypto.deriveKeySha256(passphrase, salt, count, dkLen);
+
+        try {
+            byte[] testHmac = Crypto.calcHmacSha384(cipherKey, null, cipherBytes);
 
-        byte[] testHmac = Crypto.calcHmacSha384(cipherKey, null, cipherBytes);
+            if (!MessageDigest.isEqual(mac, testHmac)) {
+                throw new BadKeyException("HMAC mismatch; passphrase is incorrect");
+            }
 
-        if (!MessageDigest.isEqual(mac, testHmac)) {
-            throw new BadKeyException("HMAC mismatch; passphrase is incorrect");
+            return new Keystore(Crypto.decryptAesCtr128(cipherKey, iv, cipherBytes));
+        } finally {
+            Arrays.fill(cipherKey.getKey(), (byte) 0);
         }
-
-        return new Keystore(Crypto.decryptAesCtr128(cipherKey, iv, cipherBytes));
     }
 
-    private static Keystore parseKeystoreV2(JsonObject crypto, String passphrase) {
+    private static Keystore parseKeystoreV2(
+            JsonObject crypto, String passphrase, @Nullable DerivedKeyCache cache) {
         String ciphertext = expectString(crypto, "ciphertext");
         String ivString = expectString(expectObject(crypto, "cipherparams"), "iv");
         String cipher = expectString(crypto, "cipher");
@@ -139,15 +261,21 @@ final class Keystore {
         byte[] mac = Hex.decode(macString);
         byte[] salt = Hex.decode(saltStr);
 
-        KeyParameter cipherKey = Crypto.deriveKeySha256(passphrase, salt, count, dkLen);
+        KeyParameter cipherKey = cache != null
+                ? cache.deriveKeySha256(passphrase, salt, count, dkLen)
+                : Crypto.deriveKeySha256(passphrase, salt, count, dkLen);
 
-        byte[] testHmac = Crypto.calcHmacSha384(cipherKey, iv, cipherBytes);
+        try {
+            byte[] testHmac = Crypto.calcHmacSha384(cipherKey, iv, cipherBytes);
 
-        if (!MessageDigest.isEqual(mac, testHmac)) {
-            throw new BadKeyException("HMAC mismatch; passphrase is incorrect");
-        }
+            if (!MessageDigest.isEqual(mac, testHmac)) {
+                throw new BadKeyException("HMAC mismatch; passphrase is incorrect");
+            }
 
-        return new Keystore(Crypto.decryptAesCtr128(cipherKey, iv, cipherBytes));
+            return new Keystore(Crypto.decryptAesCtr128(cipherKey, iv, cipherBytes));
+        } finally {
+            Arrays.fill(cipherKey.getKey(), (byte) 0);
+        }
     }
 
     private static JsonObject expectObject(JsonObject object, String key) {
@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeoutException;
+import javax.annotation.Nullable;
 
 /**
  * Utility class.
@@ -104,6 +105,48 @@ class MirrorNetwork extends BaseNetwork<MirrorNetwork, BaseNodeAddress, MirrorNo
      * @throws InterruptedException when a thread is interrupted while it's waiting, sleeping, or otherwise occupied
      */
     synchronized MirrorNode getNextMirrorNode() throws InterruptedException {
-        return getNumberOfMostHealthyNodes(1).get(0);
+        return getNextMirrorNode(null);
+    }
+
+    /**
+     * Extract the next healthy mirror node, preferring nodes whose streams fail less and start faster.
+     * <p>
+     * Of two random healthy nodes the one with the better {@link MirrorNodeHealth#score() score} is chosen, which
+     * steers streams away from unhealthy nodes while still spreading them over the healthy ones.
+     *
+     * @param avoid the node to avoid if there is another healthy node, such as the node of a failed stream
+     * @return the mirror node
+     * @throws InterruptedException when a thread is interrupted while it's waiting, sleeping, or otherwise occupied
+     */
+    synchronized MirrorNode getNextMirrorNode(@Nullable MirrorNode avoid) throws InterruptedException {
+        readmitNodes();
+        removeDeadNodes();
+
+        var candidates = healthyNodes;
+        if (avoid != null && healthyNodes.size() > 1) {
+            candidates = new ArrayList<>(healthyNodes);
+            candidates.remove(avoid);
+        }
+
+        if (candidates.isEmpty()) {
+            throw new IllegalStateException("No healthy node was found");
+        }
+
+        var first = candidates.get(random.nextInt(candidates.size()));
+        var second = candidates.get(random.nextInt(candidates.size()));
+        return second.health.score() < first.health.score() ? second : first;
+    }
+
+    /**
+     * Take a snapshot of the health of each mirror node.
+     *
+     * @return the snapshots
+     */
+    synchronized List<MirrorNodeStats> getStats() {
+        List<MirrorNodeStats> stats = new ArrayList<>(nodes.size());
+        for (var node : nodes) {
+            stats.add(node.health.toStats(node.address.toString()));
+        }
+        return stats;
     }
 }
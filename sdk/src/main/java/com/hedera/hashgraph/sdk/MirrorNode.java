@@ -7,6 +7,11 @@ import java.util.concurrent.ExecutorService;
  * An individual mirror node.
  */
 class MirrorNode extends BaseNode<MirrorNode, BaseNodeAddress> {
+    /**
+     * The health of the streams to this node.
+     */
+    final MirrorNodeHealth health = new MirrorNodeHealth();
+
     /**
      * Constructor.
      *
@@ -0,0 +1,298 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.base.MoreObjects;
+import com.google.protobuf.ByteString;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+
+/**
+ * Executes many {@link MirrorNodeContractCallQuery} calls against the mirror node at once, for example the same getter
+ * across many contracts or one function with many different arguments.
+ * <p>
+ * Identical calls are sent only once, at most {@link #setMaxConcurrency(int) maxConcurrency} requests are in flight at
+ * a time, and all requests share the pooled HTTP connection to the mirror node. Results are returned in the order the
+ * calls were added, and a failing call does not fail the others.
+ */
+public final class MirrorNodeContractCallBatch {
+    /**
+     * The default maximum number of requests in flight at once.
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 16;
+
+    private final List<MirrorNodeContractCallQuery> calls = new ArrayList<>();
+    private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+
+    /**
+     * Add a fully configured call.
+     *
+     * @param query the call
+     * @return {@code this}
+     */
+    public MirrorNodeContractCallBatch addCall(MirrorNodeContractCallQuery query) {
+        calls.add(Objects.requireNonNull(query));
+        return this;
+    }
+
+    /**
+     * Add a call of a function with pre-encoded parameters.
+     *
+     * @param contractId the contract to call
+     * @param callData   the encoded function selector and parameters
+     * @return {@code this}
+     */
+    public MirrorNodeContractCallBatch addCall(ContractId contractId, ByteString callData) {
+        return addCall(new MirrorNodeContractCallQuery().setContractId(contractId).setFunctionParameters(callData));
+    }
+
+    /**
+     * Add a call of a function with pre-encoded parameters.
+     *
+     * @param contractEvmAddress the 20-byte EVM address of the contract to call
+     * @param callData           the encoded function selector and parameters
+     * @return {@code this}
+     */
+    public MirrorNodeContractCallBatch addCall(String contractEvmAddress, ByteString callData) {
+        return addCall(new MirrorNodeContractCallQuery()
+                .setContractEvmAddress(contractEvmAddress)
+                .setFunctionParameters(callData));
+    }
+
+    /**
+     * The calls in this batch, in order.
+     *
+     * @return the calls
+     */
+    public List<MirrorNodeContractCallQuery> getCalls() {
+        return Collections.unmodifiableList(calls);
+    }
+
+    /**
+     * The maximum number of requests in flight at once.
+     *
+     * @return the maximum number of requests
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Set the maximum number of requests in flight at once.
+     *
+     * @param maxConcurrency the maximum number of requests
+     * @return {@code this}
+     */
+    public MirrorNodeContractCallBatch setMaxConcurrency(int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be greater than zero");
+        }
+
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    /**
+     * Execute every call and wait for all of them to finish.
+     *
+     * @param client the client to execute the calls with
+     * @return one result per call, in the order the calls were added
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public List<Result> execute(Client client) throws InterruptedException {
+        try {
+            return executeAsync(client).get();
+        } catch (ExecutionException e) {
+            // Failures are reported per call, the batch itself only fails on programming errors
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Execute every call.
+     *
+     * @param client the client to execute the calls with
+     * @return one result per call, in the order the calls were added
+     */
+    public CompletableFuture<List<Result>> executeAsync(Client client) {
+        Objects.requireNonNull(client);
+
+        var unique = new ArrayList<MirrorNodeContractCallQuery>();
+        var uniqueIndexOfCall = new int[calls.size()];
+        var uniqueIndexOfKey = new HashMap<MirrorNodeContractCallCache.Key, Integer>();
+        var invalid = new HashMap<Integer, Throwable>();
+
+        for (int i = 0; i < calls.size(); i++) {
+            var call = calls.get(i);
+            MirrorNodeContractCallCache.Key key;
+            try {
+                key = call.callKey(client);
+            } catch (RuntimeException e) {
+                invalid.put(i, e);
+                uniqueIndexOfCall[i] = -1;
+                continue;
+            }
+
+            var index = uniqueIndexOfKey.get(key);
+            if (index == null) {
+                index = unique.size();
+                uniqueIndexOfKey.put(key, index);
+                unique.add(call);
+            }
+            uniqueIndexOfCall[i] = index;
+        }
+
+        return new Execution(client, unique, maxConcurrency).start().thenApply(uniqueResults -> {
+            var results = new ArrayList<Result>(calls.size());
+            for (int i = 0; i < calls.size(); i++) {
+                var index = uniqueIndexOfCall[i];
+                results.add(index < 0 ? new Result(null, invalid.get(i)) : uniqueResults[index]);
+            }
+            return results;
+        });
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("calls", calls.size())
+                .add("maxConcurrency", maxConcurrency)
+                .toString();
+    }
+
+    /**
+     * Runs the unique calls of a batch, keeping at most {@code maxConcurrency} of them in flight.
+     */
+    private static final class Execution {
+        private final Client client;
+        private final List<MirrorNodeContractCallQuery> calls;
+        private final Result[] results;
+        private final AtomicInteger nextCall = new AtomicInteger();
+        private final AtomicInteger activeLanes;
+        private final CompletableFuture<Result[]> future = new CompletableFuture<>();
+
+        Execution(Client client, List<MirrorNodeContractCallQuery> calls, int maxConcurrency) {
+            this.client = client;
+            this.calls = calls;
+            this.results = new Result[calls.size()];
+            this.activeLanes = new AtomicInteger(Math.min(maxConcurrency, calls.size()));
+        }
+
+        CompletableFuture<Result[]> start() {
+            int lanes = activeLanes.get();
+            if (lanes == 0) {
+                future.complete(results);
+            }
+
+            for (int i = 0; i < lanes; i++) {
+                runLane();
+            }
+
+            return future;
+        }
+
+        /**
+         * Take calls off the shared counter until one has to wait for the network, then continue from its completion.
+         * Calls that complete immediately (e.g. from the result cache) are handled in the loop to keep the stack flat.
+         */
+        private void runLane() {
+            int index;
+            while ((index = nextCall.getAndIncrement()) < calls.size()) {
+                CompletableFuture<String> call;
+                try {
+                    call = calls.get(index).callAsync(client);
+                } catch (RuntimeException e) {
+                    call = CompletableFuture.failedFuture(e);
+                }
+
+                int current = index;
+                if (call.isDone()) {
+                    // Runs synchronously on this thread
+                    call.whenComplete((result, error) -> record(current, result, error));
+                    continue;
+                }
+
+                call.whenComplete((result, error) -> {
+                    record(current, result, error);
+                    runLane();
+                });
+                return;
+            }
+
+            if (activeLanes.decrementAndGet() == 0) {
+                future.complete(results);
+            }
+        }
+
+        private void record(int index, @Nullable String result, @Nullable Throwable error) {
+            if (error instanceof CompletionException && error.getCause() != null) {
+                error = error.getCause();
+            }
+            results[index] = new Result(error == null ? result : null, error);
+        }
+    }
+
+    /**
+     * The outcome of a single call in a batch: either a result or the error that prevented it.
+     */
+    public static final class Result {
+        @Nullable
+        private final String result;
+
+        @Nullable
+        private final Throwable error;
+
+        Result(@Nullable String result, @Nullable Throwable error) {
+            this.result = result;
+            this.error = error;
+        }
+
+        /**
+         * Whether the call succeeded.
+         *
+         * @return {@code true} if the call returned a result
+         */
+        public boolean isSuccess() {
+            return error == null;
+        }
+
+        /**
+         * The result of the call in hexadecimal string format, as returned by
+         * {@link MirrorNodeContractCallQuery#execute(Client)}.
+         *
+         * @return the result
+         * @throws IllegalStateException if the call failed, with the error as cause
+         */
+        public String getResult() {
+            if (error != null) {
+                throw new IllegalStateException("contract call failed", error);
+            }
+            return Objects.requireNonNull(result);
+        }
+
+        /**
+         * The error that prevented the call.
+         *
+         * @return the error, or {@code null} if the call succeeded
+         */
+        @Nullable
+        public Throwable getError() {
+            return error;
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                    .add("result", result)
+                    .add("error", error)
+                    .toString();
+        }
+    }
+}
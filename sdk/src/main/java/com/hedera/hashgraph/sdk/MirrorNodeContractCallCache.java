@@ -0,0 +1,222 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+
+/**
+ * An optional cache for the results of {@link MirrorNodeContractCallQuery} and
+ * {@link MirrorNodeContractEstimateGasQuery}.
+ * <p>
+ * Results are keyed by contract address, sender, the Keccak-256 hash of the call data, value, gas limit, gas price and
+ * block number. A call pinned to a block with {@link MirrorNodeContractQuery#setBlockNumber(long)} is deterministic, so
+ * its result is kept until it is evicted for space. A call against the latest block is only kept for a short time to
+ * let bursts of identical calls share one request.
+ * <p>
+ * Pinned and latest results are each bounded to {@code maximumSize} entries, evicting the least recently used first.
+ * Install a cache with {@link Client#setMirrorNodeContractCallCache(MirrorNodeContractCallCache)}.
+ */
+public final class MirrorNodeContractCallCache {
+    /**
+     * The default maximum number of pinned, and of latest, results kept.
+     */
+    public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    /**
+     * The default time results against the latest block are kept.
+     */
+    public static final Duration DEFAULT_LATEST_BLOCK_TTL = Duration.ofSeconds(2);
+
+    private final Cache<Key, String> pinnedResults;
+    private final Cache<Key, String> latestResults;
+
+    /**
+     * Create a cache with {@link #DEFAULT_MAXIMUM_SIZE} and {@link #DEFAULT_LATEST_BLOCK_TTL}.
+     */
+    public MirrorNodeContractCallCache() {
+        this(DEFAULT_MAXIMUM_SIZE, DEFAULT_LATEST_BLOCK_TTL);
+    }
+
+    /**
+     * Create a cache.
+     *
+     * @param maximumSize    the maximum number of pinned, and of latest, results kept
+     * @param latestBlockTtl how long results against the latest block are kept; {@link Duration#ZERO} disables
+     *                       caching them
+     */
+    public MirrorNodeContractCallCache(long maximumSize, Duration latestBlockTtl) {
+        Objects.requireNonNull(latestBlockTtl);
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be greater than zero");
+        }
+        if (latestBlockTtl.isNegative()) {
+            throw new IllegalArgumentException("latestBlockTtl must not be negative");
+        }
+
+        this.pinnedResults =
+                CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+        this.latestResults = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(latestBlockTtl.toNanos(), TimeUnit.NANOSECONDS)
+                .recordStats()
+                .build();
+    }
+
+    private Cache<Key, String> cacheFor(Key key) {
+        return key.blockNumber == 0 ? latestResults : pinnedResults;
+    }
+
+    @Nullable
+    String get(Key key) {
+        return cacheFor(key).getIfPresent(key);
+    }
+
+    void put(Key key, String result) {
+        cacheFor(key).put(key, result);
+    }
+
+    /**
+     * The number of lookups that were answered from the cache.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return pinnedResults.stats().hitCount() + latestResults.stats().hitCount();
+    }
+
+    /**
+     * The number of lookups that had to go to the mirror node.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return pinnedResults.stats().missCount() + latestResults.stats().missCount();
+    }
+
+    /**
+     * The ratio of lookups answered from the cache, or {@code 1.0} if there were no lookups yet.
+     *
+     * @return the hit rate
+     */
+    public double getHitRate() {
+        return pinnedResults.stats().plus(latestResults.stats()).hitRate();
+    }
+
+    /**
+     * The number of results evicted for space or because they expired.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return pinnedResults.stats().evictionCount() + latestResults.stats().evictionCount();
+    }
+
+    /**
+     * The number of results currently cached.
+     *
+     * @return the number of results
+     */
+    public long size() {
+        return pinnedResults.size() + latestResults.size();
+    }
+
+    /**
+     * Remove every result.
+     */
+    public void clear() {
+        pinnedResults.invalidateAll();
+        latestResults.invalidateAll();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("size", size())
+                .add("hitCount", getHitCount())
+                .add("missCount", getMissCount())
+                .add("evictionCount", getEvictionCount())
+                .toString();
+    }
+
+    /**
+     * Identifies one mirror node contract call.
+     */
+    static final class Key {
+        private final String contractAddress;
+
+        @Nullable
+        private final String senderAddress;
+
+        private final byte[] callDataHash;
+        private final long value;
+        private final long gasLimit;
+        private final long gasPrice;
+        // 0 for the latest block
+        private final long blockNumber;
+        private final boolean estimate;
+
+        Key(
+                String contractAddress,
+                @Nullable String senderAddress,
+                @Nullable byte[] callData,
+                long value,
+                long gasLimit,
+                long gasPrice,
+                long blockNumber,
+                boolean estimate) {
+            this.contractAddress = normalize(contractAddress);
+            this.senderAddress = senderAddress == null ? null : normalize(senderAddress);
+            // Only keep the hash, call data can be large
+            this.callDataHash = Crypto.calcKeccak256(callData == null ? new byte[0] : callData);
+            this.value = value;
+            this.gasLimit = gasLimit;
+            this.gasPrice = gasPrice;
+            this.blockNumber = blockNumber;
+            this.estimate = estimate;
+        }
+
+        private static String normalize(String address) {
+            return (address.startsWith("0x") ? address.substring(2) : address).toLowerCase(Locale.ROOT);
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+
+            Key key = (Key) o;
+            return value == key.value
+                    && gasLimit == key.gasLimit
+                    && gasPrice == key.gasPrice
+                    && blockNumber == key.blockNumber
+                    && estimate == key.estimate
+                    && contractAddress.equals(key.contractAddress)
+                    && Objects.equals(senderAddress, key.senderAddress)
+                    && Arrays.equals(callDataHash, key.callDataHash);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(
+                    contractAddress,
+                    senderAddress,
+                    Arrays.hashCode(callDataHash),
+                    value,
+                    gasLimit,
+                    gasPrice,
+                    blockNumber,
+                    estimate);
+        }
+    }
+}
@@ -4,13 +4,17 @@ package com.hedera.hashgraph.sdk;
 import static com.hedera.hashgraph.sdk.EntityIdHelper.performQueryToMirrorNodeAsync;
 
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
 import com.google.protobuf.ByteString;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import javax.annotation.Nullable;
 import org.bouncycastle.util.encoders.Hex;
 
 /**
@@ -226,7 +230,7 @@ public abstract class MirrorNodeContractQuery<T extends MirrorNodeContractQuery<
      * @throws InterruptedException
      */
     protected long estimate(Client client) throws ExecutionException, InterruptedException {
-        fillEvmAddresses();
+        fillEvmAddresses(client);
         return getEstimateGasFromMirrorNodeAsync(client).get();
     }
 
@@ -239,33 +243,100 @@ public abstract class MirrorNodeContractQuery<T extends MirrorNodeContractQuery<
      * @throws InterruptedException
      */
     protected String call(Client client) throws ExecutionException, InterruptedException {
-        fillEvmAddresses();
-        var blockNum = this.blockNumber == 0 ? "latest" : String.valueOf(this.blockNumber);
-        return getContractCallResultFromMirrorNodeAsync(client, blockNum).get();
+        return callAsync(client).get();
     }
 
-    private void fillEvmAddresses() {
+    /**
+     * Does transient simulation of read-write operations without blocking.
+     *
+     * @param client
+     * @return the result in hexadecimal string format
+     */
+    CompletableFuture<String> callAsync(Client client) {
+        fillEvmAddresses(client);
+        return getContractCallResultFromMirrorNodeAsync(client, this.blockNumber);
+    }
+
+    /**
+     * Identifies this call for caching and deduplication. Only valid once the EVM addresses have been filled in, see
+     * {@link #callKey(Client)}.
+     */
+    private MirrorNodeContractCallCache.Key toCacheKey(long blockNumber, boolean estimate) {
+        return new MirrorNodeContractCallCache.Key(
+                this.contractEvmAddress,
+                this.senderEvmAddress,
+                this.callData,
+                this.value,
+                this.gasLimit,
+                this.gasPrice,
+                blockNumber,
+                estimate);
+    }
+
+    /**
+     * Identifies the call that {@link #callAsync(Client)} would perform.
+     *
+     * @param client
+     * @return the key of the call
+     */
+    MirrorNodeContractCallCache.Key callKey(Client client) {
+        fillEvmAddresses(client);
+        return toCacheKey(this.blockNumber, false);
+    }
+
+    private void fillEvmAddresses(Client client) {
         if (this.contractEvmAddress == null) {
             Objects.requireNonNull(this.contractId);
-            this.contractEvmAddress = contractId.toSolidityAddress();
+            var cached = contractId.evmAddress == null
+                    ? cachedEvmAddress(client, contractId.shard, contractId.realm, contractId.num)
+                    : null;
+            this.contractEvmAddress = cached != null ? cached : contractId.toSolidityAddress();
         }
 
         if (this.senderEvmAddress == null && this.sender != null) {
-            this.senderEvmAddress = sender.toSolidityAddress();
+            var cached = cachedEvmAddress(client, sender.shard, sender.realm, sender.num);
+            this.senderEvmAddress = cached != null ? cached : sender.toSolidityAddress();
         }
     }
 
-    private CompletableFuture<String> getContractCallResultFromMirrorNodeAsync(Client client, String blockNumber) {
-        return executeMirrorNodeRequest(client, blockNumber, false)
-                .thenApply(MirrorNodeContractQuery::parseContractCallResult);
+    /**
+     * Prefer the EVM address already known to the client over the long-zero address derived from the entity number.
+     */
+    @Nullable
+    private static String cachedEvmAddress(@Nullable Client client, long shard, long realm, long num) {
+        var cache = client != null ? client.getEvmAddressCache() : null;
+        var evmAddress = cache != null ? cache.getEvmAddress(shard, realm, num) : null;
+        return evmAddress != null ? evmAddress.toString() : null;
+    }
+
+    private CompletableFuture<String> getContractCallResultFromMirrorNodeAsync(Client client, long blockNumber) {
+        return executeMirrorNodeRequest(client, blockNumber, false);
     }
 
     private CompletableFuture<Long> getEstimateGasFromMirrorNodeAsync(Client client) {
-        return executeMirrorNodeRequest(client, "latest", true)
-                .thenApply(MirrorNodeContractQuery::parseHexEstimateToLong);
+        // Gas is always estimated against the latest block
+        return executeMirrorNodeRequest(client, 0, true).thenApply(MirrorNodeJsonBodyHandler::parseHexLong);
     }
 
-    private CompletableFuture<String> executeMirrorNodeRequest(Client client, String blockNumber, boolean estimate) {
+    private CompletableFuture<String> executeMirrorNodeRequest(Client client, long blockNumber, boolean estimate) {
+        var cache = client.getMirrorNodeContractCallCache();
+        if (cache == null) {
+            return requestFromMirrorNode(client, blockNumber, estimate);
+        }
+
+        var key = toCacheKey(blockNumber, estimate);
+        var cached = cache.get(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        return requestFromMirrorNode(client, blockNumber, estimate).thenApply(result -> {
+            cache.put(key, result);
+            return result;
+        });
+    }
+
+    private CompletableFuture<String> requestFromMirrorNode(Client client, long blockNumber, boolean estimate) {
         String apiEndpoint = "/contracts/call";
         String jsonPayload = createJsonPayload(
                 this.callData,
@@ -274,10 +345,11 @@ public abstract class MirrorNodeContractQuery<T extends MirrorNodeContractQuery<
                 this.gasLimit,
                 this.gasPrice,
                 this.value,
-                blockNumber,
+                blockNumber == 0 ? "latest" : String.valueOf(blockNumber),
                 estimate);
 
-        return performQueryToMirrorNodeAsync(client, apiEndpoint, jsonPayload, true)
+        return performQueryToMirrorNodeAsync(
+                        client, apiEndpoint, jsonPayload, true, MirrorNodeContractQuery::parseContractCallResult)
                 .exceptionally(ex -> {
                     client.getLogger().error("Error while performing post request to Mirror Node: " + ex.getMessage());
                     throw new CompletionException(ex);
@@ -319,12 +391,19 @@ public abstract class MirrorNodeContractQuery<T extends MirrorNodeContractQuery<
     }
 
     static String parseContractCallResult(String responseBody) {
-        JsonObject jsonObject = JsonParser.parseString(responseBody).getAsJsonObject();
-        return jsonObject.get("result").getAsString();
+        try {
+            return parseContractCallResult(new JsonReader(new StringReader(responseBody)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static String parseContractCallResult(JsonReader reader) throws IOException {
+        return MirrorNodeJsonBodyHandler.readStringMember(reader, "result");
     }
 
     static long parseHexEstimateToLong(String responseBody) {
-        return Integer.parseInt(parseContractCallResult(responseBody).substring(2), 16);
+        return MirrorNodeJsonBodyHandler.parseHexLong(parseContractCallResult(responseBody));
     }
 
     @Override
@@ -0,0 +1,109 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import java.time.Duration;
+import java.time.Instant;
+import javax.annotation.Nullable;
+
+/**
+ * The health of the streams of one mirror node, as exponentially weighted moving averages that favour recent streams.
+ * <p>
+ * A stream succeeds once its first message arrives, or once it completes without messages, and fails when it errors
+ * or stalls before that. Failures weigh most in the {@link #score()} by which mirror nodes are chosen, followed by the
+ * time streams take to deliver their first message.
+ */
+final class MirrorNodeHealth {
+    /**
+     * The weight of the latest sample in each average.
+     */
+    private static final double ALPHA = 0.2;
+
+    /**
+     * The score of a node whose every stream fails, in milliseconds of time to first message.
+     */
+    private static final double FAILURE_PENALTY_MILLIS = 10_000;
+
+    // Guarded by `this`
+    private long streamCount = 0;
+    private long failureCount = 0;
+    private double failureRate = 0;
+    private double timeToFirstMessageMillis = Double.NaN;
+    private double lagMillis = Double.NaN;
+
+    /**
+     * Record the start of a stream.
+     */
+    synchronized void streamStarted() {
+        streamCount++;
+    }
+
+    /**
+     * Record the first message of a stream.
+     *
+     * @param elapsed the time since the stream started
+     */
+    synchronized void firstMessage(Duration elapsed) {
+        timeToFirstMessageMillis = average(timeToFirstMessageMillis, elapsed.toNanos() / 1e6);
+        succeeded();
+    }
+
+    /**
+     * Record a message of a stream.
+     *
+     * @param consensusTimestamp the consensus timestamp of the message
+     * @param receivedAt         when the message was received
+     */
+    synchronized void message(Instant consensusTimestamp, Instant receivedAt) {
+        lagMillis = average(lagMillis, Duration.between(consensusTimestamp, receivedAt).toNanos() / 1e6);
+    }
+
+    /**
+     * Record a stream that completed or delivered its first message.
+     */
+    synchronized void succeeded() {
+        failureRate = failureRate * (1 - ALPHA);
+    }
+
+    /**
+     * Record a stream that failed or stalled.
+     */
+    synchronized void failed() {
+        failureCount++;
+        failureRate = failureRate * (1 - ALPHA) + ALPHA;
+    }
+
+    /**
+     * The score of the node; lower is healthier.
+     *
+     * @return the score
+     */
+    synchronized double score() {
+        var timeToFirstMessage = Double.isNaN(timeToFirstMessageMillis) ? 0 : timeToFirstMessageMillis;
+        return failureRate * FAILURE_PENALTY_MILLIS + timeToFirstMessage;
+    }
+
+    /**
+     * Take a snapshot.
+     *
+     * @param address the address of the node
+     * @return the snapshot
+     */
+    synchronized MirrorNodeStats toStats(String address) {
+        return new MirrorNodeStats(
+                address,
+                streamCount,
+                failureCount,
+                failureRate,
+                toDuration(timeToFirstMessageMillis),
+                toDuration(lagMillis));
+    }
+
+    private static double average(double average, double sample) {
+        return Double.isNaN(average) ? sample : average * (1 - ALPHA) + sample * ALPHA;
+    }
+
+    @Nullable
+    private static Duration toDuration(double millis) {
+        return Double.isNaN(millis) ? null : Duration.ofNanos((long) (millis * 1e6));
+    }
+}
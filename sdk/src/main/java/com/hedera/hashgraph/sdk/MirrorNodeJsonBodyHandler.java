@@ -0,0 +1,128 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Body handler for mirror node REST responses that parses the JSON document directly from the response stream.
+ * <p>
+ * Only a single member is usually needed out of a response, so rather than reading the body into a {@code String} and
+ * building a Gson tree this handler walks the document with a {@link JsonReader} and skips every member the caller is
+ * not interested in. Large contract call results are therefore held in memory only once.
+ * <p>
+ * The parsed value is exposed as a {@link Supplier} so that the blocking read happens on the thread that calls
+ * {@link Supplier#get()} instead of on the executor of the {@link java.net.http.HttpClient}.
+ *
+ * @param <T> the type of the parsed value
+ */
+final class MirrorNodeJsonBodyHandler<T> implements HttpResponse.BodyHandler<Supplier<T>> {
+    /**
+     * Parses a value out of a positioned {@link JsonReader}.
+     *
+     * @param <T> the type of the parsed value
+     */
+    @FunctionalInterface
+    interface JsonReaderParser<T> {
+        T parse(JsonReader reader) throws IOException;
+    }
+
+    private final JsonReaderParser<T> parser;
+
+    /**
+     * Constructor.
+     *
+     * @param parser the parser applied to successful (200) responses
+     */
+    MirrorNodeJsonBodyHandler(JsonReaderParser<T> parser) {
+        this.parser = Objects.requireNonNull(parser);
+    }
+
+    @Override
+    public HttpResponse.BodySubscriber<Supplier<T>> apply(HttpResponse.ResponseInfo responseInfo) {
+        if (responseInfo.statusCode() != 200) {
+            // Error bodies are small, keep them around as text so they can be reported
+            return HttpResponse.BodySubscribers.mapping(
+                    HttpResponse.BodySubscribers.ofString(StandardCharsets.UTF_8), body -> () -> {
+                        throw new CompletionException(
+                                new RuntimeException("Received non-200 response from Mirror Node: " + body));
+                    });
+        }
+
+        return HttpResponse.BodySubscribers.mapping(
+                HttpResponse.BodySubscribers.ofInputStream(), stream -> () -> parse(stream, parser));
+    }
+
+    /**
+     * Parse a JSON document from a stream, closing the stream afterwards.
+     *
+     * @param stream the stream containing the JSON document
+     * @param parser the parser to apply
+     * @return the parsed value
+     * @param <T> the type of the parsed value
+     */
+    static <T> T parse(InputStream stream, JsonReaderParser<T> parser) {
+        try (var reader = new JsonReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            return parser.parse(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to parse Mirror Node response", e);
+        }
+    }
+
+    /**
+     * Advance the reader into the top level object until the member with the given name, skipping every other member
+     * without materialising it.
+     *
+     * @param reader     the reader, positioned before the top level object
+     * @param memberName the name of the member to find
+     * @throws IOException           if the document could not be read
+     * @throws IllegalStateException if the member is absent or {@code null}
+     */
+    static void seekMember(JsonReader reader, String memberName) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.nextName().equals(memberName) && reader.peek() != JsonToken.NULL) {
+                return;
+            }
+            reader.skipValue();
+        }
+
+        throw new IllegalStateException("Mirror Node response does not contain `" + memberName + "`");
+    }
+
+    /**
+     * Read the string value of a member of the top level object.
+     *
+     * @param reader     the reader, positioned before the top level object
+     * @param memberName the name of the member to read
+     * @return the value of the member
+     * @throws IOException if the document could not be read
+     */
+    static String readStringMember(JsonReader reader, String memberName) throws IOException {
+        seekMember(reader, memberName);
+        return reader.nextString();
+    }
+
+    /**
+     * Parse a hexadecimal number, with or without a {@code 0x} prefix, without creating an intermediate substring.
+     *
+     * @param hex the hexadecimal number
+     * @return the number
+     */
+    static long parseHexLong(String hex) {
+        return Long.parseLong(hex, hexStart(hex), hex.length(), 16);
+    }
+
+    private static int hexStart(CharSequence hex) {
+        return hex.length() >= 2 && hex.charAt(0) == '0' && (hex.charAt(1) == 'x' || hex.charAt(1) == 'X') ? 2 : 0;
+    }
+}
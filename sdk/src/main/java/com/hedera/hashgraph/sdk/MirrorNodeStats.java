@@ -0,0 +1,76 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.base.MoreObjects;
+import java.time.Duration;
+import javax.annotation.Nullable;
+
+/**
+ * A snapshot of the health of the streams of one mirror node, such as topic message subscriptions and address book
+ * queries.
+ * <p>
+ * Averages favour recent streams. A stream fails when it errors, or stalls, before delivering its first message.
+ *
+ * @see Client#getMirrorNodeStats()
+ */
+public final class MirrorNodeStats {
+    /**
+     * The address of the mirror node.
+     */
+    public final String address;
+
+    /**
+     * The number of streams started.
+     */
+    public final long streamCount;
+
+    /**
+     * The number of streams that failed or stalled.
+     */
+    public final long failureCount;
+
+    /**
+     * The recent share of streams that failed or stalled, between 0 and 1.
+     */
+    public final double failureRate;
+
+    /**
+     * The average time between starting a stream and receiving its first message, if any stream delivered one.
+     */
+    @Nullable
+    public final Duration timeToFirstMessage;
+
+    /**
+     * The average time between the consensus timestamp of a message and when it was received, if any was. This lag is
+     * large while a stream catches up on older messages, and small for a stream following a topic as it happens.
+     */
+    @Nullable
+    public final Duration streamLag;
+
+    MirrorNodeStats(
+            String address,
+            long streamCount,
+            long failureCount,
+            double failureRate,
+            @Nullable Duration timeToFirstMessage,
+            @Nullable Duration streamLag) {
+        this.address = address;
+        this.streamCount = streamCount;
+        this.failureCount = failureCount;
+        this.failureRate = failureRate;
+        this.timeToFirstMessage = timeToFirstMessage;
+        this.streamLag = streamLag;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("address", address)
+                .add("streamCount", streamCount)
+                .add("failureCount", failureCount)
+                .add("failureRate", failureRate)
+                .add("timeToFirstMessage", timeToFirstMessage)
+                .add("streamLag", streamLag)
+                .toString();
+    }
+}
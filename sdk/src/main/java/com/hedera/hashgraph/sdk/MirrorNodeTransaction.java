@@ -0,0 +1,94 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.base.MoreObjects;
+import java.time.Instant;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * A transaction as listed by the mirror node REST API, a lightweight view of the fields of a
+ * {@link TransactionRecord} that the mirror node reports for every transaction.
+ * <p>
+ * Returned by {@link MirrorRestPager#transactions(Client, AccountId)}.
+ */
+public final class MirrorNodeTransaction {
+    /**
+     * The ID of the transaction.
+     */
+    public final TransactionId transactionId;
+
+    /**
+     * The consensus timestamp of the transaction.
+     */
+    public final Instant consensusTimestamp;
+
+    /**
+     * The name of the transaction type, e.g. {@code CRYPTOTRANSFER}.
+     */
+    public final String name;
+
+    /**
+     * The name of the result status, e.g. {@code SUCCESS}.
+     */
+    public final String result;
+
+    /**
+     * The fee charged for the transaction.
+     */
+    public final Hbar chargedTransactionFee;
+
+    /**
+     * The memo of the transaction.
+     */
+    public final String memo;
+
+    /**
+     * The Hbar transfers made by the transaction.
+     */
+    public final List<Transfer> transfers;
+
+    MirrorNodeTransaction(
+            TransactionId transactionId,
+            Instant consensusTimestamp,
+            String name,
+            String result,
+            Hbar chargedTransactionFee,
+            String memo,
+            List<Transfer> transfers) {
+        this.transactionId = transactionId;
+        this.consensusTimestamp = consensusTimestamp;
+        this.name = name;
+        this.result = result;
+        this.chargedTransactionFee = chargedTransactionFee;
+        this.memo = memo;
+        this.transfers = transfers;
+    }
+
+    /**
+     * The result as a {@link Status}.
+     *
+     * @return the status, or {@code null} if this version of the SDK does not know it
+     */
+    @Nullable
+    public Status getStatus() {
+        try {
+            return Status.valueOf(result);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("transactionId", transactionId)
+                .add("consensusTimestamp", consensusTimestamp)
+                .add("name", name)
+                .add("result", result)
+                .add("chargedTransactionFee", chargedTransactionFee)
+                .add("memo", memo)
+                .add("transfers", transfers)
+                .toString();
+    }
+}
@@ -0,0 +1,324 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Learns from the mirror node when transactions reached consensus, for many transactions at once, so their receipts
+ * are fetched from the consensus nodes once instead of by polling.
+ * <p>
+ * Set on a client with {@link Client#setMirrorReceiptSource(MirrorReceiptSource)}, it makes
+ * {@link TransactionResponse#getReceiptAsync(Client)}, and with it {@link TransactionResponse#getRecordAsync(Client)},
+ * wait for the transaction to be listed by the mirror node before asking its node for the receipt. Every poll
+ * interval, the source lists the new transactions of each payer with pending transactions, one paged query per payer,
+ * however many of its transactions are pending. A transaction not listed within the fallback timeout is left to the
+ * usual polling of the consensus node, so a lagging or unreachable mirror node only delays receipts.
+ * <p>
+ * The mirror node lists transactions a few seconds after consensus, so this trades some latency for far fewer queries
+ * to consensus nodes, which suits bulk workloads. Receipts of scheduled transactions are not awaited.
+ */
+public final class MirrorReceiptSource implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MirrorReceiptSource.class);
+
+    /**
+     * The default time between two polls of the mirror node.
+     */
+    public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(1);
+
+    /**
+     * The default time after which a transaction not listed by the mirror node is left to the consensus node.
+     */
+    public static final Duration DEFAULT_FALLBACK_TIMEOUT = Duration.ofSeconds(15);
+
+    private final Client client;
+    private final Duration pollInterval;
+    private final Duration fallbackTimeout;
+
+    // Guarded by `this`
+    private final Map<AccountId, Payer> payers = new HashMap<>();
+    private boolean polling = false;
+    private boolean closed = false;
+
+    /**
+     * Constructor with the default poll interval and fallback timeout.
+     *
+     * @param client the client whose mirror network is polled
+     */
+    public MirrorReceiptSource(Client client) {
+        this(client, DEFAULT_POLL_INTERVAL, DEFAULT_FALLBACK_TIMEOUT);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param client          the client whose mirror network is polled
+     * @param pollInterval    the time between two polls of the mirror node
+     * @param fallbackTimeout the time after which a transaction not listed by the mirror node is left to the consensus
+     *                        node
+     */
+    public MirrorReceiptSource(Client client, Duration pollInterval, Duration fallbackTimeout) {
+        Objects.requireNonNull(client, "client must not be null");
+        Objects.requireNonNull(pollInterval, "pollInterval must not be null");
+        Objects.requireNonNull(fallbackTimeout, "fallbackTimeout must not be null");
+        if (pollInterval.isNegative() || pollInterval.isZero()) {
+            throw new IllegalArgumentException("pollInterval must be positive");
+        }
+        if (fallbackTimeout.isNegative()) {
+            throw new IllegalArgumentException("fallbackTimeout must not be negative");
+        }
+
+        this.client = client;
+        this.pollInterval = pollInterval;
+        this.fallbackTimeout = fallbackTimeout;
+    }
+
+    /**
+     * Wait for the mirror node to list a transaction.
+     *
+     * @param transactionId the ID of the transaction
+     * @return a future completing with {@code true} once the mirror node listed the transaction, or with {@code false}
+     *         after the fallback timeout, for scheduled transactions, or once the source is closed; never exceptionally
+     */
+    public CompletableFuture<Boolean> awaitConsensus(TransactionId transactionId) {
+        Objects.requireNonNull(transactionId, "transactionId must not be null");
+
+        var payerId = transactionId.accountId;
+        var validStart = transactionId.validStart;
+        if (payerId == null || validStart == null || transactionId.getScheduled()) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        var waiter = new Waiter(System.nanoTime() + fallbackTimeout.toNanos());
+        boolean startPolling;
+
+        synchronized (this) {
+            if (closed) {
+                return CompletableFuture.completedFuture(false);
+            }
+
+            payers.computeIfAbsent(payerId, id -> new Payer()).add(transactionId, validStart, waiter);
+
+            startPolling = !polling;
+            polling = true;
+        }
+
+        if (startPolling) {
+            schedulePoll();
+        }
+
+        return waiter.future;
+    }
+
+    /**
+     * The number of transactions waiting to be listed.
+     *
+     * @return the number of transactions
+     */
+    public synchronized int getPendingCount() {
+        int count = 0;
+        for (var payer : payers.values()) {
+            count += payer.pending.size();
+        }
+        return count;
+    }
+
+    /**
+     * Stop polling, and leave every pending transaction to the consensus nodes.
+     */
+    @Override
+    public void close() {
+        List<Waiter> waiters = new ArrayList<>();
+        synchronized (this) {
+            closed = true;
+            for (var payer : payers.values()) {
+                for (var pending : payer.pending.values()) {
+                    waiters.addAll(pending);
+                }
+            }
+            payers.clear();
+        }
+
+        for (var waiter : waiters) {
+            waiter.future.complete(false);
+        }
+    }
+
+    private void schedulePoll() {
+        Delayer.delayFor(pollInterval.toMillis(), client.executor).thenRun(this::poll);
+    }
+
+    private void poll() {
+        Map<AccountId, Instant> cursors = new HashMap<>();
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            for (var entry : payers.entrySet()) {
+                cursors.put(entry.getKey(), entry.getValue().cursor);
+            }
+        }
+
+        var polls = new ArrayList<CompletableFuture<Void>>(cursors.size());
+        for (var entry : cursors.entrySet()) {
+            polls.add(fetch(entry.getKey(), endpoint(entry.getKey(), entry.getValue())));
+        }
+
+        CompletableFuture.allOf(polls.toArray(new CompletableFuture<?>[0])).whenComplete((v, error) -> {
+            expire(System.nanoTime());
+
+            boolean pollAgain;
+            synchronized (this) {
+                pollAgain = !closed && !payers.isEmpty();
+                polling = pollAgain;
+            }
+
+            if (pollAgain) {
+                schedulePoll();
+            }
+        });
+    }
+
+    /**
+     * Fetch the listing of a payer one page after the other, matching each page as it arrives.
+     */
+    private CompletableFuture<Void> fetch(AccountId payerId, String endpoint) {
+        return EntityIdHelper.performQueryToMirrorNodeAsync(
+                        client,
+                        endpoint,
+                        null,
+                        false,
+                        reader -> MirrorRestPager.parsePage(reader, "transactions", MirrorRestPager::parseTransaction))
+                .thenCompose(page -> {
+                    accept(payerId, page.items);
+                    return page.next != null ? fetch(payerId, page.next) : CompletableFuture.completedFuture(null);
+                })
+                .exceptionally(error -> {
+                    // Waiters fall back to the consensus node if the mirror node stays unreachable
+                    LOGGER.warn("Failed to list the transactions of {} from the mirror node", payerId, error);
+                    return null;
+                });
+    }
+
+    /**
+     * The first page of the transactions of a payer after a consensus timestamp.
+     *
+     * @param payerId the payer
+     * @param cursor  the consensus timestamp to list transactions after
+     * @return the endpoint, relative to {@code /api/v1}
+     */
+    static String endpoint(AccountId payerId, Instant cursor) {
+        return "/transactions?account.id=" + payerId + "&timestamp=gt:" + cursor.getEpochSecond() + "."
+                + String.format(Locale.ROOT, "%09d", cursor.getNano()) + "&order=asc&limit="
+                + MirrorRestPager.PAGE_SIZE;
+    }
+
+    /**
+     * Complete the waiters of the listed transactions of a payer, and move its cursor past them.
+     *
+     * @param payerId      the payer
+     * @param transactions listed transactions, in consensus order
+     */
+    void accept(AccountId payerId, List<MirrorNodeTransaction> transactions) {
+        List<Waiter> listed = new ArrayList<>();
+        synchronized (this) {
+            var payer = payers.get(payerId);
+            if (payer == null) {
+                return;
+            }
+
+            for (var transaction : transactions) {
+                var waiters = payer.pending.remove(transaction.transactionId);
+                if (waiters != null) {
+                    listed.addAll(waiters);
+                }
+                if (transaction.consensusTimestamp.isAfter(payer.cursor)) {
+                    payer.cursor = transaction.consensusTimestamp;
+                }
+            }
+
+            if (payer.pending.isEmpty()) {
+                payers.remove(payerId);
+            }
+        }
+
+        for (var waiter : listed) {
+            waiter.future.complete(true);
+        }
+    }
+
+    /**
+     * Leave the transactions past their fallback timeout to the consensus nodes.
+     *
+     * @param nowNanos the current {@link System#nanoTime()}
+     */
+    void expire(long nowNanos) {
+        List<Waiter> expired = new ArrayList<>();
+        synchronized (this) {
+            var payerIterator = payers.values().iterator();
+            while (payerIterator.hasNext()) {
+                var pending = payerIterator.next().pending;
+                var pendingIterator = pending.values().iterator();
+                while (pendingIterator.hasNext()) {
+                    var waiters = pendingIterator.next();
+                    waiters.removeIf(waiter -> {
+                        if (nowNanos - waiter.deadlineNanos >= 0) {
+                            expired.add(waiter);
+                            return true;
+                        }
+                        return false;
+                    });
+                    if (waiters.isEmpty()) {
+                        pendingIterator.remove();
+                    }
+                }
+                if (pending.isEmpty()) {
+                    payerIterator.remove();
+                }
+            }
+        }
+
+        for (var waiter : expired) {
+            waiter.future.complete(false);
+        }
+    }
+
+    /**
+     * The pending transactions of one payer.
+     */
+    private static final class Payer {
+        // Several callers may wait for the same transaction
+        final Map<TransactionId, List<Waiter>> pending = new HashMap<>();
+
+        // Transactions up to this consensus timestamp were listed already, or are older than every pending one
+        Instant cursor = Instant.MAX;
+
+        void add(TransactionId transactionId, Instant validStart, Waiter waiter) {
+            pending.computeIfAbsent(transactionId, id -> new ArrayList<>(1)).add(waiter);
+
+            // A transaction reaches consensus after its valid start, which may be before what was listed so far
+            var before = validStart.minusNanos(1);
+            if (before.isBefore(cursor)) {
+                cursor = before;
+            }
+        }
+    }
+
+    private static final class Waiter {
+        final CompletableFuture<Boolean> future = new CompletableFuture<>();
+        final long deadlineNanos;
+
+        Waiter(long deadlineNanos) {
+            this.deadlineNanos = deadlineNanos;
+        }
+    }
+}
@@ -0,0 +1,435 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.annotation.Nullable;
+
+/**
+ * Iterates over a paginated listing of the mirror node REST API, following {@code links.next} until the listing ends.
+ * <p>
+ * Each page is parsed from the response stream straight into SDK types, and the next page is requested as soon as the
+ * current one arrives, so it is usually ready by the time the caller has consumed the current one. At most two pages
+ * are held in memory at any time, regardless of the length of the listing.
+ * <p>
+ * A pager can be consumed once; create a new one to iterate again.
+ *
+ * <p>Note: This class requires API level 33 or higher. It will not work on devices running API versions below 33
+ * because it uses features introduced in API level 33 (Android 13).</p>
+ *
+ * @param <T> the type of the listed items
+ */
+public final class MirrorRestPager<T> implements Iterable<T> {
+    /**
+     * The page size requested from the mirror node, which is also its maximum.
+     */
+    static final int PAGE_SIZE = 100;
+
+    private static final String API_PREFIX = "/api/v1";
+
+    private final Client client;
+    private final String firstEndpoint;
+    private final String itemsMember;
+    private final MirrorNodeJsonBodyHandler.JsonReaderParser<T> itemParser;
+    private boolean consumed = false;
+
+    /**
+     * Constructor.
+     *
+     * @param client        the client whose mirror network is queried
+     * @param firstEndpoint the endpoint of the first page, relative to {@code /api/v1}
+     * @param itemsMember   the name of the array holding the items of a page
+     * @param itemParser    parses one item of the array
+     */
+    MirrorRestPager(
+            Client client,
+            String firstEndpoint,
+            String itemsMember,
+            MirrorNodeJsonBodyHandler.JsonReaderParser<T> itemParser) {
+        this.client = Objects.requireNonNull(client);
+        this.firstEndpoint = Objects.requireNonNull(firstEndpoint);
+        this.itemsMember = Objects.requireNonNull(itemsMember);
+        this.itemParser = Objects.requireNonNull(itemParser);
+    }
+
+    /**
+     * The Hbar and token balances of every account.
+     *
+     * @param client the client whose mirror network is queried
+     * @return a pager of the balance of each account
+     */
+    public static MirrorRestPager<Map.Entry<AccountId, AccountBalance>> accountBalances(Client client) {
+        return new MirrorRestPager<>(
+                client, "/balances?order=asc&limit=" + PAGE_SIZE, "balances", MirrorRestPager::parseAccountBalance);
+    }
+
+    /**
+     * The holders of a token and their balance of it.
+     *
+     * @param client  the client whose mirror network is queried
+     * @param tokenId the token
+     * @return a pager of the balance of each holder, in the smallest denomination of the token
+     */
+    public static MirrorRestPager<Map.Entry<AccountId, Long>> tokenBalances(Client client, TokenId tokenId) {
+        return new MirrorRestPager<>(
+                client,
+                "/tokens/" + tokenId + "/balances?order=asc&limit=" + PAGE_SIZE,
+                "balances",
+                MirrorRestPager::parseTokenBalance);
+    }
+
+    /**
+     * The NFTs of a token.
+     *
+     * @param client  the client whose mirror network is queried
+     * @param tokenId the token
+     * @return a pager of the NFTs of the token
+     */
+    public static MirrorRestPager<TokenNftInfo> nfts(Client client, TokenId tokenId) {
+        var ledgerId = client.getLedgerId();
+        return new MirrorRestPager<>(
+                client,
+                "/tokens/" + tokenId + "/nfts?order=asc&limit=" + PAGE_SIZE,
+                "nfts",
+                reader -> parseNft(reader, ledgerId));
+    }
+
+    /**
+     * The transaction history of an account, oldest first.
+     *
+     * @param client    the client whose mirror network is queried
+     * @param accountId the account
+     * @return a pager of the transactions of the account
+     */
+    public static MirrorRestPager<MirrorNodeTransaction> transactions(Client client, AccountId accountId) {
+        return new MirrorRestPager<>(
+                client,
+                "/transactions?account.id=" + accountId + "&order=asc&limit=" + PAGE_SIZE,
+                "transactions",
+                MirrorRestPager::parseTransaction);
+    }
+
+    /**
+     * Iterate over the listing. Only one iterator may be created per pager.
+     *
+     * @return the iterator
+     */
+    @Override
+    public synchronized Iterator<T> iterator() {
+        if (consumed) {
+            throw new IllegalStateException("a MirrorRestPager can only be iterated once");
+        }
+        consumed = true;
+
+        return new PageIterator(fetch(firstEndpoint));
+    }
+
+    /**
+     * A sequential stream over the listing. Only one stream may be created per pager.
+     *
+     * @return the stream
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    private CompletableFuture<Page<T>> fetch(String endpoint) {
+        return EntityIdHelper.performQueryToMirrorNodeAsync(
+                client, endpoint, null, false, reader -> parsePage(reader, itemsMember, itemParser));
+    }
+
+    /**
+     * Parse one page of a listing: the items and the link to the next page, skipping every other member.
+     */
+    static <T> Page<T> parsePage(
+            JsonReader reader, String itemsMember, MirrorNodeJsonBodyHandler.JsonReaderParser<T> itemParser)
+            throws IOException {
+        List<T> items = Collections.emptyList();
+        String next = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            var name = reader.nextName();
+            if (name.equals(itemsMember) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                items = new ArrayList<>(PAGE_SIZE);
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    items.add(itemParser.parse(reader));
+                }
+                reader.endArray();
+            } else if (name.equals("links") && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    if (reader.nextName().equals("next") && reader.peek() == JsonToken.STRING) {
+                        next = reader.nextString();
+                    } else {
+                        reader.skipValue();
+                    }
+                }
+                reader.endObject();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        if (next != null && next.startsWith(API_PREFIX)) {
+            next = next.substring(API_PREFIX.length());
+        }
+
+        return new Page<>(items, next);
+    }
+
+    static Map.Entry<AccountId, AccountBalance> parseAccountBalance(JsonReader reader) throws IOException {
+        AccountId accountId = null;
+        long balance = 0;
+        Map<TokenId, Long> tokens = new HashMap<>();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "account" -> accountId = AccountId.fromString(reader.nextString());
+                case "balance" -> balance = reader.nextLong();
+                case "tokens" -> {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        var token = parseIdAndAmount(reader, "token_id", "balance");
+                        tokens.put(TokenId.fromString(token.getKey()), token.getValue());
+                    }
+                    reader.endArray();
+                }
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new AbstractMap.SimpleImmutableEntry<>(
+                requireMember(accountId, "account"),
+                new AccountBalance(Hbar.fromTinybars(balance), tokens, new HashMap<>()));
+    }
+
+    static Map.Entry<AccountId, Long> parseTokenBalance(JsonReader reader) throws IOException {
+        var balance = parseIdAndAmount(reader, "account", "balance");
+        return new AbstractMap.SimpleImmutableEntry<>(AccountId.fromString(balance.getKey()), balance.getValue());
+    }
+
+    /**
+     * Parse a {@code {"<idMember>": "0.0.x", "<amountMember>": n}} object.
+     */
+    private static Map.Entry<String, Long> parseIdAndAmount(JsonReader reader, String idMember, String amountMember)
+            throws IOException {
+        String id = null;
+        long amount = 0;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            var name = reader.nextName();
+            if (name.equals(idMember)) {
+                id = reader.nextString();
+            } else if (name.equals(amountMember)) {
+                amount = reader.nextLong();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new AbstractMap.SimpleImmutableEntry<>(requireMember(id, idMember), amount);
+    }
+
+    static TokenNftInfo parseNft(JsonReader reader, @Nullable LedgerId ledgerId) throws IOException {
+        TokenId tokenId = null;
+        long serial = 0;
+        AccountId owner = null;
+        AccountId spender = null;
+        Instant createdTimestamp = null;
+        byte[] metadata = new byte[0];
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            var name = reader.nextName();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.skipValue();
+                continue;
+            }
+
+            switch (name) {
+                case "token_id" -> tokenId = TokenId.fromString(reader.nextString());
+                case "serial_number" -> serial = reader.nextLong();
+                case "account_id" -> owner = AccountId.fromString(reader.nextString());
+                case "spender" -> spender = AccountId.fromString(reader.nextString());
+                case "created_timestamp" -> createdTimestamp = InstantConverter.fromString(reader.nextString());
+                case "metadata" -> metadata = Base64.getDecoder().decode(reader.nextString());
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        // Deleted and burned NFTs have no owner
+        return new TokenNftInfo(
+                new NftId(requireMember(tokenId, "token_id"), serial),
+                owner,
+                requireMember(createdTimestamp, "created_timestamp"),
+                metadata,
+                ledgerId,
+                spender);
+    }
+
+    static MirrorNodeTransaction parseTransaction(JsonReader reader) throws IOException {
+        TransactionId transactionId = null;
+        Instant consensusTimestamp = null;
+        String name = "";
+        String result = "";
+        long chargedTxFee = 0;
+        String memo = "";
+        List<Transfer> transfers = new ArrayList<>();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            var member = reader.nextName();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.skipValue();
+                continue;
+            }
+
+            switch (member) {
+                case "transaction_id" -> transactionId = parseTransactionId(reader.nextString());
+                case "consensus_timestamp" -> consensusTimestamp = InstantConverter.fromString(reader.nextString());
+                case "name" -> name = reader.nextString();
+                case "result" -> result = reader.nextString();
+                case "charged_tx_fee" -> chargedTxFee = reader.nextLong();
+                case "memo_base64" -> memo =
+                        new String(Base64.getDecoder().decode(reader.nextString()), StandardCharsets.UTF_8);
+                case "transfers" -> {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        var transfer = parseIdAndAmount(reader, "account", "amount");
+                        transfers.add(new Transfer(
+                                AccountId.fromString(transfer.getKey()), Hbar.fromTinybars(transfer.getValue())));
+                    }
+                    reader.endArray();
+                }
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new MirrorNodeTransaction(
+                requireMember(transactionId, "transaction_id"),
+                requireMember(consensusTimestamp, "consensus_timestamp"),
+                name,
+                result,
+                Hbar.fromTinybars(chargedTxFee),
+                memo,
+                transfers);
+    }
+
+    /**
+     * Parse a mirror node transaction ID, {@code <account>-<seconds>-<nanoseconds>}.
+     */
+    static TransactionId parseTransactionId(String transactionId) {
+        var nanosDash = transactionId.lastIndexOf('-');
+        var secondsDash = transactionId.lastIndexOf('-', nanosDash - 1);
+        if (secondsDash < 0) {
+            throw new IllegalArgumentException("expecting {account}-{seconds}-{nanos}, got " + transactionId);
+        }
+
+        return TransactionId.withValidStart(
+                AccountId.fromString(transactionId.substring(0, secondsDash)),
+                Instant.ofEpochSecond(
+                        Long.parseLong(transactionId, secondsDash + 1, nanosDash, 10),
+                        Long.parseLong(transactionId, nanosDash + 1, transactionId.length(), 10)));
+    }
+
+    private static <V> V requireMember(@Nullable V value, String memberName) {
+        if (value == null) {
+            throw new IllegalStateException("Mirror Node response does not contain `" + memberName + "`");
+        }
+        return value;
+    }
+
+    /**
+     * One page of a listing.
+     */
+    static final class Page<T> {
+        final List<T> items;
+
+        @Nullable
+        final String next;
+
+        Page(List<T> items, @Nullable String next) {
+            this.items = items;
+            this.next = next;
+        }
+    }
+
+    /**
+     * Walks the items of the current page while the next one is being fetched.
+     */
+    private final class PageIterator implements Iterator<T> {
+        private Iterator<T> current = Collections.emptyIterator();
+
+        @Nullable
+        private CompletableFuture<Page<T>> nextPage;
+
+        PageIterator(CompletableFuture<Page<T>> firstPage) {
+            this.nextPage = firstPage;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext()) {
+                if (nextPage == null) {
+                    return false;
+                }
+
+                var page = await(nextPage);
+                // Prefetch the following page while the caller consumes this one
+                nextPage = page.next != null ? fetch(page.next) : null;
+                current = page.items.iterator();
+            }
+
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+
+        private Page<T> await(CompletableFuture<Page<T>> page) {
+            try {
+                return page.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            } catch (ExecutionException e) {
+                throw new CompletionException(e.getCause());
+            }
+        }
+    }
+}
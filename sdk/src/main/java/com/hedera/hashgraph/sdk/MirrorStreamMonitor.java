@@ -0,0 +1,193 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import javax.annotation.Nullable;
+
+/**
+ * Watches one streaming call to a mirror node: records its health on the node, and gives up on it once no message
+ * arrived for the stall timeout.
+ * <p>
+ * Once the stream stalled, the stall handler is called, once, and later callbacks of the stream are to be ignored,
+ * which {@link #onMessage(Instant)} and {@link #hasStalled()} tell.
+ */
+final class MirrorStreamMonitor {
+    @Nullable
+    private final MirrorNodeHealth health;
+
+    @Nullable
+    private final Duration stallTimeout;
+
+    private final Executor executor;
+    private final Runnable stallHandler;
+    private final long startNanos;
+
+    // Guarded by `this`
+    private long lastActivityNanos;
+    private boolean receivedMessage = false;
+    private boolean ended = false;
+    private boolean stalled = false;
+
+    /**
+     * Constructor.
+     *
+     * @param node         the mirror node of the stream, or {@code null} if unknown
+     * @param stallTimeout the time without messages after which the stream stalled, or {@code null} to never stall
+     * @param executor     the executor the stall handler runs on
+     * @param stallHandler called once the stream stalled
+     */
+    MirrorStreamMonitor(
+            @Nullable MirrorNode node, @Nullable Duration stallTimeout, Executor executor, Runnable stallHandler) {
+        this.health = node != null ? node.health : null;
+        this.stallTimeout = stallTimeout;
+        this.executor = executor;
+        this.stallHandler = stallHandler;
+        this.startNanos = System.nanoTime();
+        this.lastActivityNanos = startNanos;
+    }
+
+    /**
+     * The error that ends a stalled stream.
+     *
+     * @param stallTimeout the time without messages after which the stream stalled
+     * @return the error
+     */
+    static StatusRuntimeException stallError(@Nullable Duration stallTimeout) {
+        return Status.UNAVAILABLE
+                .withDescription("no message from the mirror node for " + stallTimeout)
+                .asRuntimeException();
+    }
+
+    /**
+     * Start watching, once the call was started.
+     */
+    void start() {
+        if (health != null) {
+            health.streamStarted();
+        }
+
+        if (stallTimeout != null) {
+            scheduleCheck(stallTimeout.toMillis());
+        }
+    }
+
+    /**
+     * Record a message of the stream.
+     *
+     * @param consensusTimestamp the consensus timestamp of the message, if it has one
+     * @return whether to handle the message; {@code false} once the stream stalled
+     */
+    boolean onMessage(@Nullable Instant consensusTimestamp) {
+        long now = System.nanoTime();
+        boolean first;
+
+        synchronized (this) {
+            if (stalled) {
+                return false;
+            }
+
+            first = !receivedMessage;
+            receivedMessage = true;
+            lastActivityNanos = now;
+        }
+
+        if (health != null) {
+            if (first) {
+                health.firstMessage(Duration.ofNanos(now - startNanos));
+            }
+            if (consensusTimestamp != null) {
+                health.message(consensusTimestamp, Instant.now());
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Record the failure of the stream.
+     */
+    void onError() {
+        if (end() && health != null) {
+            health.failed();
+        }
+    }
+
+    /**
+     * Record the completion of the stream.
+     */
+    void onCompleted() {
+        boolean succeeded;
+        synchronized (this) {
+            succeeded = !receivedMessage;
+        }
+
+        if (end() && succeeded && health != null) {
+            health.succeeded();
+        }
+    }
+
+    /**
+     * Stop watching, without recording anything, such as when the stream is cancelled.
+     */
+    void stop() {
+        end();
+    }
+
+    /**
+     * Whether the stream was given up on as stalled.
+     *
+     * @return whether the stream stalled
+     */
+    synchronized boolean hasStalled() {
+        return stalled;
+    }
+
+    /**
+     * End watching, for the first time.
+     */
+    private synchronized boolean end() {
+        if (ended) {
+            return false;
+        }
+
+        ended = true;
+        return true;
+    }
+
+    private void scheduleCheck(long delayMillis) {
+        Delayer.delayFor(delayMillis, executor).thenRun(this::check);
+    }
+
+    private void check() {
+        var stallTimeout = Objects.requireNonNull(this.stallTimeout);
+        long remainingMillis;
+
+        synchronized (this) {
+            if (ended) {
+                return;
+            }
+
+            remainingMillis = stallTimeout.toMillis() - (System.nanoTime() - lastActivityNanos) / 1_000_000;
+            if (remainingMillis <= 0) {
+                ended = true;
+                stalled = true;
+            }
+        }
+
+        if (remainingMillis > 0) {
+            scheduleCheck(remainingMillis);
+            return;
+        }
+
+        if (health != null) {
+            health.failed();
+        }
+
+        stallHandler.run();
+    }
+}
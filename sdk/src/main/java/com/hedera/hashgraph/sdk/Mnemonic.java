@@ -5,11 +5,6 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 
 import com.google.common.base.Joiner;
 import com.hedera.hashgraph.sdk.utils.Bip32Utils;
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.lang.ref.SoftReference;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.nio.IntBuffer;
@@ -18,9 +13,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.function.Consumer;
-import java.util.function.Supplier;
+import java.util.TreeMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.annotation.Nullable;
@@ -33,14 +28,6 @@ import org.bouncycastle.crypto.params.KeyParameter;
  * BIP-39 24-word mnemonic phrases compatible with the Android and iOS mobile wallets.
  */
 public final class Mnemonic {
-    // by storing our word list in a SoftReference, the GC is free to evict it at its discretion
-    // but the implementation is meant to wait until free space is needed
-    @Nullable
-    private static SoftReference<List<String>> bip39WordList = null;
-
-    @Nullable
-    private static SoftReference<List<String>> legacyWordList = null;
-
     /**
      * The list of words in this mnemonic.
      */
@@ -88,6 +75,99 @@ public final class Mnemonic {
         return Mnemonic.fromWords(Arrays.asList(toLowerCase.split(" ")));
     }
 
+    /**
+     * Validate many mnemonic phrases at once, each as {@link #fromString(String)} would.
+     * <p>
+     * Phrases are read in place: no string is created for a phrase or its words, and the word lookups and checksums
+     * reuse the same buffers for every phrase. Words are separated by single spaces and matched ignoring case.
+     * Legacy 22-word phrases are accepted without validation, as {@link #fromWords(List)} accepts them.
+     *
+     * @param mnemonics the mnemonic phrases
+     * @return the reason each invalid phrase does not pass validation, by its index in {@code mnemonics}; empty if
+     *         every phrase is valid
+     */
+    public static Map<Integer, BadMnemonicReason> validateAll(List<? extends CharSequence> mnemonics) {
+        Objects.requireNonNull(mnemonics, "mnemonics must not be null");
+
+        var wordList = MnemonicWordList.bip39();
+        var digest = new SHA256Digest();
+        var entropyAndChecksum = new byte[33];
+        var hash = new byte[digest.getDigestSize()];
+
+        Map<Integer, BadMnemonicReason> invalid = new TreeMap<>();
+        for (int i = 0; i < mnemonics.size(); i++) {
+            var reason = validate(mnemonics.get(i), wordList, digest, entropyAndChecksum, hash);
+            if (reason != null) {
+                invalid.put(i, reason);
+            }
+        }
+
+        return invalid;
+    }
+
+    @Nullable
+    private static BadMnemonicReason validate(
+            CharSequence phrase,
+            MnemonicWordList wordList,
+            SHA256Digest digest,
+            byte[] entropyAndChecksum,
+            byte[] hash) {
+        // like `String.split`, drop the trailing empty words
+        int length = phrase.length();
+        while (length > 0 && phrase.charAt(length - 1) == ' ') {
+            length--;
+        }
+
+        int count = 0;
+        boolean unknown = false;
+        int scratch = 0;
+        int offset = 0;
+        int position = 0;
+
+        for (int start = 0, end = 0; end <= length; end++) {
+            if (end < length && phrase.charAt(end) != ' ') {
+                continue;
+            }
+
+            int index = wordList.indexOf(phrase, start, end, true);
+            start = end + 1;
+            count++;
+
+            if (index < 0) {
+                unknown = true;
+            } else if (!unknown && count <= 24) {
+                // same packing as `wordsToEntropyAndChecksum()`
+                scratch <<= 11;
+                scratch |= index;
+                offset += 11;
+
+                while (offset >= 8) {
+                    entropyAndChecksum[position++] = (byte) (scratch >> (offset - 8));
+                    offset -= 8;
+                }
+            }
+        }
+
+        if (count == 22) {
+            return null;
+        } else if (count != 24 && count != 12) {
+            return BadMnemonicReason.BadLength;
+        } else if (unknown) {
+            return BadMnemonicReason.UnknownWords;
+        }
+
+        if (offset != 0) {
+            entropyAndChecksum[position] = (byte) (scratch << offset);
+        }
+
+        int entropyLength = count == 12 ? 16 : 32;
+        digest.update(entropyAndChecksum, 0, entropyLength);
+        digest.doFinal(hash, 0);
+
+        byte expectedChecksum = count == 12 ? (byte) (hash[0] & 0xF0) : hash[0];
+        return entropyAndChecksum[entropyLength] == expectedChecksum ? null : BadMnemonicReason.ChecksumMismatch;
+    }
+
     /**
      * Returns a new random 24-word mnemonic from the BIP-39 standard English word list.
      *
@@ -174,69 +254,15 @@ public final class Mnemonic {
     }
 
     private static int getWordIndex(CharSequence word, boolean isLegacy) {
-        var wordList = getWordList(isLegacy);
-        var found = -1;
-        for (var i = 0; i < wordList.size(); i++) {
-            if (word.toString().equals(wordList.get(i))) {
-                found = i;
-            }
-        }
-        return found;
+        return getIndexedWordList(isLegacy).indexOf(word);
     }
 
     private static List<String> getWordList(boolean isLegacy) {
-        if (isLegacy) {
-            return getSpecificWordList(
-                    () -> legacyWordList, () -> readWordList(true), (newWordList) -> legacyWordList = newWordList);
-        } else {
-            return getSpecificWordList(
-                    () -> bip39WordList, () -> readWordList(false), (newWordList) -> bip39WordList = newWordList);
-        }
+        return getIndexedWordList(isLegacy).words;
     }
 
-    private static synchronized List<String> getSpecificWordList(
-            Supplier<SoftReference<List<String>>> getCurrentWordList,
-            Supplier<List<String>> getNewWordList,
-            Consumer<SoftReference<List<String>>> setCurrentWordList) {
-        var localWordList = getCurrentWordList.get();
-        if (localWordList == null || localWordList.get() == null) {
-            List<String> words = getNewWordList.get();
-            setCurrentWordList.accept(new SoftReference<>(words));
-            // immediately return the strong reference
-            return words;
-        }
-
-        return localWordList.get();
-    }
-
-    private static List<String> readWordList(boolean isLegacy) {
-        if (isLegacy) {
-            InputStream wordStream = Mnemonic.class.getClassLoader().getResourceAsStream("legacy-english.txt");
-            try (BufferedReader reader =
-                    new BufferedReader(new InputStreamReader(Objects.requireNonNull(wordStream), UTF_8))) {
-                ArrayList<String> words = new ArrayList<>(4096);
-
-                for (String word = reader.readLine(); word != null; word = reader.readLine()) {
-                    words.add(word);
-                }
-                return Collections.unmodifiableList(words);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-        } else {
-            InputStream wordStream = Mnemonic.class.getClassLoader().getResourceAsStream("bip39-english.txt");
-            try (BufferedReader reader =
-                    new BufferedReader(new InputStreamReader(Objects.requireNonNull(wordStream), UTF_8))) {
-                ArrayList<String> words = new ArrayList<>(2048);
-
-                for (String word = reader.readLine(); word != null; word = reader.readLine()) {
-                    words.add(word);
-                }
-                return Collections.unmodifiableList(words);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-        }
+    private static MnemonicWordList getIndexedWordList(boolean isLegacy) {
+        return isLegacy ? MnemonicWordList.legacy() : MnemonicWordList.bip39();
     }
 
     private static int[] convertRadix(int[] nums, int fromRadix, int toRadix, int toLength) {
@@ -0,0 +1,167 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.utils.Bip32Utils;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Derives many keys of one mnemonic phrase, computing the seed and the keys along the derivation path once.
+ * <p>
+ * {@link Mnemonic#toStandardEd25519PrivateKey(String, int)} and
+ * {@link Mnemonic#toStandardECDSAsecp256k1PrivateKey(String, int)} run the 2048 rounds of PBKDF2 of the seed and walk
+ * the whole derivation path for every key. A key ring runs PBKDF2 once, when it is created, and keeps every
+ * intermediate key it derived, so deriving the key at an index only derives the last step of the path. For ECDSA keys
+ * this also saves recomputing the public key of the parent, which non-hardened derivation hashes.
+ * <p>
+ * The keys are the same as those of the {@link Mnemonic} methods. A key ring holds the master key of the mnemonic in
+ * memory for as long as it is reachable. It is safe to use from several threads at once.
+ */
+public final class MnemonicKeyRing {
+    private static final int[] ED25519_ACCOUNT_PATH = {44, 3030, 0, 0};
+    private static final int[] ECDSA_SECP256K1_ACCOUNT_PATH = {
+        Bip32Utils.toHardenedIndex(44), Bip32Utils.toHardenedIndex(3030), Bip32Utils.toHardenedIndex(0), 0
+    };
+
+    private final PrivateKey masterKey;
+    private final int[] accountPath;
+
+    // Intermediate keys by their path from the master key
+    private final Map<List<Integer>, PrivateKey> nodes = new ConcurrentHashMap<>();
+
+    private MnemonicKeyRing(PrivateKey masterKey, int[] accountPath) {
+        this.masterKey = masterKey;
+        this.accountPath = accountPath;
+
+        masterKey.getPublicKey();
+    }
+
+    /**
+     * Create a key ring of Ed25519 keys along the path {@code m/44'/3030'/0'/0'/index'}, as
+     * {@link Mnemonic#toStandardEd25519PrivateKey(String, int)} derives them.
+     *
+     * @param mnemonic   the mnemonic phrase
+     * @param passphrase the passphrase used to protect the mnemonic, use "" for none
+     * @return the key ring
+     */
+    public static MnemonicKeyRing forEd25519(Mnemonic mnemonic, String passphrase) {
+        Objects.requireNonNull(mnemonic, "mnemonic must not be null");
+        Objects.requireNonNull(passphrase, "passphrase must not be null");
+
+        var seed = mnemonic.toSeed(passphrase);
+        try {
+            return new MnemonicKeyRing(PrivateKey.fromSeedED25519(seed), ED25519_ACCOUNT_PATH);
+        } finally {
+            Arrays.fill(seed, (byte) 0);
+        }
+    }
+
+    /**
+     * Create a key ring of ECDSA(secp256k1) keys along the path {@code m/44'/3030'/0'/0/index}, as
+     * {@link Mnemonic#toStandardECDSAsecp256k1PrivateKey(String, int)} derives them.
+     *
+     * @param mnemonic   the mnemonic phrase
+     * @param passphrase the passphrase used to protect the mnemonic, use "" for none
+     * @return the key ring
+     */
+    public static MnemonicKeyRing forECDSAsecp256k1(Mnemonic mnemonic, String passphrase) {
+        Objects.requireNonNull(mnemonic, "mnemonic must not be null");
+        Objects.requireNonNull(passphrase, "passphrase must not be null");
+
+        var seed = mnemonic.toSeed(passphrase);
+        try {
+            return new MnemonicKeyRing(PrivateKey.fromSeedECDSAsecp256k1(seed), ECDSA_SECP256K1_ACCOUNT_PATH);
+        } finally {
+            Arrays.fill(seed, (byte) 0);
+        }
+    }
+
+    /**
+     * Derive the key at an index of the standard path.
+     *
+     * @param index the derivation index
+     * @return the private key
+     */
+    public PrivateKey derive(int index) {
+        return node(accountPath).derive(index);
+    }
+
+    /**
+     * Derive the keys at a range of indices of the standard path, in parallel on the common fork-join pool.
+     *
+     * @param fromIndex the first index, inclusive
+     * @param toIndex   the last index, exclusive
+     * @return the private keys, in the order of their indices
+     */
+    public List<PrivateKey> deriveRange(int fromIndex, int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex must not be greater than toIndex");
+        }
+
+        var parent = node(accountPath);
+        return IntStream.range(fromIndex, toIndex)
+                .parallel()
+                .mapToObj(parent::derive)
+                .toList();
+    }
+
+    /**
+     * Derive the key at any path from the master key, keeping the keys along the way for later derivations.
+     * <p>
+     * Each index is passed to {@link PrivateKey#derive(int)}: Ed25519 keys harden every index themselves, while
+     * ECDSA indices are hardened with {@link Bip32Utils#toHardenedIndex(int)} where needed.
+     *
+     * @param path the derivation indices, from the master key
+     * @return the private key
+     */
+    public PrivateKey derivePath(int... path) {
+        Objects.requireNonNull(path, "path must not be null");
+        if (path.length == 0) {
+            return masterKey;
+        }
+
+        return node(Arrays.copyOf(path, path.length - 1)).derive(path[path.length - 1]);
+    }
+
+    /**
+     * The number of intermediate keys kept.
+     *
+     * @return the number of keys
+     */
+    public int getCachedNodeCount() {
+        return nodes.size();
+    }
+
+    /**
+     * The key at a path, reusing the keys kept along it. Keys get their public key computed before they are shared, as
+     * non-hardened ECDSA derivation hashes it for every child.
+     */
+    private PrivateKey node(int[] path) {
+        var key = masterKey;
+        Integer[] prefix = new Integer[path.length];
+
+        for (int depth = 0; depth < path.length; depth++) {
+            prefix[depth] = path[depth];
+            var nodePath = List.of(Arrays.copyOf(prefix, depth + 1));
+
+            var node = nodes.get(nodePath);
+            if (node == null) {
+                node = key.derive(path[depth]);
+                node.getPublicKey();
+
+                var existing = nodes.putIfAbsent(nodePath, node);
+                if (existing != null) {
+                    node = existing;
+                }
+            }
+
+            key = node;
+        }
+
+        return key;
+    }
+}
@@ -0,0 +1,147 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A word list of mnemonic phrases, with a hash index of its words so a word is found without scanning the list.
+ * <p>
+ * Words are looked up by any {@link CharSequence}, or range of one, without creating a string. Each list is read from
+ * the classpath once, the first time it is used, and kept for the life of the class loader.
+ */
+final class MnemonicWordList {
+    /**
+     * The words, in the order of their indices.
+     */
+    final List<String> words;
+
+    // Open addressing with linear probing; each slot holds the index of a word plus one, or zero when empty
+    private final int[] slots;
+    private final int mask;
+
+    private MnemonicWordList(List<String> words) {
+        this.words = words;
+
+        // At most half full, so probes stay short
+        int capacity = Integer.highestOneBit(Math.max(1, words.size()) * 4 - 1);
+        this.slots = new int[capacity];
+        this.mask = capacity - 1;
+
+        for (int i = 0; i < words.size(); i++) {
+            var word = words.get(i);
+            int slot = hash(word, 0, word.length()) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = i + 1;
+        }
+    }
+
+    /**
+     * The BIP-39 English word list.
+     *
+     * @return the word list
+     */
+    static MnemonicWordList bip39() {
+        return Bip39.LIST;
+    }
+
+    /**
+     * The word list of the legacy 22-word phrases.
+     *
+     * @return the word list
+     */
+    static MnemonicWordList legacy() {
+        return Legacy.LIST;
+    }
+
+    /**
+     * The index of a word.
+     *
+     * @param word the word
+     * @return the index of the word, or -1 if it is not in the list
+     */
+    int indexOf(CharSequence word) {
+        return indexOf(word, 0, word.length(), false);
+    }
+
+    /**
+     * The index of the word in a range of characters.
+     *
+     * @param text       the characters
+     * @param start      the start of the word, inclusive
+     * @param end        the end of the word, exclusive
+     * @param ignoreCase whether upper case letters match the lower case words of the list
+     * @return the index of the word, or -1 if it is not in the list
+     */
+    int indexOf(CharSequence text, int start, int end, boolean ignoreCase) {
+        int slot = hash(text, start, end) & mask;
+        int entry;
+        while ((entry = slots[slot]) != 0) {
+            if (matches(words.get(entry - 1), text, start, end, ignoreCase)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    private static int hash(CharSequence text, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + Character.toLowerCase(text.charAt(i));
+        }
+
+        // Spread the high bits into the low ones the mask keeps
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean matches(String word, CharSequence text, int start, int end, boolean ignoreCase) {
+        if (word.length() != end - start) {
+            return false;
+        }
+
+        for (int i = 0; i < word.length(); i++) {
+            char c = text.charAt(start + i);
+            if (word.charAt(i) != (ignoreCase ? Character.toLowerCase(c) : c)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static MnemonicWordList read(String resource, int size) {
+        InputStream wordStream = Mnemonic.class.getClassLoader().getResourceAsStream(resource);
+        try (BufferedReader reader =
+                new BufferedReader(new InputStreamReader(Objects.requireNonNull(wordStream), UTF_8))) {
+            ArrayList<String> words = new ArrayList<>(size);
+
+            for (String word = reader.readLine(); word != null; word = reader.readLine()) {
+                words.add(word);
+            }
+            return new MnemonicWordList(Collections.unmodifiableList(words));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    // Loaded on first use by the class initialization of each holder, which the JVM runs once
+    private static final class Bip39 {
+        static final MnemonicWordList LIST = read("bip39-english.txt", 2048);
+    }
+
+    private static final class Legacy {
+        static final MnemonicWordList LIST = read("legacy-english.txt", 4096);
+    }
+}
@@ -0,0 +1,362 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Consumes a topic with several threads while keeping the messages of each key in order.
+ * <p>
+ * Every message is routed by its key to one of a fixed number of lanes. Each lane handles its messages one at a time,
+ * in consensus order, on its own thread, and the lanes run in parallel. Messages with equal keys always share a lane,
+ * so they are handled in the order they were sent; messages with different keys may be handled in any order.
+ * <p>
+ * Because lanes finish at different speeds, the consumer keeps a low watermark: the consensus timestamp of the latest
+ * message such that it and every message before it have been handled. With a
+ * {@link TopicMessageQuery#setCheckpointStore(TopicCheckpointStore) checkpoint store}, checkpoints follow the
+ * watermark, so a resumed subscription starts right after it. At most {@code maxInFlight} messages are received but not
+ * yet below the watermark; after that the subscription stops reading from the mirror node until the slowest lane
+ * catches up.
+ * <p>
+ * The error handler of the query is called when the handler throws, after which the lane carries on with the next
+ * message. The completion handler is called once the subscription ended and every received message was handled.
+ */
+public final class PartitionedTopicConsumer implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PartitionedTopicConsumer.class);
+
+    /**
+     * The default maximum number of received messages that are not yet below the watermark.
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT = 1_024;
+
+    private final TopicMessageQuery query;
+    private final Function<TopicMessage, ?> keyFunction;
+    private final Consumer<TopicMessage> handler;
+    private final int maxInFlight;
+    private final ExecutorService[] lanes;
+
+    // Guarded by `this`, in consensus order
+    private final ArrayDeque<InFlight> inFlight = new ArrayDeque<>();
+
+    // Guarded by `this`
+    private boolean subscribed = false;
+    private boolean streamDone = false;
+    private boolean finished = false;
+
+    @Nullable
+    private Throwable error;
+
+    @Nullable
+    private Instant lowWatermark;
+
+    private long completedCount = 0;
+
+    @Nullable
+    private volatile Flow.Subscription subscription;
+
+    private volatile boolean closed = false;
+
+    /**
+     * Constructor with the default maximum of messages in flight.
+     *
+     * @param query       the query, with a topic ID
+     * @param laneCount   the number of lanes, each with its own thread
+     * @param keyFunction the key of a message, by which messages are kept in order
+     * @param handler     called with each message of the topic
+     */
+    public PartitionedTopicConsumer(
+            TopicMessageQuery query,
+            int laneCount,
+            Function<TopicMessage, ?> keyFunction,
+            Consumer<TopicMessage> handler) {
+        this(query, laneCount, DEFAULT_MAX_IN_FLIGHT, keyFunction, handler);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param query       the query, with a topic ID
+     * @param laneCount   the number of lanes, each with its own thread
+     * @param maxInFlight the maximum number of received messages that are not yet below the watermark
+     * @param keyFunction the key of a message, by which messages are kept in order
+     * @param handler     called with each message of the topic
+     */
+    public PartitionedTopicConsumer(
+            TopicMessageQuery query,
+            int laneCount,
+            int maxInFlight,
+            Function<TopicMessage, ?> keyFunction,
+            Consumer<TopicMessage> handler) {
+        Objects.requireNonNull(query, "query must not be null");
+        Objects.requireNonNull(keyFunction, "keyFunction must not be null");
+        Objects.requireNonNull(handler, "handler must not be null");
+        if (laneCount <= 0) {
+            throw new IllegalArgumentException("laneCount must be greater than zero");
+        }
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be greater than zero");
+        }
+
+        this.query = query;
+        this.keyFunction = keyFunction;
+        this.handler = handler;
+        this.maxInFlight = maxInFlight;
+        this.lanes = new ExecutorService[laneCount];
+
+        for (int i = 0; i < laneCount; i++) {
+            var name = "topic-partition-lane-" + i;
+            lanes[i] = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, name);
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    /**
+     * Subscribe to the topic. A consumer subscribes only once.
+     *
+     * @param client the client whose mirror network is subscribed to
+     * @throws IllegalStateException if the consumer already subscribed or is closed
+     */
+    public void subscribe(Client client) {
+        Objects.requireNonNull(client, "client must not be null");
+
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("PartitionedTopicConsumer is closed");
+            }
+            if (subscribed) {
+                throw new IllegalStateException("PartitionedTopicConsumer already subscribed");
+            }
+            subscribed = true;
+        }
+
+        new TopicMessagePublisher(query, client, maxInFlight).subscribe(new Subscriber());
+    }
+
+    /**
+     * The consensus timestamp of the latest message such that it and every earlier message have been handled.
+     *
+     * @return the timestamp, or {@code null} before the first message was handled
+     */
+    @Nullable
+    public synchronized Instant getLowWatermark() {
+        return lowWatermark;
+    }
+
+    /**
+     * The number of messages below the watermark.
+     *
+     * @return the number of messages
+     */
+    public synchronized long getCompletedCount() {
+        return completedCount;
+    }
+
+    /**
+     * The number of received messages that are not yet below the watermark.
+     *
+     * @return the number of messages
+     */
+    public synchronized int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Unsubscribe and stop the lanes. Messages not handled yet are dropped, and neither the error nor the completion
+     * handler is called.
+     */
+    @Override
+    public void close() {
+        closed = true;
+
+        var subscription = this.subscription;
+        if (subscription != null) {
+            subscription.cancel();
+        }
+
+        for (var lane : lanes) {
+            lane.shutdownNow();
+        }
+    }
+
+    private int laneOf(Object key) {
+        // Spread the high bits, as HashMap does, so keys differing only there still use every lane
+        int hash = Objects.hashCode(key);
+        return Math.floorMod(hash ^ (hash >>> 16), lanes.length);
+    }
+
+    private void handle(InFlight message) {
+        if (closed) {
+            return;
+        }
+
+        try {
+            handler.accept(message.message);
+        } catch (Throwable t) {
+            query.handleError(t, message.message);
+        }
+
+        completed(message);
+    }
+
+    /**
+     * Mark a message as handled and move the watermark past every handled message at the front.
+     */
+    private void completed(InFlight message) {
+        int released = 0;
+        boolean finish;
+
+        synchronized (this) {
+            message.done = true;
+
+            while (!inFlight.isEmpty() && inFlight.peek().done) {
+                var head = inFlight.poll();
+                lowWatermark = head.message.consensusTimestamp;
+                completedCount++;
+                released++;
+
+                // In consensus order, as checkpoints must be
+                try {
+                    head.acknowledge.run();
+                } catch (RuntimeException e) {
+                    LOGGER.error("Failed to save the checkpoint of topic {}", query.getTopicId(), e);
+                }
+            }
+
+            finish = finishIfDone();
+        }
+
+        var subscription = this.subscription;
+        if (released > 0 && subscription != null && !finish) {
+            subscription.request(released);
+        }
+
+        if (finish) {
+            signalFinish();
+        }
+    }
+
+    /**
+     * Whether the subscription ended and every received message was handled, for the first time.
+     */
+    private synchronized boolean finishIfDone() {
+        if (finished || !streamDone || !inFlight.isEmpty() || closed) {
+            return false;
+        }
+
+        finished = true;
+        return true;
+    }
+
+    private void signalFinish() {
+        Throwable throwable;
+        synchronized (this) {
+            throwable = error;
+        }
+
+        for (var lane : lanes) {
+            lane.shutdown();
+        }
+
+        if (throwable != null) {
+            query.handleError(throwable, null);
+        } else {
+            query.handleCompletion();
+        }
+    }
+
+    /**
+     * A received message, until it falls below the watermark.
+     */
+    private static final class InFlight {
+        final TopicMessage message;
+        final Runnable acknowledge;
+
+        // Guarded by the consumer
+        boolean done = false;
+
+        InFlight(TopicMessage message, Runnable acknowledge) {
+            this.message = message;
+            this.acknowledge = acknowledge;
+        }
+    }
+
+    /**
+     * Routes the messages of the subscription to the lanes.
+     */
+    private final class Subscriber implements TopicMessagePublisher.AcknowledgingSubscriber {
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            PartitionedTopicConsumer.this.subscription = subscription;
+
+            if (closed) {
+                subscription.cancel();
+            } else {
+                subscription.request(maxInFlight);
+            }
+        }
+
+        @Override
+        public void onNext(TopicMessage message, Runnable acknowledge) {
+            var entry = new InFlight(message, acknowledge);
+            synchronized (PartitionedTopicConsumer.this) {
+                inFlight.add(entry);
+            }
+
+            int lane;
+            try {
+                lane = laneOf(keyFunction.apply(message));
+            } catch (RuntimeException e) {
+                // Without a key the message cannot be ordered, skip it
+                query.handleError(e, message);
+                completed(entry);
+                return;
+            }
+
+            try {
+                lanes[lane].execute(() -> handle(entry));
+            } catch (RejectedExecutionException e) {
+                // Closed
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            boolean finish;
+            synchronized (PartitionedTopicConsumer.this) {
+                error = throwable;
+                streamDone = true;
+                finish = finishIfDone();
+            }
+
+            if (finish) {
+                signalFinish();
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            boolean finish;
+            synchronized (PartitionedTopicConsumer.this) {
+                streamDone = true;
+                finish = finishIfDone();
+            }
+
+            if (finish) {
+                signalFinish();
+            }
+        }
+    }
+}
@@ -2,9 +2,14 @@
 package com.hedera.hashgraph.sdk;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
 import java.io.StringReader;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nullable;
 import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
@@ -302,6 +307,80 @@ public abstract class PrivateKey extends Key {
         return readPem(new StringReader(encodedPem), password);
     }
 
+    /**
+     * Decrypt a private key from an encrypted JSON keystore.
+     *
+     * @param stream     the keystore
+     * @param passphrase the passphrase of the keystore
+     * @return {@link com.hedera.hashgraph.sdk.PrivateKey}
+     * @throws IOException     if one occurred while reading the keystore
+     * @throws BadKeyException if the keystore is malformed or the passphrase is wrong
+     */
+    public static PrivateKey readKeystore(InputStream stream, String passphrase) throws IOException {
+        return readKeystore(stream, passphrase, null);
+    }
+
+    /**
+     * Decrypt a private key from an encrypted JSON keystore, taking the key derived from the passphrase from a cache
+     * when it holds it.
+     * <p>
+     * Deriving the key takes a long time by design; with a cache, opening the same keystore again, as on a hot reload,
+     * skips it.
+     *
+     * @param stream     the keystore
+     * @param passphrase the passphrase of the keystore
+     * @param cache      the cache of derived keys, or {@code null} to derive the key
+     * @return {@link com.hedera.hashgraph.sdk.PrivateKey}
+     * @throws IOException     if one occurred while reading the keystore
+     * @throws BadKeyException if the keystore is malformed or the passphrase is wrong
+     */
+    public static PrivateKey readKeystore(InputStream stream, String passphrase, @Nullable DerivedKeyCache cache)
+            throws IOException {
+        return Keystore.fromStream(stream, passphrase, cache).getEd25519();
+    }
+
+    /**
+     * Decrypt a private key from an encrypted JSON keystore on an executor.
+     *
+     * @param stream     the keystore
+     * @param passphrase the passphrase of the keystore
+     * @param executor   the executor to decrypt on
+     * @param cache      the cache of derived keys, or {@code null} to derive the key
+     * @return a future completing with the key, or exceptionally with an {@link IOException} or a
+     *         {@link BadKeyException}
+     */
+    public static CompletableFuture<PrivateKey> readKeystoreAsync(
+            InputStream stream, String passphrase, Executor executor, @Nullable DerivedKeyCache cache) {
+        return Keystore.fromStreamAsync(stream, passphrase, executor, cache).thenApply(Keystore::getEd25519);
+    }
+
+    /**
+     * Decrypt the private keys of many encrypted JSON keystores in parallel, on a pool of at most
+     * {@code parallelism} threads that lives as long as the call.
+     *
+     * @param streams     the keystores
+     * @param passphrases the passphrase of each keystore
+     * @param parallelism the maximum number of keystores decrypted at once
+     * @param cache       the cache of derived keys, or {@code null} to derive every key
+     * @return the keys, in the order of the keystores
+     * @throws IOException     if one occurred while reading a keystore
+     * @throws BadKeyException if a keystore is malformed or its passphrase is wrong
+     */
+    public static List<PrivateKey> readKeystores(
+            List<? extends InputStream> streams,
+            List<String> passphrases,
+            int parallelism,
+            @Nullable DerivedKeyCache cache)
+            throws IOException {
+        var keystores = Keystore.fromStreams(streams, passphrases, parallelism, cache);
+
+        var keys = new ArrayList<PrivateKey>(keystores.size());
+        for (var keystore : keystores) {
+            keys.add(keystore.getEd25519());
+        }
+        return keys;
+    }
+
     /**
      * Derive a child key based on the index.
      *
@@ -359,6 +438,37 @@ public abstract class PrivateKey extends Key {
      */
     public abstract byte[] sign(byte[] message);
 
+    /**
+     * Sign a message with this private key, writing the signature into a buffer instead of a new array.
+     *
+     * @param message         the array of bytes to sign with
+     * @param signature       the buffer the signature is written to
+     * @param signatureOffset the offset of the signature in the buffer
+     * @return the length of the signature
+     * @throws IllegalArgumentException if the signature does not fit in the buffer at the offset
+     */
+    public int sign(byte[] message, byte[] signature, int signatureOffset) {
+        var bytes = sign(message);
+        requireSignatureRoom(signature, signatureOffset, bytes.length);
+
+        System.arraycopy(bytes, 0, signature, signatureOffset, bytes.length);
+        return bytes.length;
+    }
+
+    /**
+     * Check that a signature fits in a buffer at an offset.
+     *
+     * @param signature       the buffer the signature is written to
+     * @param signatureOffset the offset of the signature in the buffer
+     * @param length          the length of the signature
+     * @throws IllegalArgumentException if the signature does not fit
+     */
+    static void requireSignatureRoom(byte[] signature, int signatureOffset, int length) {
+        if (signatureOffset < 0 || signature.length - signatureOffset < length) {
+            throw new IllegalArgumentException("signature buffer must have room for " + length + " bytes");
+        }
+    }
+
     /**
      * Sign a transaction.
      *
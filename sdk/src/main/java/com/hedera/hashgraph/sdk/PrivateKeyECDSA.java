@@ -11,7 +11,6 @@ import org.bouncycastle.asn1.*;
 import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
 import org.bouncycastle.asn1.sec.ECPrivateKey;
 import org.bouncycastle.asn1.x9.X962Parameters;
-import org.bouncycastle.crypto.digests.SHA256Digest;
 import org.bouncycastle.crypto.digests.SHA512Digest;
 import org.bouncycastle.crypto.generators.ECKeyPairGenerator;
 import org.bouncycastle.crypto.macs.HMac;
@@ -19,9 +18,6 @@ import org.bouncycastle.crypto.params.ECKeyGenerationParameters;
 import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
 import org.bouncycastle.crypto.params.ECPublicKeyParameters;
 import org.bouncycastle.crypto.params.KeyParameter;
-import org.bouncycastle.crypto.signers.ECDSASigner;
-import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
-import org.bouncycastle.util.Arrays;
 
 /**
  * Encapsulate the ECDSA private key.
@@ -33,6 +29,9 @@ public class PrivateKeyECDSA extends PrivateKey {
     @Nullable
     private final KeyParameter chainCode;
 
+    @Nullable
+    private EcdsaSigningContext signingContext = null; // Set up on the first signature
+
     /**
      * Constructor.
      *
@@ -232,16 +231,24 @@ public class PrivateKeyECDSA extends PrivateKey {
 
     @Override
     public byte[] sign(byte[] message) {
-        var hash = Crypto.calcKeccak256(message);
-
-        var signer = new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()));
-        signer.init(true, new ECPrivateKeyParameters(keyData, ECDSA_SECP256K1_DOMAIN));
-        BigInteger[] bigSig = signer.generateSignature(hash);
+        var signature = new byte[EcdsaSigningContext.SIGNATURE_LENGTH];
+        sign(message, signature, 0);
+        return signature;
+    }
 
-        byte[] sigBytes = Arrays.copyOf(bigIntTo32Bytes(bigSig[0]), 64);
-        System.arraycopy(bigIntTo32Bytes(bigSig[1]), 0, sigBytes, 32, 32);
+    @Override
+    public int sign(byte[] message, byte[] signature, int signatureOffset) {
+        requireSignatureRoom(signature, signatureOffset, EcdsaSigningContext.SIGNATURE_LENGTH);
+
+        var context = signingContext;
+        if (context == null) {
+            // Racing threads may each create one; they sign alike
+            context = new EcdsaSigningContext(keyData);
+            signingContext = context;
+        }
 
-        return sigBytes;
+        context.sign(message, signature, signatureOffset);
+        return EcdsaSigningContext.SIGNATURE_LENGTH;
     }
 
     public int getRecoveryId(byte[] r, byte[] s, byte[] message) {
@@ -236,11 +236,22 @@ class PrivateKeyED25519 extends PrivateKey {
     @Override
     public byte[] sign(byte[] message) {
         byte[] signature = new byte[Ed25519.SIGNATURE_SIZE];
-        Ed25519.sign(keyData, 0, message, 0, message.length, signature, 0);
+        sign(message, signature, 0);
 
         return signature;
     }
 
+    @Override
+    public int sign(byte[] message, byte[] signature, int signatureOffset) {
+        requireSignatureRoom(signature, signatureOffset, Ed25519.SIGNATURE_SIZE);
+
+        // Given the public key, signing skips deriving it from the seed, which is half the cost of a signature
+        var publicKeyData = ((PublicKeyED25519) getPublicKey()).keyData();
+        Ed25519.sign(keyData, 0, publicKeyData, 0, message, 0, message.length, signature, signatureOffset);
+
+        return Ed25519.SIGNATURE_SIZE;
+    }
+
     @Override
     public byte[] toBytes() {
         return toBytesRaw();
@@ -29,9 +29,8 @@ public abstract class PublicKey extends Key {
             // compressed 33 byte raw form
             return PublicKeyECDSA.fromBytesInternal(publicKey);
         } else if (publicKey.length == 65) {
-            // compress the 65 byte form
-            return PublicKeyECDSA.fromBytesInternal(
-                    Key.ECDSA_SECP256K1_CURVE.getCurve().decodePoint(publicKey).getEncoded(true));
+            // uncompressed 65 byte form, compressed by the key
+            return PublicKeyECDSA.fromBytesInternal(publicKey);
         }
 
         // Assume a DER-encoded private key descriptor
@@ -45,7 +44,8 @@ public abstract class PublicKey extends Key {
      * @return                          the new key
      */
     public static PublicKey fromBytesDER(byte[] publicKey) {
-        return PublicKey.fromSubjectKeyInfo(SubjectPublicKeyInfo.getInstance(publicKey));
+        return PublicKeyCache.INSTANCE.intern(
+                PublicKeyCache.DER, publicKey, der -> fromSubjectKeyInfo(SubjectPublicKeyInfo.getInstance(der)));
     }
 
     /**
@@ -123,6 +123,18 @@ public abstract class PublicKey extends Key {
         }
     }
 
+    /**
+     * The counters of the cache of decoded public keys.
+     * <p>
+     * Keys parsed by the SDK, from bytes, strings, protobufs and responses alike, are interned by their encoding, so a
+     * key seen before is not decoded again.
+     *
+     * @return the counters
+     */
+    public static PublicKeyCacheStats getCacheStats() {
+        return PublicKeyCache.INSTANCE.getStats();
+    }
+
     /**
      * The public key from an immutable byte string.
      *
@@ -0,0 +1,101 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.protobuf.ByteString;
+import java.util.function.Function;
+
+/**
+ * Interns decoded public keys by their encoding, so a key that recurs across responses and transactions is decoded,
+ * validated and, for ECDSA, decompressed once.
+ * <p>
+ * Keys are immutable, so every parse of the same encoding may share one instance, along with the curve point it
+ * decoded for verification. The cache is bounded and safe to use from several threads at once.
+ */
+final class PublicKeyCache {
+    /**
+     * The maximum number of keys kept.
+     */
+    static final long MAXIMUM_SIZE = 10_000;
+
+    /**
+     * The keys of the SDK.
+     */
+    static final PublicKeyCache INSTANCE = new PublicKeyCache(MAXIMUM_SIZE);
+
+    /**
+     * Encodings of an ED25519 key, raw or DER.
+     */
+    static final byte ED25519 = 1;
+
+    /**
+     * Encodings of an ECDSA(secp256k1) key, compressed, uncompressed or DER.
+     */
+    static final byte ECDSA_SECP256K1 = 2;
+
+    /**
+     * DER encodings of a key of either type.
+     */
+    static final byte DER = 3;
+
+    private final Cache<ByteString, PublicKey> keys;
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize the maximum number of keys kept
+     */
+    PublicKeyCache(long maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be greater than zero");
+        }
+
+        this.keys = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * The key of an encoding, decoded once.
+     *
+     * @param type    the kind of encoding, as different kinds may share bytes
+     * @param encoded the encoding, which is not kept
+     * @param decoder decodes a copy of the encoding, throwing if it is not a valid key
+     * @param <T>     the type of the key
+     * @return the key
+     */
+    @SuppressWarnings("unchecked")
+    <T extends PublicKey> T intern(byte type, byte[] encoded, Function<byte[], T> decoder) {
+        var cacheKey = ByteString.copyFrom(new byte[] {type}).concat(ByteString.copyFrom(encoded));
+
+        // The type keeps keys of different classes apart
+        var key = (T) keys.getIfPresent(cacheKey);
+        if (key == null) {
+            // Racing threads may decode the same key; either result is kept
+            key = decoder.apply(encoded.clone());
+            keys.put(cacheKey, key);
+        }
+
+        return key;
+    }
+
+    /**
+     * The counters of the cache.
+     *
+     * @return the counters
+     */
+    PublicKeyCacheStats getStats() {
+        var stats = keys.stats();
+        return new PublicKeyCacheStats(
+                stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount(), keys.size());
+    }
+
+    /**
+     * Drop every key.
+     */
+    void clear() {
+        keys.invalidateAll();
+    }
+}
@@ -0,0 +1,55 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * A snapshot of the counters of the cache of decoded public keys, since the SDK was loaded.
+ *
+ * @see PublicKey#getCacheStats()
+ */
+public final class PublicKeyCacheStats {
+    /**
+     * The number of keys decoded from the cache.
+     */
+    public final long hitCount;
+
+    /**
+     * The number of keys decoded from their bytes.
+     */
+    public final long missCount;
+
+    /**
+     * The share of keys decoded from the cache, between 0 and 1; 1 when no key was decoded yet.
+     */
+    public final double hitRate;
+
+    /**
+     * The number of keys evicted to keep the cache within its size.
+     */
+    public final long evictionCount;
+
+    /**
+     * The number of keys in the cache.
+     */
+    public final long size;
+
+    PublicKeyCacheStats(long hitCount, long missCount, double hitRate, long evictionCount, long size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.hitRate = hitRate;
+        this.evictionCount = evictionCount;
+        this.size = size;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("hitCount", hitCount)
+                .add("missCount", missCount)
+                .add("hitRate", hitRate)
+                .add("evictionCount", evictionCount)
+                .add("size", size)
+                .toString();
+    }
+}
@@ -8,6 +8,7 @@ import com.hedera.hashgraph.sdk.proto.SignaturePair;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.util.Arrays;
+import javax.annotation.Nullable;
 import org.bouncycastle.asn1.x509.AlgorithmIdentifier;
 import org.bouncycastle.asn1.x509.SubjectPublicKeyInfo;
 import org.bouncycastle.crypto.params.ECPublicKeyParameters;
@@ -18,7 +19,11 @@ import org.bouncycastle.crypto.signers.ECDSASigner;
  */
 class PublicKeyECDSA extends PublicKey {
     // Compressed 33 byte form
-    private byte[] keyData;
+    private final byte[] keyData;
+
+    // Decoded on the first verification; the point keeps its precomputed multiples across verifications
+    @Nullable
+    private ECPublicKeyParameters parameters = null;
 
     /**
      * Constructor.
@@ -36,14 +41,20 @@ class PublicKeyECDSA extends PublicKey {
      * @return                          the new key
      */
     static PublicKeyECDSA fromBytesInternal(byte[] publicKey) {
+        return PublicKeyCache.INSTANCE.intern(PublicKeyCache.ECDSA_SECP256K1, publicKey, PublicKeyECDSA::decode);
+    }
+
+    private static PublicKeyECDSA decode(byte[] publicKey) {
         // Validate the key if it's not all zero public key, see HIP-540
         if (Arrays.equals(publicKey, new byte[33])) {
             return new PublicKeyECDSA(publicKey);
         }
         if (publicKey.length == 33 || publicKey.length == 65) {
-            return new PublicKeyECDSA(
-                    // compress and validate the key
-                    Key.ECDSA_SECP256K1_CURVE.getCurve().decodePoint(publicKey).getEncoded(true));
+            // compress and validate the key, keeping the point for verification
+            var point = Key.ECDSA_SECP256K1_CURVE.getCurve().decodePoint(publicKey);
+            var key = new PublicKeyECDSA(point.getEncoded(true));
+            key.parameters = new ECPublicKeyParameters(point, Key.ECDSA_SECP256K1_DOMAIN);
+            return key;
         }
 
         // Assume a DER-encoded public key descriptor
@@ -69,11 +80,15 @@ class PublicKeyECDSA extends PublicKey {
     public boolean verify(byte[] message, byte[] signature) {
         var hash = calcKeccak256(message);
 
+        var publicParameters = parameters;
+        if (publicParameters == null) {
+            publicParameters = new ECPublicKeyParameters(
+                    Key.ECDSA_SECP256K1_CURVE.getCurve().decodePoint(keyData), Key.ECDSA_SECP256K1_DOMAIN);
+            parameters = publicParameters;
+        }
+
         ECDSASigner signer = new ECDSASigner();
-        signer.init(
-                false,
-                new ECPublicKeyParameters(
-                        Key.ECDSA_SECP256K1_CURVE.getCurve().decodePoint(keyData), Key.ECDSA_SECP256K1_DOMAIN));
+        signer.init(false, publicParameters);
 
         BigInteger r = new BigInteger(1, Arrays.copyOf(signature, 32));
         BigInteger s = new BigInteger(1, Arrays.copyOfRange(signature, 32, 64));
@@ -5,6 +5,7 @@ import com.google.protobuf.ByteString;
 import com.hedera.hashgraph.sdk.proto.SignaturePair;
 import java.io.IOException;
 import java.util.Arrays;
+import javax.annotation.Nullable;
 import org.bouncycastle.asn1.x509.AlgorithmIdentifier;
 import org.bouncycastle.asn1.x509.SubjectPublicKeyInfo;
 import org.bouncycastle.crypto.params.Ed25519PublicKeyParameters;
@@ -16,6 +17,10 @@ import org.bouncycastle.math.ec.rfc8032.Ed25519;
 class PublicKeyED25519 extends PublicKey {
     private final byte[] keyData;
 
+    // Decoded on the first verification
+    @Nullable
+    private Ed25519.PublicPoint publicPoint = null;
+
     /**
      * Constructor.
      *
@@ -32,6 +37,10 @@ class PublicKeyED25519 extends PublicKey {
      * @return                          the new key
      */
     static PublicKeyED25519 fromBytesInternal(byte[] publicKey) {
+        return PublicKeyCache.INSTANCE.intern(PublicKeyCache.ED25519, publicKey, PublicKeyED25519::decode);
+    }
+
+    private static PublicKeyED25519 decode(byte[] publicKey) {
         if (publicKey.length == Ed25519.PUBLIC_KEY_SIZE) {
             // Validate the key if it's not all zero public key, see HIP-540
             if (!Arrays.equals(publicKey, new byte[32])) {
@@ -56,6 +65,15 @@ class PublicKeyED25519 extends PublicKey {
         return new PublicKeyED25519(subjectPublicKeyInfo.getPublicKeyData().getBytes());
     }
 
+    /**
+     * The key itself rather than a copy, for signing with its private key; it must not be modified.
+     *
+     * @return                          the key
+     */
+    byte[] keyData() {
+        return keyData;
+    }
+
     @Override
     ByteString extractSignatureFromProtobuf(SignaturePair pair) {
         return pair.getEd25519();
@@ -63,7 +81,17 @@ class PublicKeyED25519 extends PublicKey {
 
     @Override
     public boolean verify(byte[] message, byte[] signature) {
-        return Ed25519.verify(signature, 0, keyData, 0, message, 0, message.length);
+        var point = publicPoint;
+        if (point == null) {
+            point = Ed25519.validatePublicKeyPartialExport(keyData, 0);
+            if (point == null) {
+                // Not a point on the curve, such as the all zero key
+                return false;
+            }
+            publicPoint = point;
+        }
+
+        return Ed25519.verify(signature, 0, point, message, 0, message.length);
     }
 
     @Override
@@ -97,7 +125,8 @@ class PublicKeyED25519 extends PublicKey {
 
     @Override
     public byte[] toBytesRaw() {
-        return keyData;
+        // A copy, as the key may be shared
+        return Arrays.copyOf(keyData, keyData.length);
     }
 
     @Override
@@ -0,0 +1,42 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.base.MoreObjects;
+import java.util.List;
+
+/**
+ * What a set of signatures lacks to satisfy a key, as planned by a {@link SignatureRequirementPlanner}.
+ */
+public final class SignatureRequirement {
+    /**
+     * Whether the signatures already satisfy the key.
+     */
+    public final boolean satisfied;
+
+    /**
+     * Whether any set of signatures can satisfy the key; false when it requires more contract keys, or keys of lists
+     * with invalid thresholds, than it can do without.
+     */
+    public final boolean satisfiable;
+
+    /**
+     * The keys that still have to sign, each a {@link PublicKey} or an {@link EvmAddress} of an ECDSA key; empty when
+     * the key is satisfied or cannot be.
+     */
+    public final List<Key> missingKeys;
+
+    SignatureRequirement(boolean satisfied, boolean satisfiable, List<Key> missingKeys) {
+        this.satisfied = satisfied;
+        this.satisfiable = satisfiable;
+        this.missingKeys = missingKeys;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("satisfied", satisfied)
+                .add("satisfiable", satisfiable)
+                .add("missingKeys", missingKeys)
+                .toString();
+    }
+}
@@ -0,0 +1,224 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+/**
+ * Works out locally which signatures a transaction still needs to satisfy a key, such as the key of an account, token
+ * or schedule, so they can be collected before the transaction is submitted instead of after an
+ * {@code INVALID_SIGNATURE}.
+ * <p>
+ * The key is read once, when the planner is created, into a tree whose leaves are the distinct keys a signature can
+ * satisfy, each numbered by a bit. Signatures are then planned as a {@link BitSet} of the keys that signed: a
+ * {@link KeyList} needs all of its keys, or its threshold of them, and picks the keys that need the fewest new
+ * signatures. The keys reported missing are the fewest that satisfy the key when no key appears more than once in it;
+ * otherwise keys shared between lists are preferred, which may not always find the fewest.
+ * <p>
+ * {@link ContractId} and {@link DelegateContractId} keys are satisfied by the contract calling, never by a signature,
+ * so they count as keys that cannot sign. An {@link EvmAddress} is satisfied by the ECDSA key it is the address of.
+ * <p>
+ * A planner is safe to share between threads.
+ */
+public final class SignatureRequirementPlanner {
+    // The keys a signature can satisfy, in the order of their bits
+    private final List<Key> keys = new ArrayList<>();
+    private final Map<Key, Integer> bits = new HashMap<>();
+    private final boolean hasEvmAddresses;
+    private final Node root;
+
+    /**
+     * Constructor.
+     *
+     * @param requiredKey the key the signatures must satisfy; later changes to it are not seen by the planner
+     */
+    public SignatureRequirementPlanner(Key requiredKey) {
+        Objects.requireNonNull(requiredKey, "requiredKey must not be null");
+
+        this.root = compile(requiredKey);
+        this.hasEvmAddresses = keys.stream().anyMatch(key -> key instanceof EvmAddress);
+    }
+
+    /**
+     * Plan the signatures the key still needs, given those a transaction has.
+     * <p>
+     * A key counts as signed only if it signed the transaction of every node.
+     *
+     * @param transaction the frozen transaction
+     * @return what the signatures of the transaction lack
+     */
+    public SignatureRequirement plan(Transaction<?> transaction) {
+        Objects.requireNonNull(transaction, "transaction must not be null");
+
+        Set<PublicKey> signers = null;
+        for (var nodeSignatures : transaction.getSignatures().values()) {
+            if (signers == null) {
+                signers = new HashSet<>(nodeSignatures.keySet());
+            } else {
+                signers.retainAll(nodeSignatures.keySet());
+            }
+        }
+
+        return plan(signers != null ? signers : Collections.emptySet());
+    }
+
+    /**
+     * Plan the signatures the key still needs, given the keys that signed.
+     *
+     * @param signers the keys that signed
+     * @return what the signatures lack
+     */
+    public SignatureRequirement plan(Collection<? extends PublicKey> signers) {
+        Objects.requireNonNull(signers, "signers must not be null");
+
+        var signed = new BitSet(keys.size());
+        for (var signer : signers) {
+            set(signed, signer);
+            if (hasEvmAddresses && signer.isECDSA()) {
+                set(signed, signer.toEvmAddress());
+            }
+        }
+
+        var missing = missing(root, signed);
+        if (missing == null) {
+            return new SignatureRequirement(false, false, Collections.emptyList());
+        }
+
+        var missingKeys = new ArrayList<Key>(missing.cardinality());
+        for (int bit = missing.nextSetBit(0); bit >= 0; bit = missing.nextSetBit(bit + 1)) {
+            missingKeys.add(keys.get(bit));
+        }
+
+        return new SignatureRequirement(missingKeys.isEmpty(), true, Collections.unmodifiableList(missingKeys));
+    }
+
+    private void set(BitSet signed, Key key) {
+        var bit = bits.get(key);
+        if (bit != null) {
+            signed.set(bit);
+        }
+    }
+
+    private Node compile(Key key) {
+        if (key instanceof KeyList keyList) {
+            var children = new Node[keyList.size()];
+            int i = 0;
+            for (var child : keyList) {
+                children[i++] = compile(child);
+            }
+
+            return new Node(keyList.threshold != null ? keyList.threshold : children.length, children, -1);
+        }
+
+        var leaf = key instanceof PrivateKey privateKey ? privateKey.getPublicKey() : key;
+        if (leaf instanceof PublicKey || leaf instanceof EvmAddress) {
+            int bit = bits.computeIfAbsent(leaf, k -> {
+                keys.add(k);
+                return keys.size() - 1;
+            });
+
+            return new Node(1, null, bit);
+        }
+
+        // Contract keys, which no signature satisfies
+        return new Node(1, null, -1);
+    }
+
+    /**
+     * The keys that still have to sign to satisfy a node.
+     *
+     * @param node   the node
+     * @param signed the keys that signed
+     * @return the bits of the keys, or null if no signatures satisfy the node
+     */
+    @Nullable
+    private static BitSet missing(Node node, BitSet signed) {
+        if (node.children == null) {
+            if (node.bit < 0) {
+                return null;
+            }
+
+            var missing = new BitSet();
+            if (!signed.get(node.bit)) {
+                missing.set(node.bit);
+            }
+            return missing;
+        }
+
+        // The network rejects such lists, so no signatures satisfy them
+        if (node.threshold < 1 || node.threshold > node.children.length) {
+            return null;
+        }
+
+        var candidates = new ArrayList<BitSet>(node.children.length);
+        for (var child : node.children) {
+            var missing = missing(child, signed);
+            if (missing != null) {
+                candidates.add(missing);
+            }
+        }
+
+        if (candidates.size() < node.threshold) {
+            return null;
+        }
+
+        // Take the children adding the fewest keys to those taken so far, until the threshold is met
+        var missing = new BitSet();
+        for (int taken = 0; taken < node.threshold; taken++) {
+            int best = -1;
+            int bestCost = Integer.MAX_VALUE;
+            for (int i = 0; i < candidates.size() && bestCost > 0; i++) {
+                var candidate = candidates.get(i);
+                if (candidate != null) {
+                    int cost = countAdded(candidate, missing);
+                    if (cost < bestCost) {
+                        best = i;
+                        bestCost = cost;
+                    }
+                }
+            }
+
+            missing.or(candidates.get(best));
+            candidates.set(best, null);
+        }
+
+        return missing;
+    }
+
+    private static int countAdded(BitSet candidate, BitSet taken) {
+        int count = 0;
+        for (int bit = candidate.nextSetBit(0); bit >= 0; bit = candidate.nextSetBit(bit + 1)) {
+            if (!taken.get(bit)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * A key list, with its children, or a single key, with the bit of the key or -1 if no signature satisfies it.
+     */
+    private static final class Node {
+        final int threshold;
+
+        @Nullable
+        final Node[] children;
+
+        final int bit;
+
+        Node(int threshold, @Nullable Node[] children, int bit) {
+            this.threshold = threshold;
+            this.children = children;
+            this.bit = bit;
+        }
+    }
+}
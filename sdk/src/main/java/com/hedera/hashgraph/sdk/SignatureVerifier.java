@@ -0,0 +1,190 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.proto.SignaturePair;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Verifies the signatures of many transactions, or of many signatures of one transaction, at once.
+ * <p>
+ * The keys of the signatures are looked up among the same interned keys {@link PublicKey#fromBytes(byte[])} returns,
+ * which keep their decoded points, so verifying the signatures of the same signers over and over only pays for the
+ * verification itself. The signatures of a transaction are verified in parallel on an executor.
+ * <p>
+ * A verifier is safe to share between threads.
+ */
+public final class SignatureVerifier {
+    // Fewer signatures than this per task cost more to hand over than to verify on the calling thread
+    private static final int MIN_SIGNATURES_PER_TASK = 4;
+
+    private static final int ED25519_KEY_LENGTH = 32;
+    private static final int ECDSA_KEY_LENGTH = 33;
+    private static final int SIGNATURE_LENGTH = 64;
+
+    private final Executor executor;
+    private final int parallelism;
+
+    /**
+     * Constructor verifying on the common fork-join pool.
+     */
+    public SignatureVerifier() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param executor the executor signatures are verified on, besides the calling thread
+     */
+    public SignatureVerifier(Executor executor) {
+        Objects.requireNonNull(executor, "executor must not be null");
+
+        this.executor = executor;
+        this.parallelism = executor instanceof ForkJoinPool pool
+                ? pool.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Verify a signature of a message, as {@link PublicKey#verify(byte[], byte[])} does, except that a malformed
+     * signature is invalid rather than thrown on.
+     *
+     * @param publicKey the key of the signer
+     * @param message   the message
+     * @param signature the signature
+     * @return whether the signature is valid
+     */
+    public boolean verify(PublicKey publicKey, byte[] message, byte[] signature) {
+        Objects.requireNonNull(publicKey, "publicKey must not be null");
+        Objects.requireNonNull(message, "message must not be null");
+        Objects.requireNonNull(signature, "signature must not be null");
+
+        try {
+            return signature.length == SIGNATURE_LENGTH && publicKey.verify(message, signature);
+        } catch (IllegalArgumentException e) {
+            // The all zero ECDSA key is not a point on the curve
+            return false;
+        }
+    }
+
+    /**
+     * Verify every signature of a transaction, for every node it was frozen for.
+     * <p>
+     * The transaction is frozen first if it was not. Only the signatures present are checked, not whether they satisfy
+     * the keys the transaction requires. A signature whose public key prefix is shorter than the full key cannot be
+     * verified, and counts as invalid.
+     *
+     * @param transaction the transaction
+     * @return whether every signature is valid
+     */
+    public boolean verifyTransaction(Transaction<?> transaction) {
+        Objects.requireNonNull(transaction, "transaction must not be null");
+
+        return verifyTransactions(List.of(transaction)).get(0);
+    }
+
+    /**
+     * Verify every signature of several transactions, all in parallel.
+     *
+     * @param transactions the transactions
+     * @return whether every signature is valid, for each transaction in order
+     * @see #verifyTransaction(Transaction)
+     */
+    public List<Boolean> verifyTransactions(List<? extends Transaction<?>> transactions) {
+        Objects.requireNonNull(transactions, "transactions must not be null");
+
+        var checks = new ArrayList<Check>();
+        for (int i = 0; i < transactions.size(); i++) {
+            var transaction = transactions.get(i);
+            if (!transaction.isFrozen()) {
+                transaction.freeze();
+            }
+
+            for (var signedTransaction : transaction.innerSignedTransactions) {
+                // Shared by the signatures of the body
+                var body = signedTransaction.getBodyBytes().toByteArray();
+                for (var sigPair : signedTransaction.getSigMap().getSigPairList()) {
+                    checks.add(new Check(i, body, sigPair));
+                }
+            }
+        }
+
+        var valid = new boolean[checks.size()];
+        int tasks = Math.max(1, Math.min(parallelism, checks.size() / MIN_SIGNATURES_PER_TASK));
+        var futures = new ArrayList<CompletableFuture<Void>>(tasks - 1);
+
+        for (int task = 1; task < tasks; task++) {
+            int first = task;
+            futures.add(CompletableFuture.runAsync(() -> run(checks, valid, first, tasks), executor));
+        }
+        run(checks, valid, 0, tasks);
+
+        // Makes the results of the other tasks visible
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+
+        var results = new ArrayList<Boolean>(transactions.size());
+        for (int i = 0; i < transactions.size(); i++) {
+            results.add(true);
+        }
+        for (int i = 0; i < checks.size(); i++) {
+            if (!valid[i]) {
+                results.set(checks.get(i).transaction, false);
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Verify every {@code step}-th check from {@code first} on, writing only their own results.
+     */
+    private void run(List<Check> checks, boolean[] valid, int first, int step) {
+        for (int i = first; i < checks.size(); i += step) {
+            valid[i] = verify(checks.get(i));
+        }
+    }
+
+    private boolean verify(Check check) {
+        var sigPair = check.sigPair;
+        var prefix = sigPair.getPubKeyPrefix();
+
+        try {
+            return switch (sigPair.getSignatureCase()) {
+                case ED25519 -> prefix.size() == ED25519_KEY_LENGTH
+                        && verify(
+                                PublicKeyED25519.fromBytesInternal(prefix.toByteArray()),
+                                check.body,
+                                sigPair.getEd25519().toByteArray());
+                case ECDSA_SECP256K1 -> prefix.size() == ECDSA_KEY_LENGTH
+                        && verify(
+                                PublicKeyECDSA.fromBytesInternal(prefix.toByteArray()),
+                                check.body,
+                                sigPair.getECDSASecp256K1().toByteArray());
+                default -> false;
+            };
+        } catch (IllegalArgumentException e) {
+            // Not a point on the curve
+            return false;
+        }
+    }
+
+    /**
+     * A signature of a body to verify, and the index of its transaction.
+     */
+    private static final class Check {
+        final int transaction;
+        final byte[] body;
+        final SignaturePair sigPair;
+
+        Check(int transaction, byte[] body, SignaturePair sigPair) {
+            this.transaction = transaction;
+            this.body = body;
+            this.sigPair = sigPair;
+        }
+    }
+}
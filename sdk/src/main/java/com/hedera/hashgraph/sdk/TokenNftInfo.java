@@ -20,8 +20,9 @@ public class TokenNftInfo {
     public final NftId nftId;
 
     /**
-     * The current owner of the NFT
+     * The current owner of the NFT, or {@code null} if the mirror node reports none, as for a deleted or burned NFT
      */
+    @Nullable
     public final AccountId accountId;
 
     /**
@@ -36,7 +37,9 @@ public class TokenNftInfo {
 
     /**
      * The ledger ID the response was returned from; please see <a href="https://github.com/hashgraph/hedera-improvement-proposal/blob/master/HIP/hip-198.md">HIP-198</a> for the network-specific IDs.
+     * This is {@code null} for NFTs listed from a mirror node by a client that has no ledger ID.
      */
+    @Nullable
     public final LedgerId ledgerId;
 
     /**
@@ -49,18 +52,18 @@ public class TokenNftInfo {
      * Constructor.
      *
      * @param nftId                     the id of the nft
-     * @param accountId                 the current owner of the nft
+     * @param accountId                 the current owner of the nft (null if it has none)
      * @param creationTime              the effective consensus time
      * @param metadata                  the unique metadata
-     * @param ledgerId                  the ledger id of the response
+     * @param ledgerId                  the ledger id of the response (null if unknown)
      * @param spenderId the spender of the allowance (null if not an allowance)
      */
     TokenNftInfo(
             NftId nftId,
-            AccountId accountId,
+            @Nullable AccountId accountId,
             Instant creationTime,
             byte[] metadata,
-            LedgerId ledgerId,
+            @Nullable LedgerId ledgerId,
             @Nullable AccountId spenderId) {
         this.nftId = nftId;
         this.accountId = accountId;
@@ -105,10 +108,14 @@ public class TokenNftInfo {
     com.hedera.hashgraph.sdk.proto.TokenNftInfo toProtobuf() {
         var builder = com.hedera.hashgraph.sdk.proto.TokenNftInfo.newBuilder()
                 .setNftID(nftId.toProtobuf())
-                .setAccountID(accountId.toProtobuf())
                 .setCreationTime(InstantConverter.toProtobuf(creationTime))
-                .setMetadata(ByteString.copyFrom(metadata))
-                .setLedgerId(ledgerId.toByteString());
+                .setMetadata(ByteString.copyFrom(metadata));
+        if (ledgerId != null) {
+            builder.setLedgerId(ledgerId.toByteString());
+        }
+        if (accountId != null) {
+            builder.setAccountID(accountId.toProtobuf());
+        }
         if (spenderId != null) {
             builder.setSpenderId(spenderId.toProtobuf());
         }
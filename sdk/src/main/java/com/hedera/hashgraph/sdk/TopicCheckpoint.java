@@ -0,0 +1,63 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.base.MoreObjects;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * The position of a topic subscription that survives restarts, stored in a {@link TopicCheckpointStore}.
+ * <p>
+ * A subscription resumes from the message right after {@link #resumeAfter} and skips every message with a sequence
+ * number up to {@link #sequenceNumber}. The two differ while the chunks of a message are still arriving: the
+ * subscription has to resume from before its first chunk to reassemble it, without delivering the messages in between
+ * again.
+ */
+public final class TopicCheckpoint {
+    /**
+     * The consensus timestamp to resume after.
+     */
+    public final Instant resumeAfter;
+
+    /**
+     * The sequence number of the last processed message.
+     */
+    public final long sequenceNumber;
+
+    /**
+     * Constructor.
+     *
+     * @param resumeAfter    the consensus timestamp to resume after
+     * @param sequenceNumber the sequence number of the last processed message
+     */
+    public TopicCheckpoint(Instant resumeAfter, long sequenceNumber) {
+        this.resumeAfter = Objects.requireNonNull(resumeAfter, "resumeAfter must not be null");
+        this.sequenceNumber = sequenceNumber;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof TopicCheckpoint that)) {
+            return false;
+        }
+
+        return sequenceNumber == that.sequenceNumber && resumeAfter.equals(that.resumeAfter);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(resumeAfter, sequenceNumber);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("resumeAfter", resumeAfter)
+                .add("sequenceNumber", sequenceNumber)
+                .toString();
+    }
+}
@@ -0,0 +1,44 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import java.io.IOException;
+import javax.annotation.Nullable;
+
+/**
+ * Persists how far the subscriptions of a {@link TopicMessageQuery} have processed each topic, so that they continue
+ * exactly after the last processed message when the process restarts.
+ * <p>
+ * A message counts as processed once the handler passed to {@link TopicMessageQuery#subscribe(Client,
+ * java.util.function.Consumer)}, or the {@code onNext} of a subscriber of {@link TopicMessageQuery#toPublisher(Client)},
+ * returned for it. {@link #save(TopicId, TopicCheckpoint)} is called for every message on the thread delivering it, so
+ * implementations should record the checkpoint cheaply and persist them in batches.
+ *
+ * @see FileTopicCheckpointStore
+ */
+public interface TopicCheckpointStore {
+    /**
+     * Load the checkpoint of a topic.
+     *
+     * @param topicId the topic
+     * @return the checkpoint, or {@code null} if the topic was never processed
+     * @throws IOException if the checkpoint could not be read
+     */
+    @Nullable
+    TopicCheckpoint load(TopicId topicId) throws IOException;
+
+    /**
+     * Record that a topic was processed up to a checkpoint. The checkpoint only has to be durable after
+     * {@link #flush()}.
+     *
+     * @param topicId    the topic
+     * @param checkpoint the new checkpoint
+     */
+    void save(TopicId topicId, TopicCheckpoint checkpoint);
+
+    /**
+     * Persist every checkpoint saved so far.
+     *
+     * @throws IOException if the checkpoints could not be written
+     */
+    default void flush() throws IOException {}
+}
@@ -0,0 +1,87 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import javax.annotation.Nullable;
+
+/**
+ * Tracks the checkpoint of one topic subscription in a {@link TopicCheckpointStore}.
+ */
+final class TopicCheckpointer {
+    private final TopicCheckpointStore store;
+    private final TopicId topicId;
+
+    @Nullable
+    private final TopicCheckpoint initial;
+
+    private TopicCheckpointer(TopicCheckpointStore store, TopicId topicId, @Nullable TopicCheckpoint initial) {
+        this.store = store;
+        this.topicId = topicId;
+        this.initial = initial;
+    }
+
+    /**
+     * Load the checkpoint of a topic.
+     *
+     * @param store   the store
+     * @param topicId the topic
+     * @return the checkpointer
+     * @throws UncheckedIOException if the checkpoint could not be loaded
+     */
+    static TopicCheckpointer load(TopicCheckpointStore store, TopicId topicId) {
+        try {
+            return new TopicCheckpointer(store, topicId, store.load(topicId));
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to load the checkpoint of topic " + topicId, e);
+        }
+    }
+
+    /**
+     * The consensus timestamp the subscription resumes after when it starts.
+     *
+     * @return the timestamp, or {@code null} to start from the start time of the query
+     */
+    @Nullable
+    Instant getResumeAfter() {
+        return initial != null ? initial.resumeAfter : null;
+    }
+
+    /**
+     * Whether a message was already processed before the subscription started.
+     *
+     * @param message the message
+     * @return whether to skip the message
+     */
+    boolean isProcessed(TopicMessage message) {
+        return initial != null && message.sequenceNumber <= initial.sequenceNumber;
+    }
+
+    /**
+     * The consensus timestamp to resume after once a message is processed: right after the message, unless chunks of a
+     * later message arrived before it.
+     *
+     * @param message            the message
+     * @param oldestPendingChunk the consensus timestamp of the oldest chunk of an incomplete message
+     * @return the timestamp
+     */
+    static Instant resumeAfter(TopicMessage message, @Nullable Instant oldestPendingChunk) {
+        if (oldestPendingChunk != null && oldestPendingChunk.isBefore(message.consensusTimestamp)) {
+            return oldestPendingChunk.minusNanos(1);
+        }
+
+        // The consensus timestamp of a chunked message is that of its last chunk
+        return message.consensusTimestamp;
+    }
+
+    /**
+     * Record that a message was processed.
+     *
+     * @param message     the message
+     * @param resumeAfter the timestamp computed by {@link #resumeAfter(TopicMessage, Instant)} when it was received
+     */
+    void processed(TopicMessage message, Instant resumeAfter) {
+        store.save(topicId, new TopicCheckpoint(resumeAfter, message.sequenceNumber));
+    }
+}
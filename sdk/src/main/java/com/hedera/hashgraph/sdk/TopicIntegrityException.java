@@ -0,0 +1,70 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+/**
+ * Signals that the messages received from a mirror node for a topic are not a contiguous, untampered part of the
+ * topic.
+ * <p>
+ * Passed to the error handler of a {@link TopicMessageQuery} with running hash verification enabled, after which the
+ * subscription ends.
+ */
+public class TopicIntegrityException extends Exception {
+    /**
+     * Why a message failed verification.
+     */
+    public enum Reason {
+        /**
+         * The sequence number of the message does not follow the one of the previous message.
+         */
+        SEQUENCE_GAP,
+        /**
+         * The running hash of the message does not follow from the previous running hash and the message.
+         */
+        RUNNING_HASH_MISMATCH
+    }
+
+    /**
+     * The topic.
+     */
+    public final TopicId topicId;
+
+    /**
+     * The sequence number of the message that failed verification.
+     */
+    public final long sequenceNumber;
+
+    /**
+     * The sequence number the message should have had.
+     */
+    public final long expectedSequenceNumber;
+
+    /**
+     * Why the message failed verification.
+     */
+    public final Reason reason;
+
+    /**
+     * Constructor.
+     *
+     * @param topicId                the topic
+     * @param sequenceNumber         the sequence number of the message
+     * @param expectedSequenceNumber the expected sequence number
+     * @param reason                 the reason
+     */
+    TopicIntegrityException(TopicId topicId, long sequenceNumber, long expectedSequenceNumber, Reason reason) {
+        this.topicId = topicId;
+        this.sequenceNumber = sequenceNumber;
+        this.expectedSequenceNumber = expectedSequenceNumber;
+        this.reason = reason;
+    }
+
+    @Override
+    public String getMessage() {
+        if (reason == Reason.SEQUENCE_GAP) {
+            return "topic `" + topicId + "` skipped from sequence number " + expectedSequenceNumber + " to "
+                    + sequenceNumber;
+        }
+
+        return "message " + sequenceNumber + " of topic `" + topicId + "` does not match its running hash";
+    }
+}
@@ -0,0 +1,147 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Packs several application messages into the contents of one topic message, and unpacks them on the subscribing
+ * side.
+ * <p>
+ * A batch starts with the three bytes {@code 0xff 0x48 0x42} (a byte that never starts UTF-8 text, then "HB") and a
+ * version byte, followed by each message as its length in bytes, an unsigned varint, and its bytes. Messages keep their
+ * order, and empty messages are allowed.
+ * <p>
+ * Written by {@link TopicPublisher} with batching enabled; subscribers of such a topic decode every message with
+ * {@link #decode(byte[])}.
+ */
+public final class TopicMessageBatch {
+    /**
+     * The version of the format written by {@link #encode(List)}.
+     */
+    public static final byte VERSION = 1;
+
+    private static final byte MAGIC_0 = (byte) 0xff;
+    private static final byte MAGIC_1 = 0x48;
+    private static final byte MAGIC_2 = 0x42;
+    private static final int HEADER_SIZE = 4;
+
+    private TopicMessageBatch() {}
+
+    /**
+     * The size of a batch of messages.
+     *
+     * @param messages the messages
+     * @return the size in bytes
+     */
+    public static int encodedSize(List<byte[]> messages) {
+        int size = HEADER_SIZE;
+        for (var message : messages) {
+            size += framedSize(message.length);
+        }
+        return size;
+    }
+
+    /**
+     * The number of bytes a message of the given length adds to a batch.
+     *
+     * @param length the length of the message
+     * @return the size in bytes
+     */
+    static int framedSize(int length) {
+        return CodedOutputStream.computeUInt32SizeNoTag(length) + length;
+    }
+
+    /**
+     * The size of an empty batch.
+     *
+     * @return the size in bytes
+     */
+    static int headerSize() {
+        return HEADER_SIZE;
+    }
+
+    /**
+     * Pack messages into a batch.
+     *
+     * @param messages the messages
+     * @return the batch
+     */
+    public static byte[] encode(List<byte[]> messages) {
+        Objects.requireNonNull(messages, "messages must not be null");
+
+        var batch = new byte[encodedSize(messages)];
+        batch[0] = MAGIC_0;
+        batch[1] = MAGIC_1;
+        batch[2] = MAGIC_2;
+        batch[3] = VERSION;
+
+        var output = CodedOutputStream.newInstance(batch, HEADER_SIZE, batch.length - HEADER_SIZE);
+        try {
+            for (var message : messages) {
+                output.writeUInt32NoTag(message.length);
+                output.writeRawBytes(message);
+            }
+            output.checkNoSpaceLeft();
+        } catch (IOException e) {
+            // Sized exactly above
+            throw new IllegalStateException(e);
+        }
+
+        return batch;
+    }
+
+    /**
+     * Whether the contents of a topic message are a batch of the version {@link #decode(byte[])} supports.
+     *
+     * @param contents the contents
+     * @return whether the contents start like such a batch
+     */
+    public static boolean isBatch(byte[] contents) {
+        return hasMagic(contents) && contents[3] == VERSION;
+    }
+
+    private static boolean hasMagic(byte[] contents) {
+        return contents.length >= HEADER_SIZE
+                && contents[0] == MAGIC_0
+                && contents[1] == MAGIC_1
+                && contents[2] == MAGIC_2;
+    }
+
+    /**
+     * Unpack the messages of a batch.
+     *
+     * @param contents the contents of a topic message
+     * @return the messages, in the order they were packed
+     * @throws IllegalArgumentException if the contents are not a batch of a supported version
+     */
+    public static List<byte[]> decode(byte[] contents) {
+        Objects.requireNonNull(contents, "contents must not be null");
+        if (!hasMagic(contents)) {
+            throw new IllegalArgumentException("contents are not a topic message batch");
+        }
+        if (contents[3] != VERSION) {
+            throw new IllegalArgumentException("unsupported topic message batch version " + contents[3]);
+        }
+
+        var input = CodedInputStream.newInstance(contents, HEADER_SIZE, contents.length - HEADER_SIZE);
+        var messages = new ArrayList<byte[]>();
+        try {
+            while (!input.isAtEnd()) {
+                int length = input.readRawVarint32();
+                if (length < 0) {
+                    throw new IllegalArgumentException("negative message length in topic message batch");
+                }
+                messages.add(input.readRawBytes(length));
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("truncated topic message batch", e);
+        }
+
+        return messages;
+    }
+}
@@ -0,0 +1,221 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.proto.TransactionID;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reassembles chunked topic messages from the responses of a subscription.
+ * <p>
+ * Incomplete messages are kept in the order their first chunk arrived, which is also consensus order, so expiry only
+ * has to look at the oldest ones. An incomplete message is dropped when the consensus time or the number of topic
+ * messages since its first chunk exceed their limits, and the oldest ones are dropped while the pending chunks exceed
+ * the memory limit. Expiry is driven by the consensus timestamps of the stream rather than the wall clock, so replaying
+ * old messages behaves the same as following the topic live.
+ * <p>
+ * A buffer lives as long as its subscription, across reconnects, and is not thread-safe: responses must be added by one
+ * thread at a time, as gRPC delivers them.
+ */
+final class TopicMessageChunkBuffer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TopicMessageChunkBuffer.class);
+
+    /**
+     * Caps the capacity preallocated from {@code chunkInfo.total}, which the buffer does not control.
+     */
+    private static final int MAX_PREALLOCATED_CHUNKS = 1024;
+
+    private final long maxPendingBytes;
+    private final Duration timeout;
+    private final long maxSequenceGap;
+    private final Consumer<DroppedTopicMessage> droppedMessageHandler;
+
+    private final LinkedHashMap<TransactionID, PendingMessage> pendingMessages = new LinkedHashMap<>();
+    private long pendingBytes = 0;
+    private long droppedMessageCount = 0;
+
+    /**
+     * Constructor.
+     *
+     * @param maxPendingBytes       the maximum total size of the contents of incomplete messages
+     * @param timeout               the maximum consensus time between the first chunk of a message and the last
+     * @param maxSequenceGap        the maximum number of topic messages between the first and last chunk of a message
+     * @param droppedMessageHandler called with each dropped message
+     */
+    TopicMessageChunkBuffer(
+            long maxPendingBytes,
+            Duration timeout,
+            long maxSequenceGap,
+            Consumer<DroppedTopicMessage> droppedMessageHandler) {
+        this.maxPendingBytes = maxPendingBytes;
+        this.timeout = timeout;
+        this.maxSequenceGap = maxSequenceGap;
+        this.droppedMessageHandler = droppedMessageHandler;
+    }
+
+    /**
+     * Add a response from the subscription.
+     *
+     * @param response the response
+     * @return the message, once all of its chunks arrived
+     */
+    @Nullable
+    TopicMessage add(ConsensusTopicResponse response) {
+        var consensusTimestamp = InstantConverter.fromProtobuf(response.getConsensusTimestamp());
+        expire(consensusTimestamp, response.getSequenceNumber());
+
+        // Short circuit for no chunks or 1/1 chunks
+        if (!response.hasChunkInfo() || response.getChunkInfo().getTotal() <= 1) {
+            return TopicMessage.ofSingle(response);
+        }
+
+        var chunkInfo = response.getChunkInfo();
+        var initialTransactionID = chunkInfo.getInitialTransactionID();
+        var pending = pendingMessages.get(initialTransactionID);
+        int index = chunkInfo.getNumber() - 1;
+
+        if (index < 0
+                || index >= chunkInfo.getTotal()
+                || (pending != null && (pending.total != chunkInfo.getTotal() || pending.numbers.get(index)))) {
+            // Malformed, or already received before a reconnect
+            LOGGER.debug(
+                    "Ignoring chunk {}/{} of {}", chunkInfo.getNumber(), chunkInfo.getTotal(), initialTransactionID);
+            return null;
+        }
+
+        if (pending == null) {
+            pending = new PendingMessage(chunkInfo.getTotal(), response.getSequenceNumber(), consensusTimestamp);
+            pendingMessages.put(initialTransactionID, pending);
+        }
+
+        pending.numbers.set(index);
+        pending.responses.add(response);
+        pending.contentSize += response.getMessage().size();
+        pendingBytes += response.getMessage().size();
+
+        if (pending.responses.size() == pending.total) {
+            pendingMessages.remove(initialTransactionID);
+            pendingBytes -= pending.contentSize;
+            return TopicMessage.ofMany(pending.responses);
+        }
+
+        // Evict the oldest incomplete messages, which may be this one
+        for (var iterator = pendingMessages.entrySet().iterator();
+                pendingBytes > maxPendingBytes && iterator.hasNext(); ) {
+            var oldest = iterator.next();
+            iterator.remove();
+            dropped(oldest, DroppedTopicMessage.Reason.MEMORY_LIMIT);
+        }
+
+        return null;
+    }
+
+    /**
+     * The number of incomplete messages.
+     *
+     * @return the number of messages
+     */
+    int size() {
+        return pendingMessages.size();
+    }
+
+    /**
+     * The total size of the contents of the chunks of incomplete messages.
+     *
+     * @return the size in bytes
+     */
+    long getPendingBytes() {
+        return pendingBytes;
+    }
+
+    /**
+     * The consensus timestamp of the oldest chunk of an incomplete message.
+     *
+     * @return the timestamp, or {@code null} if no message is incomplete
+     */
+    @Nullable
+    Instant getOldestPendingTimestamp() {
+        var iterator = pendingMessages.values().iterator();
+        return iterator.hasNext() ? iterator.next().firstConsensusTimestamp : null;
+    }
+
+    /**
+     * The number of incomplete messages dropped so far.
+     *
+     * @return the number of messages
+     */
+    long getDroppedMessageCount() {
+        return droppedMessageCount;
+    }
+
+    private void expire(Instant consensusTimestamp, long sequenceNumber) {
+        for (var iterator = pendingMessages.entrySet().iterator(); iterator.hasNext(); ) {
+            var oldest = iterator.next();
+            var pending = oldest.getValue();
+
+            DroppedTopicMessage.Reason reason;
+            if (sequenceNumber - pending.firstSequenceNumber > maxSequenceGap) {
+                reason = DroppedTopicMessage.Reason.SEQUENCE_GAP;
+            } else if (Duration.between(pending.firstConsensusTimestamp, consensusTimestamp)
+                            .compareTo(timeout)
+                    > 0) {
+                reason = DroppedTopicMessage.Reason.TIMED_OUT;
+            } else {
+                // Every younger message started later
+                return;
+            }
+
+            iterator.remove();
+            dropped(oldest, reason);
+        }
+    }
+
+    private void dropped(Map.Entry<TransactionID, PendingMessage> entry, DroppedTopicMessage.Reason reason) {
+        var pending = entry.getValue();
+        pendingBytes -= pending.contentSize;
+        droppedMessageCount++;
+
+        var dropped = new DroppedTopicMessage(
+                TransactionId.fromProtobuf(entry.getKey()),
+                pending.responses.size(),
+                pending.total,
+                pending.firstSequenceNumber,
+                pending.contentSize,
+                reason);
+
+        try {
+            droppedMessageHandler.accept(dropped);
+        } catch (RuntimeException e) {
+            LOGGER.error("Dropped message handler failed for {}", dropped, e);
+        }
+    }
+
+    /**
+     * The chunks of a message received so far, in the order they arrived.
+     */
+    private static final class PendingMessage {
+        final int total;
+        final long firstSequenceNumber;
+        final Instant firstConsensusTimestamp;
+        final ArrayList<ConsensusTopicResponse> responses;
+        final BitSet numbers;
+        long contentSize = 0;
+
+        PendingMessage(int total, long firstSequenceNumber, Instant firstConsensusTimestamp) {
+            this.total = total;
+            this.firstSequenceNumber = firstSequenceNumber;
+            this.firstConsensusTimestamp = firstConsensusTimestamp;
+            this.responses = new ArrayList<>(Math.min(total, MAX_PREALLOCATED_CHUNKS));
+            this.numbers = new BitSet(Math.min(total, MAX_PREALLOCATED_CHUNKS));
+        }
+    }
+}
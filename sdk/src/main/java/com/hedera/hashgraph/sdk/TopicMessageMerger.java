@@ -0,0 +1,509 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Merges the messages of several topics into one stream ordered by consensus timestamp.
+ * <p>
+ * Messages of every topic are collected in one heap, and the oldest message is handed to the handler once every topic
+ * has advanced past its timestamp. A topic advances with each message it receives, and for good once its subscription
+ * ended. So that a quiet topic does not hold back the others forever, every topic is also considered advanced up to
+ * {@code maxLateness} before the latest message received from any topic, and up to that latest message once it has
+ * received nothing for {@code maxLateness} of wall-clock time. A message that arrives after later messages were already
+ * handled is late and goes to the late message handler instead, which logs a warning by default.
+ * <p>
+ * The heap holds at most {@code maxBufferedMessages} messages, split evenly between the topics. A topic whose share is
+ * full stops reading from the mirror node until its messages are handled, so the merge moves at the pace of the slowest
+ * topic without buffering the others without bound. A busy topic whose share filled while another topic is silent
+ * therefore waits for the silent topic to go idle.
+ * <p>
+ * The handler is called on one thread at a time. The error and completion handlers of each query are called when its
+ * subscription ends, and the completion handler of the merger once every subscription ended and every message was
+ * handled.
+ */
+public final class TopicMessageMerger implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TopicMessageMerger.class);
+
+    /**
+     * The default maximum number of messages waiting to be merged.
+     */
+    public static final int DEFAULT_MAX_BUFFERED_MESSAGES = 1_024;
+
+    /**
+     * The default time a topic may lag behind the latest message of any topic.
+     */
+    public static final Duration DEFAULT_MAX_LATENESS = Duration.ofSeconds(5);
+
+    // Oldest first; messages with equal timestamps in the order they arrived
+    private static final Comparator<Pending> ORDER =
+            Comparator.comparing((Pending pending) -> pending.message.consensusTimestamp)
+                    .thenComparingLong(pending -> pending.arrival);
+
+    private final BiConsumer<TopicId, TopicMessage> handler;
+    private final List<Input> inputs = new ArrayList<>();
+    private final AtomicInteger drainRequests = new AtomicInteger();
+
+    private int maxBufferedMessages = DEFAULT_MAX_BUFFERED_MESSAGES;
+    private Duration maxLateness = DEFAULT_MAX_LATENESS;
+    private BiConsumer<TopicId, TopicMessage> lateMessageHandler = this::onLateMessage;
+    private Runnable completionHandler = this::onComplete;
+
+    // Guarded by `this`
+    private final PriorityQueue<Pending> heap = new PriorityQueue<>(ORDER);
+    private final ArrayDeque<Pending> lateMessages = new ArrayDeque<>();
+    private long arrivals = 0;
+    private int doneInputs = 0;
+    private boolean subscribed = false;
+    private boolean finished = false;
+    private boolean idleCheckScheduled = false;
+    private long maxIdleNanos;
+
+    @Nullable
+    private Executor executor;
+
+    @Nullable
+    private Instant latestReceived;
+
+    @Nullable
+    private Instant watermark;
+
+    private volatile boolean closed = false;
+
+    /**
+     * Constructor.
+     *
+     * @param handler called with each message, in consensus order, and its topic
+     */
+    public TopicMessageMerger(BiConsumer<TopicId, TopicMessage> handler) {
+        this.handler = Objects.requireNonNull(handler, "handler must not be null");
+    }
+
+    /**
+     * Add a topic to merge.
+     * <p>
+     * Everything but the message handler is configured on the query, which must not be changed afterwards.
+     *
+     * @param query the query, with a topic ID
+     * @return {@code this}
+     * @throws IllegalArgumentException if the topic was already added
+     * @throws IllegalStateException    if the merger already subscribed
+     */
+    public synchronized TopicMessageMerger addTopic(TopicMessageQuery query) {
+        Objects.requireNonNull(query, "query must not be null");
+        requireNotSubscribed();
+
+        var topicId = Objects.requireNonNull(query.getTopicId(), "query must have a topic ID");
+        for (var input : inputs) {
+            if (input.topicId.equals(topicId)) {
+                throw new IllegalArgumentException("topic " + topicId + " was already added");
+            }
+        }
+
+        inputs.add(new Input(query, topicId));
+        return this;
+    }
+
+    /**
+     * Assign the maximum number of messages waiting to be merged, split evenly between the topics but at least one per
+     * topic.
+     *
+     * @param maxBufferedMessages the maximum number of messages
+     * @return {@code this}
+     */
+    public synchronized TopicMessageMerger setMaxBufferedMessages(int maxBufferedMessages) {
+        requireNotSubscribed();
+        if (maxBufferedMessages <= 0) {
+            throw new IllegalArgumentException("maxBufferedMessages must be greater than zero");
+        }
+        this.maxBufferedMessages = maxBufferedMessages;
+        return this;
+    }
+
+    /**
+     * Assign the consensus time a topic may lag behind the latest message received from any topic before the other
+     * topics move on without it, which is also the wall-clock time it may receive nothing before they move on up to
+     * that latest message.
+     *
+     * @param maxLateness the lateness
+     * @return {@code this}
+     */
+    public synchronized TopicMessageMerger setMaxLateness(Duration maxLateness) {
+        requireNotSubscribed();
+        Objects.requireNonNull(maxLateness, "maxLateness must not be null");
+        if (maxLateness.isNegative()) {
+            throw new IllegalArgumentException("maxLateness must not be negative");
+        }
+        this.maxLateness = maxLateness;
+        return this;
+    }
+
+    /**
+     * Assign the handler called with messages that arrived after later messages were already handled.
+     *
+     * @param lateMessageHandler the handler
+     * @return {@code this}
+     */
+    public synchronized TopicMessageMerger setLateMessageHandler(BiConsumer<TopicId, TopicMessage> lateMessageHandler) {
+        requireNotSubscribed();
+        this.lateMessageHandler = Objects.requireNonNull(lateMessageHandler, "lateMessageHandler must not be null");
+        return this;
+    }
+
+    /**
+     * Assign the handler called once every subscription ended and every message was handled.
+     *
+     * @param completionHandler the handler
+     * @return {@code this}
+     */
+    public synchronized TopicMessageMerger setCompletionHandler(Runnable completionHandler) {
+        requireNotSubscribed();
+        this.completionHandler = Objects.requireNonNull(completionHandler, "completionHandler must not be null");
+        return this;
+    }
+
+    /**
+     * Subscribe to every topic. A merger subscribes only once.
+     *
+     * @param client the client whose mirror network is subscribed to
+     * @throws IllegalStateException if no topic was added, or the merger already subscribed or is closed
+     */
+    public void subscribe(Client client) {
+        Objects.requireNonNull(client, "client must not be null");
+
+        int share;
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("TopicMessageMerger is closed");
+            }
+            requireNotSubscribed();
+            if (inputs.isEmpty()) {
+                throw new IllegalStateException("no topic was added");
+            }
+
+            subscribed = true;
+            share = Math.max(1, maxBufferedMessages / inputs.size());
+            executor = client.executor;
+
+            try {
+                maxIdleNanos = maxLateness.toNanos();
+            } catch (ArithmeticException e) {
+                maxIdleNanos = Long.MAX_VALUE;
+            }
+
+            var now = System.nanoTime();
+            for (var input : inputs) {
+                input.lastActivity = now;
+            }
+        }
+
+        for (var input : inputs) {
+            input.share = share;
+            new TopicMessagePublisher(input.query, client, share).subscribe(input);
+        }
+    }
+
+    /**
+     * The consensus timestamp of the last message handed to the handler. Messages older than it are late.
+     *
+     * @return the timestamp, or {@code null} before the first message
+     */
+    @Nullable
+    public synchronized Instant getWatermark() {
+        return watermark;
+    }
+
+    /**
+     * The number of messages waiting to be merged.
+     *
+     * @return the number of messages
+     */
+    public synchronized int getBufferedCount() {
+        return heap.size();
+    }
+
+    /**
+     * Unsubscribe from every topic. Messages not handled yet are dropped, and no completion handler is called.
+     */
+    @Override
+    public void close() {
+        closed = true;
+
+        List<Input> subscribedInputs;
+        synchronized (this) {
+            subscribedInputs = List.copyOf(inputs);
+            heap.clear();
+            lateMessages.clear();
+        }
+
+        for (var input : subscribedInputs) {
+            var subscription = input.subscription;
+            if (subscription != null) {
+                subscription.cancel();
+            }
+        }
+    }
+
+    private void requireNotSubscribed() {
+        if (subscribed) {
+            throw new IllegalStateException("TopicMessageMerger already subscribed");
+        }
+    }
+
+    private void onLateMessage(TopicId topicId, TopicMessage message) {
+        LOGGER.warn(
+                "Dropped late message {} of topic {} at {}",
+                message.sequenceNumber,
+                topicId,
+                message.consensusTimestamp);
+    }
+
+    private void onComplete() {
+        LOGGER.info("Merge of {} topics complete", inputs.size());
+    }
+
+    /**
+     * The timestamp every topic has advanced to, or {@code null} if some topic has not received anything yet.
+     */
+    @Nullable
+    private Instant frontier(long now) {
+        var lateBound = latestReceived != null ? latestReceived.minus(maxLateness) : null;
+
+        Instant frontier = Instant.MAX;
+        for (var input : inputs) {
+            if (input.done) {
+                continue;
+            }
+
+            var advanced = input.lastReceived;
+            if (lateBound != null && (advanced == null || advanced.isBefore(lateBound))) {
+                advanced = lateBound;
+            }
+            if (now - input.lastActivity >= maxIdleNanos && latestReceived != null) {
+                advanced = latestReceived;
+            }
+            if (advanced == null) {
+                return null;
+            }
+            if (advanced.isBefore(frontier)) {
+                frontier = advanced;
+            }
+        }
+
+        return frontier;
+    }
+
+    /**
+     * Drain again once the next topic that received something goes idle, as a topic blocked at its full share waits for
+     * the others without receiving anything that would trigger a drain.
+     */
+    private void scheduleIdleCheck(long now) {
+        if (idleCheckScheduled || executor == null || maxIdleNanos == Long.MAX_VALUE) {
+            return;
+        }
+
+        long delay = Long.MAX_VALUE;
+        for (var input : inputs) {
+            long idle = now - input.lastActivity;
+            if (!input.done && idle < maxIdleNanos) {
+                delay = Math.min(delay, maxIdleNanos - idle);
+            }
+        }
+        if (delay == Long.MAX_VALUE) {
+            return;
+        }
+
+        idleCheckScheduled = true;
+        Delayer.delayFor(TimeUnit.NANOSECONDS.toMillis(delay) + 1, executor).thenRun(() -> {
+            synchronized (this) {
+                idleCheckScheduled = false;
+            }
+            drain();
+        });
+    }
+
+    /**
+     * Hand every message behind the frontier to the handlers, then complete once every input ended. Only ever runs on
+     * one thread at a time.
+     */
+    private void drain() {
+        if (drainRequests.getAndIncrement() != 0) {
+            // The thread currently draining will loop again
+            return;
+        }
+
+        int missed = 1;
+        do {
+            while (!closed) {
+                Pending pending;
+                boolean late;
+                boolean finish = false;
+                synchronized (this) {
+                    pending = lateMessages.poll();
+                    late = pending != null;
+
+                    if (pending == null) {
+                        var now = System.nanoTime();
+                        var head = heap.peek();
+                        var frontier = frontier(now);
+                        if (head != null && frontier != null && !head.message.consensusTimestamp.isAfter(frontier)) {
+                            pending = heap.poll();
+                            watermark = pending.message.consensusTimestamp;
+                        } else if (head != null) {
+                            scheduleIdleCheck(now);
+                        } else if (!finished && doneInputs == inputs.size()) {
+                            finished = true;
+                            finish = true;
+                        }
+                    }
+                }
+
+                if (pending == null) {
+                    if (finish) {
+                        completionHandler.run();
+                    }
+                    break;
+                }
+
+                deliver(pending, late);
+            }
+
+            missed = drainRequests.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void deliver(Pending pending, boolean late) {
+        var input = pending.input;
+
+        try {
+            (late ? lateMessageHandler : handler).accept(input.topicId, pending.message);
+        } catch (Throwable t) {
+            input.query.handleError(t, pending.message);
+        }
+
+        try {
+            pending.acknowledge.run();
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to save the checkpoint of topic {}", input.topicId, e);
+        }
+
+        var subscription = input.subscription;
+        if (subscription != null) {
+            subscription.request(1);
+        }
+    }
+
+    /**
+     * A message waiting to be merged.
+     */
+    private static final class Pending {
+        final TopicMessage message;
+        final Input input;
+        final Runnable acknowledge;
+        final long arrival;
+
+        Pending(TopicMessage message, Input input, Runnable acknowledge, long arrival) {
+            this.message = message;
+            this.input = input;
+            this.acknowledge = acknowledge;
+            this.arrival = arrival;
+        }
+    }
+
+    /**
+     * The subscription to one of the merged topics.
+     */
+    private final class Input implements TopicMessagePublisher.AcknowledgingSubscriber {
+        final TopicMessageQuery query;
+        final TopicId topicId;
+
+        // Set before subscribing
+        int share;
+
+        @Nullable
+        volatile Flow.Subscription subscription;
+
+        // Guarded by the merger
+        @Nullable
+        Instant lastReceived;
+
+        // System.nanoTime() of the last message, or of subscribing
+        long lastActivity;
+
+        boolean done = false;
+
+        Input(TopicMessageQuery query, TopicId topicId) {
+            this.query = query;
+            this.topicId = topicId;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+
+            if (closed) {
+                subscription.cancel();
+            } else {
+                subscription.request(share);
+            }
+        }
+
+        @Override
+        public void onNext(TopicMessage message, Runnable acknowledge) {
+            synchronized (TopicMessageMerger.this) {
+                var timestamp = message.consensusTimestamp;
+                var pending = new Pending(message, this, acknowledge, arrivals++);
+
+                if (watermark != null && timestamp.isBefore(watermark)) {
+                    lateMessages.add(pending);
+                } else {
+                    heap.add(pending);
+                }
+
+                lastReceived = timestamp;
+                lastActivity = System.nanoTime();
+                if (latestReceived == null || timestamp.isAfter(latestReceived)) {
+                    latestReceived = timestamp;
+                }
+            }
+
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            query.handleError(throwable, null);
+            ended();
+        }
+
+        @Override
+        public void onComplete() {
+            query.handleCompletion();
+            ended();
+        }
+
+        private void ended() {
+            synchronized (TopicMessageMerger.this) {
+                done = true;
+                doneInputs++;
+            }
+
+            drain();
+        }
+    }
+}
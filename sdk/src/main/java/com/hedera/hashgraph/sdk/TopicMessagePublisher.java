@@ -0,0 +1,520 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicQuery;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.ClientResponseObserver;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link Flow.Publisher} of a topic's messages whose subscribers control how fast messages are received from the
+ * mirror node.
+ * <p>
+ * Each subscription requests responses from its gRPC stream manually, never more than fit into its buffer of complete
+ * messages, so demand propagates back to the mirror node through gRPC flow control. Created by
+ * {@link TopicMessageQuery#toPublisher(Client, int)}.
+ */
+final class TopicMessagePublisher implements Flow.Publisher<TopicMessage> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TopicMessagePublisher.class);
+
+    private final TopicMessageQuery query;
+    private final Client client;
+    private final int bufferSize;
+
+    @Nullable
+    private final ChannelSource channelSource;
+
+    /**
+     * Constructor.
+     *
+     * @param query      the query configuring each subscription
+     * @param client     the client whose mirror network is subscribed to
+     * @param bufferSize the maximum number of buffered messages per subscription
+     */
+    TopicMessagePublisher(TopicMessageQuery query, Client client, int bufferSize) {
+        this(query, client, bufferSize, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param query      the query configuring each subscription
+     * @param client        the client whose executor runs the retries
+     * @param bufferSize    the maximum number of buffered messages per subscription
+     * @param channelSource the channels to subscribe on, or {@code null} to use the channel of a mirror node of the
+     *                      client picked on every attempt. Subscriptions on the channels of a source are not tracked
+     *                      by the client; whoever owns the channels cancels them.
+     */
+    TopicMessagePublisher(
+            TopicMessageQuery query, Client client, int bufferSize, @Nullable ChannelSource channelSource) {
+        this.query = query;
+        this.client = client;
+        this.bufferSize = bufferSize;
+        this.channelSource = channelSource;
+    }
+
+    /**
+     * Channels owned by someone other than the client, such as a {@link TopicSubscriptionManager}.
+     */
+    interface ChannelSource {
+        /**
+         * Get the channel for a streaming call.
+         *
+         * @param previousNode the mirror node of the previous call, which failed or stalled, or {@code null} for the
+         *                     first call
+         * @return the channel, with the mirror node it connects to
+         * @throws InterruptedException when interrupted while picking a mirror node
+         */
+        NodeChannel getChannel(@Nullable MirrorNode previousNode) throws InterruptedException;
+    }
+
+    /**
+     * A channel to a mirror node.
+     */
+    static final class NodeChannel {
+        final MirrorNode node;
+        final Channel channel;
+
+        NodeChannel(MirrorNode node, Channel channel) {
+            this.node = node;
+            this.channel = channel;
+        }
+    }
+
+    /**
+     * A subscriber that keeps processing a message after {@code onNext} returns, for example on another thread. With a
+     * checkpoint store, the checkpoint of a message is saved once the subscriber acknowledges it rather than when
+     * {@code onNext} returns.
+     */
+    interface AcknowledgingSubscriber extends Flow.Subscriber<TopicMessage> {
+        /**
+         * Receive a message.
+         *
+         * @param message     the message
+         * @param acknowledge to run once the message is processed, in the order the messages were received
+         */
+        void onNext(TopicMessage message, Runnable acknowledge);
+
+        @Override
+        default void onNext(TopicMessage message) {
+            onNext(message, () -> {});
+        }
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super TopicMessage> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber must not be null");
+
+        var subscription = new Subscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        subscription.start();
+    }
+
+    /**
+     * One subscription to the topic, spanning all of its retried streaming calls.
+     * <p>
+     * Responses arrive on gRPC threads and are assembled into messages in the buffer. Messages are delivered to the
+     * subscriber by {@link #drain()}, which only ever runs on one thread at a time and also hands out new gRPC credit
+     * as the buffer empties.
+     */
+    private final class Subscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super TopicMessage> subscriber;
+        private final SubscriptionHandle subscriptionHandle = new SubscriptionHandle();
+        private final AtomicInteger drainRequests = new AtomicInteger();
+
+        // Guarded by `this`
+        private final ArrayDeque<TopicMessage> buffer = new ArrayDeque<>();
+        // With a checkpoint store, where to resume after each buffered message
+        private final ArrayDeque<Instant> resumePoints = new ArrayDeque<>();
+        private long demand = 0;
+        private int outstanding = 0;
+
+        @Nullable
+        private ClientCallStreamObserver<ConsensusTopicQuery> requestStream;
+
+        // Only touched by the gRPC callbacks of the current call, and by the call that follows it
+        private final TopicMessageChunkBuffer chunkBuffer = query.newChunkBuffer();
+
+        @Nullable
+        private final TopicRunningHashVerifier verifier = query.newRunningHashVerifier();
+
+        private long receivedCount = 0;
+
+        @Nullable
+        private ConsensusTopicResponse lastMessage;
+
+        private volatile boolean cancelled = false;
+        private volatile boolean done = false;
+
+        @Nullable
+        private volatile Throwable error;
+
+        @Nullable
+        private volatile TopicCheckpointer checkpointer;
+
+        Subscription(Flow.Subscriber<? super TopicMessage> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                // Reactive Streams rule 3.9
+                clearBuffer();
+                fail(new IllegalArgumentException("request must be greater than zero"));
+                return;
+            }
+
+            synchronized (this) {
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+            }
+
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            subscriptionHandle.unsubscribe();
+            clearBuffer();
+        }
+
+        private synchronized void clearBuffer() {
+            buffer.clear();
+            resumePoints.clear();
+        }
+
+        void start() {
+            try {
+                checkpointer = query.loadCheckpoint();
+            } catch (RuntimeException e) {
+                fail(e);
+                return;
+            }
+
+            connect(0, null);
+        }
+
+        /**
+         * Start a streaming call.
+         *
+         * @param attempt      the attempt, starting at 0
+         * @param previousNode the mirror node of the previous call, avoided if there is another healthy node
+         */
+        void connect(int attempt, @Nullable MirrorNode previousNode) {
+            if (cancelled || done) {
+                return;
+            }
+
+            ClientCall<ConsensusTopicQuery, ConsensusTopicResponse> call;
+            MirrorNode node;
+            try {
+                Channel target;
+                if (channelSource != null) {
+                    var nodeChannel = channelSource.getChannel(previousNode);
+                    node = nodeChannel.node;
+                    target = nodeChannel.channel;
+                } else {
+                    node = client.mirrorNetwork.getNextMirrorNode(previousNode);
+                    target = node.getChannel();
+                }
+                call = target.newCall(ConsensusServiceGrpc.getSubscribeTopicMethod(), CallOptions.DEFAULT);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(e);
+                return;
+            } catch (RuntimeException e) {
+                fail(e);
+                return;
+            }
+
+            var callNode = node;
+            var monitor = query.newStreamMonitor(callNode, client.executor, () -> stalled(call, attempt, callNode));
+
+            subscriptionHandle.setOnUnsubscribe(() -> {
+                client.untrackSubscription(subscriptionHandle);
+
+                monitor.stop();
+                call.cancel("unsubscribe", null);
+            });
+
+            if (channelSource == null) {
+                client.trackSubscription(subscriptionHandle);
+            }
+
+            if (cancelled) {
+                // Cancelled while the call was being set up
+                subscriptionHandle.unsubscribe();
+                return;
+            }
+
+            var topicQuery = query.buildQuery(receivedCount, lastMessage, checkpointer);
+
+            ClientCalls.asyncServerStreamingCall(call, topicQuery, new CallObserver(attempt, callNode, monitor));
+            monitor.start();
+        }
+
+        /**
+         * Move a stalled streaming call to another mirror node.
+         */
+        private void stalled(
+                ClientCall<ConsensusTopicQuery, ConsensusTopicResponse> call, int attempt, MirrorNode node) {
+            call.cancel("stalled", null);
+
+            if (cancelled || done) {
+                return;
+            }
+
+            var error = query.newStallError();
+            if (!query.shouldResubscribe(attempt, error)) {
+                fail(error);
+                return;
+            }
+
+            LOGGER.warn(
+                    "Stream of topic {} stalled during attempt #{}. Moving to another mirror node",
+                    query.getTopicId(),
+                    attempt);
+
+            synchronized (this) {
+                requestStream = null;
+            }
+
+            connect(attempt + 1, node);
+        }
+
+        /**
+         * End the subscription with an error, once the buffered messages have been delivered.
+         */
+        private void fail(Throwable throwable) {
+            error = throwable;
+            done = true;
+            subscriptionHandle.unsubscribe();
+            drain();
+        }
+
+        /**
+         * Deliver buffered messages for as long as there is demand, signal completion once the stream ended and the
+         * buffer is empty, then top up the gRPC credit.
+         */
+        private void drain() {
+            if (drainRequests.getAndIncrement() != 0) {
+                // The thread currently draining will loop again
+                return;
+            }
+
+            int missed = 1;
+            do {
+                while (!cancelled) {
+                    TopicMessage message;
+                    Instant resumeAfter;
+                    boolean empty;
+                    synchronized (this) {
+                        message = demand > 0 ? buffer.poll() : null;
+                        resumeAfter = message != null ? resumePoints.poll() : null;
+                        if (message != null && demand != Long.MAX_VALUE) {
+                            demand--;
+                        }
+                        empty = buffer.isEmpty();
+                    }
+
+                    if (message == null) {
+                        if (empty && done) {
+                            terminate();
+                        }
+                        break;
+                    }
+
+                    var checkpointer = this.checkpointer;
+                    try {
+                        if (checkpointer != null && resumeAfter != null) {
+                            deliver(message, () -> checkpointer.processed(message, resumeAfter));
+                        } else {
+                            subscriber.onNext(message);
+                        }
+                    } catch (Throwable t) {
+                        // Reactive Streams rule 2.13: the subscriber is broken, stop talking to it
+                        LOGGER.error("Subscriber to topic {} failed, cancelling", query.getTopicId(), t);
+                        cancel();
+                        break;
+                    }
+                }
+
+                if (!cancelled) {
+                    replenish();
+                }
+
+                missed = drainRequests.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void deliver(TopicMessage message, Runnable acknowledge) {
+            if (subscriber instanceof AcknowledgingSubscriber acknowledgingSubscriber) {
+                acknowledgingSubscriber.onNext(message, acknowledge);
+            } else {
+                subscriber.onNext(message);
+                acknowledge.run();
+            }
+        }
+
+        private void terminate() {
+            cancelled = true;
+            client.untrackSubscription(subscriptionHandle);
+
+            var throwable = error;
+            if (throwable != null) {
+                subscriber.onError(throwable);
+            } else {
+                subscriber.onComplete();
+            }
+        }
+
+        /**
+         * Request more responses from the mirror node while there is room in the buffer. Credit is handed out in
+         * batches of a quarter of the buffer to avoid a request per message.
+         */
+        private void replenish() {
+            ClientCallStreamObserver<ConsensusTopicQuery> stream;
+            int credit;
+            synchronized (this) {
+                stream = requestStream;
+                credit = bufferSize - buffer.size() - outstanding;
+                if (stream == null || done || credit < Math.max(1, bufferSize / 4)) {
+                    return;
+                }
+                outstanding += credit;
+            }
+
+            stream.request(credit);
+        }
+
+        /**
+         * Receives the responses of one streaming call.
+         */
+        private final class CallObserver
+                implements ClientResponseObserver<ConsensusTopicQuery, ConsensusTopicResponse> {
+            private final int attempt;
+            private final MirrorNode node;
+
+            private final MirrorStreamMonitor monitor;
+
+            CallObserver(int attempt, MirrorNode node, MirrorStreamMonitor monitor) {
+                this.attempt = attempt;
+                this.node = node;
+                this.monitor = monitor;
+            }
+
+            @Override
+            public void beforeStart(ClientCallStreamObserver<ConsensusTopicQuery> stream) {
+                int credit;
+                synchronized (Subscription.this) {
+                    // Credit handed to a previous call is gone with it
+                    credit = bufferSize - buffer.size();
+                    outstanding = credit;
+                    requestStream = stream;
+                }
+
+                stream.disableAutoRequestWithInitial(credit);
+            }
+
+            @Override
+            public void onNext(ConsensusTopicResponse consensusTopicResponse) {
+                if (done
+                        || !monitor.onMessage(
+                                InstantConverter.fromProtobuf(consensusTopicResponse.getConsensusTimestamp()))) {
+                    return;
+                }
+
+                if (verifier != null) {
+                    try {
+                        verifier.verify(consensusTopicResponse);
+                    } catch (TopicIntegrityException e) {
+                        fail(e);
+                        return;
+                    }
+                }
+
+                receivedCount++;
+                lastMessage = consensusTopicResponse;
+
+                var message = chunkBuffer.add(consensusTopicResponse);
+                var checkpointer = Subscription.this.checkpointer;
+                if (message != null && checkpointer != null && checkpointer.isProcessed(message)) {
+                    message = null;
+                }
+
+                synchronized (Subscription.this) {
+                    outstanding--;
+                    if (message != null && !cancelled) {
+                        buffer.add(message);
+                        if (checkpointer != null) {
+                            // Pending chunks only move on with later responses, so capture them now
+                            resumePoints.add(TopicCheckpointer.resumeAfter(
+                                    message, chunkBuffer.getOldestPendingTimestamp()));
+                        }
+                    }
+                }
+
+                drain();
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                if (cancelled || done) {
+                    // Also the cancellation of a call that failed verification
+                    return;
+                }
+
+                if (monitor.hasStalled()) {
+                    // Cancelled after moving to another mirror node
+                    return;
+                }
+
+                monitor.onError();
+
+                if (!query.shouldResubscribe(attempt, t)) {
+                    fail(t);
+                    return;
+                }
+
+                var delay = query.retryDelayMillis(attempt);
+                LOGGER.warn(
+                        "Error subscribing to topic {} during attempt #{}. Waiting {} ms before next attempt: {}",
+                        query.getTopicId(),
+                        attempt,
+                        delay,
+                        t.getMessage());
+
+                synchronized (Subscription.this) {
+                    requestStream = null;
+                }
+
+                Delayer.delayFor(delay, client.executor).thenRun(() -> connect(attempt + 1, node));
+            }
+
+            @Override
+            public void onCompleted() {
+                if (monitor.hasStalled()) {
+                    return;
+                }
+
+                monitor.onCompleted();
+                done = true;
+                drain();
+            }
+        }
+    }
+}
@@ -1,8 +1,6 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.hedera.hashgraph.sdk;
 
-import com.hedera.hashgraph.sdk.proto.Timestamp;
-import com.hedera.hashgraph.sdk.proto.TransactionID;
 import com.hedera.hashgraph.sdk.proto.mirror.ConsensusServiceGrpc;
 import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicQuery;
 import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
@@ -14,14 +12,16 @@ import io.grpc.stub.ClientCalls;
 import io.grpc.stub.StreamObserver;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 import java.util.function.Predicate;
+import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,12 +33,35 @@ public final class TopicMessageQuery {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TopicMessageQuery.class);
 
+    /**
+     * The default maximum size of the chunks of incomplete messages held by a subscription.
+     */
+    public static final long DEFAULT_MAX_PENDING_CHUNK_BYTES = 16L * 1024 * 1024;
+
+    /**
+     * The default maximum consensus time between the first and the last chunk of a message. Every chunk of a message
+     * has to reach consensus within the valid duration of its transaction, at most 3 minutes.
+     */
+    public static final Duration DEFAULT_PENDING_CHUNK_TIMEOUT = Duration.ofMinutes(5);
+
     private final ConsensusTopicQuery.Builder builder;
     private Runnable completionHandler = this::onComplete;
     private BiConsumer<Throwable, TopicMessage> errorHandler = this::onError;
     private int maxAttempts = 10;
     private Duration maxBackoff = Duration.ofSeconds(8L);
     private Predicate<Throwable> retryHandler = this::shouldRetry;
+    private long maxPendingChunkBytes = DEFAULT_MAX_PENDING_CHUNK_BYTES;
+    private Duration pendingChunkTimeout = DEFAULT_PENDING_CHUNK_TIMEOUT;
+    private long maxPendingChunkSequenceGap = Long.MAX_VALUE;
+    private Consumer<DroppedTopicMessage> droppedMessageHandler = this::onDroppedMessage;
+
+    @Nullable
+    private TopicCheckpointStore checkpointStore = null;
+
+    private boolean verifyRunningHashes = false;
+
+    @Nullable
+    private Duration stallTimeout = null;
 
     /**
      * Constructor.
@@ -158,11 +181,120 @@ public final class TopicMessageQuery {
         return this;
     }
 
+    /**
+     * Assign the maximum total size of the chunks of incomplete messages held by a subscription. When it is exceeded,
+     * the incomplete messages with the oldest first chunk are dropped.
+     *
+     * @param maxPendingChunkBytes the maximum size in bytes
+     * @return {@code this}
+     */
+    public TopicMessageQuery setMaxPendingChunkBytes(long maxPendingChunkBytes) {
+        if (maxPendingChunkBytes <= 0) {
+            throw new IllegalArgumentException("maxPendingChunkBytes must be positive");
+        }
+        this.maxPendingChunkBytes = maxPendingChunkBytes;
+        return this;
+    }
+
+    /**
+     * Assign the maximum consensus time between the first and the last chunk of a message, after which an incomplete
+     * message is dropped.
+     *
+     * @param pendingChunkTimeout the timeout
+     * @return {@code this}
+     */
+    public TopicMessageQuery setPendingChunkTimeout(Duration pendingChunkTimeout) {
+        Objects.requireNonNull(pendingChunkTimeout, "pendingChunkTimeout must not be null");
+        if (pendingChunkTimeout.isNegative()) {
+            throw new IllegalArgumentException("pendingChunkTimeout must not be negative");
+        }
+        this.pendingChunkTimeout = pendingChunkTimeout;
+        return this;
+    }
+
+    /**
+     * Assign the maximum number of topic messages between the first and the last chunk of a message, after which an
+     * incomplete message is dropped. Unlimited by default.
+     *
+     * @param maxPendingChunkSequenceGap the maximum number of messages
+     * @return {@code this}
+     */
+    public TopicMessageQuery setMaxPendingChunkSequenceGap(long maxPendingChunkSequenceGap) {
+        if (maxPendingChunkSequenceGap <= 0) {
+            throw new IllegalArgumentException("maxPendingChunkSequenceGap must be positive");
+        }
+        this.maxPendingChunkSequenceGap = maxPendingChunkSequenceGap;
+        return this;
+    }
+
+    /**
+     * Assign the handler called when the chunks of an incomplete message are dropped. The default handler logs a
+     * warning.
+     *
+     * @param droppedMessageHandler the handler
+     * @return {@code this}
+     */
+    public TopicMessageQuery setDroppedMessageHandler(Consumer<DroppedTopicMessage> droppedMessageHandler) {
+        Objects.requireNonNull(droppedMessageHandler, "droppedMessageHandler must not be null");
+        this.droppedMessageHandler = droppedMessageHandler;
+        return this;
+    }
+
+    /**
+     * Assign the store that keeps track of the processed messages of the topic, so that subscriptions resume exactly
+     * after the last processed message instead of at the start time, and never deliver a processed message again.
+     *
+     * @param checkpointStore the store, or {@code null} to not keep track
+     * @return {@code this}
+     */
+    public TopicMessageQuery setCheckpointStore(@Nullable TopicCheckpointStore checkpointStore) {
+        this.checkpointStore = checkpointStore;
+        return this;
+    }
+
+    /**
+     * Assign whether to check that the received messages form an unbroken chain of the topic's running hashes.
+     * <p>
+     * When a message does not follow the previous one, because messages are missing or its running hash does not
+     * match, the error handler is called with a {@link TopicIntegrityException} and the subscription ends. Only running
+     * hash version 3 messages submitted with chunk info can be recomputed; the sequence numbers of all messages are
+     * checked. Disabled by default.
+     *
+     * @param verifyRunningHashes whether to verify the running hashes
+     * @return {@code this}
+     */
+    public TopicMessageQuery setVerifyRunningHashes(boolean verifyRunningHashes) {
+        this.verifyRunningHashes = verifyRunningHashes;
+        return this;
+    }
+
+    /**
+     * Assign the time without messages after which a stream is considered stalled, and the subscription moves to
+     * another mirror node, resuming after the last received message. Moving counts as an attempt.
+     * <p>
+     * A stalled stream cannot be told apart from a topic without new messages, so only set this for topics that
+     * receive messages more often than the timeout. Disabled by default.
+     *
+     * @param stallTimeout the timeout, or {@code null} to never consider a stream stalled
+     * @return {@code this}
+     */
+    public TopicMessageQuery setStallTimeout(@Nullable Duration stallTimeout) {
+        if (stallTimeout != null && (stallTimeout.isNegative() || stallTimeout.isZero())) {
+            throw new IllegalArgumentException("stallTimeout must be positive");
+        }
+        this.stallTimeout = stallTimeout;
+        return this;
+    }
+
     private void onComplete() {
         var topicId = TopicId.fromProtobuf(builder.getTopicID());
         LOGGER.info("Subscription to topic {} complete", topicId);
     }
 
+    private void onDroppedMessage(DroppedTopicMessage droppedMessage) {
+        LOGGER.warn("Dropped incomplete message from topic {}: {}", getTopicId(), droppedMessage);
+    }
+
     private void onError(Throwable throwable, TopicMessage topicMessage) {
         var topicId = TopicId.fromProtobuf(builder.getTopicID());
 
@@ -218,11 +350,22 @@ public final class TopicMessageQuery {
     // TODO: Refactor into a base class when we add more mirror query types
     public SubscriptionHandle subscribe(Client client, Consumer<TopicMessage> onNext) {
         SubscriptionHandle subscriptionHandle = new SubscriptionHandle();
-        HashMap<TransactionID, ArrayList<ConsensusTopicResponse>> pendingMessages = new HashMap<>();
+        var chunkBuffer = newChunkBuffer();
+        var checkpointer = loadCheckpoint();
+        var verifier = newRunningHashVerifier();
 
         try {
             makeStreamingCall(
-                    client, subscriptionHandle, onNext, 0, new AtomicLong(), new AtomicReference<>(), pendingMessages);
+                    client,
+                    subscriptionHandle,
+                    onNext,
+                    0,
+                    new AtomicLong(),
+                    new AtomicReference<>(),
+                    chunkBuffer,
+                    checkpointer,
+                    verifier,
+                    null);
         } catch (InterruptedException e) {
             throw new RuntimeException(e);
         }
@@ -230,6 +373,179 @@ public final class TopicMessageQuery {
         return subscriptionHandle;
     }
 
+    /**
+     * A publisher of the topic's messages that only receives as many messages from the mirror node as its subscriber
+     * requests, buffering at most {@link Flow#defaultBufferSize()} of them.
+     *
+     * @param client the configured client
+     * @return the publisher
+     * @see #toPublisher(Client, int)
+     */
+    public Flow.Publisher<TopicMessage> toPublisher(Client client) {
+        return toPublisher(client, Flow.defaultBufferSize());
+    }
+
+    /**
+     * A publisher of the topic's messages that only receives as many messages from the mirror node as its subscriber
+     * requests.
+     * <p>
+     * Every subscriber gets its own subscription to the topic, configured by this query when it subscribes. Messages
+     * are requested from the mirror node with gRPC flow control so that at most {@code bufferSize} of them are
+     * buffered, and a slow subscriber slows down the stream instead of growing memory. Failed subscriptions are retried
+     * like {@link #subscribe(Client, Consumer)}, resuming after the last received message. The completion and error
+     * handlers of this query are not used; the subscriber is signalled instead.
+     *
+     * @param client     the configured client
+     * @param bufferSize the maximum number of messages received but not yet requested by the subscriber
+     * @return the publisher
+     */
+    public Flow.Publisher<TopicMessage> toPublisher(Client client, int bufferSize) {
+        Objects.requireNonNull(client, "client must not be null");
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize must be greater than zero");
+        }
+
+        return new TopicMessagePublisher(this, client, bufferSize);
+    }
+
+    /**
+     * Get the topic id, for logging.
+     *
+     * @return the topic id
+     */
+    TopicId getTopicId() {
+        return TopicId.fromProtobuf(builder.getTopicID());
+    }
+
+    /**
+     * Pass an error of a subscription to the error handler.
+     *
+     * @param throwable    the error
+     * @param topicMessage the message being handled, if any
+     */
+    void handleError(Throwable throwable, @Nullable TopicMessage topicMessage) {
+        errorHandler.accept(throwable, topicMessage);
+    }
+
+    /**
+     * Signal the completion of a subscription to the completion handler.
+     */
+    void handleCompletion() {
+        completionHandler.run();
+    }
+
+    /**
+     * Build the query for a new streaming call. After a retry the query resumes right after the last received message
+     * and only asks for the remaining messages of the limit. Without a received message, the query resumes after the
+     * checkpoint of the topic, if it has one that is later than the start time.
+     *
+     * @param receivedCount the number of messages received so far
+     * @param lastMessage   the last received message, or {@code null} on the first call
+     * @param checkpointer  the checkpoint of the subscription, or {@code null} without a checkpoint store
+     * @return the query
+     */
+    ConsensusTopicQuery buildQuery(
+            long receivedCount,
+            @Nullable ConsensusTopicResponse lastMessage,
+            @Nullable TopicCheckpointer checkpointer) {
+        Instant resumeAfter;
+        if (lastMessage != null) {
+            resumeAfter = InstantConverter.fromProtobuf(lastMessage.getConsensusTimestamp());
+        } else if (checkpointer != null && checkpointer.getResumeAfter() != null) {
+            resumeAfter = checkpointer.getResumeAfter();
+        } else {
+            return builder.build();
+        }
+
+        var newBuilder = builder.clone();
+
+        if (builder.getLimit() > 0) {
+            newBuilder.setLimit(builder.getLimit() - receivedCount);
+        }
+
+        var nextStartTime = resumeAfter.plusNanos(1);
+        if (!builder.hasConsensusStartTime()
+                || nextStartTime.isAfter(InstantConverter.fromProtobuf(builder.getConsensusStartTime()))) {
+            newBuilder.setConsensusStartTime(InstantConverter.toProtobuf(nextStartTime));
+        }
+
+        return newBuilder.build();
+    }
+
+    /**
+     * Whether a failed streaming call should be retried.
+     *
+     * @param attempt   the attempt that failed, starting at 0
+     * @param throwable the failure
+     * @return whether to retry
+     */
+    boolean shouldResubscribe(int attempt, Throwable throwable) {
+        return attempt < maxAttempts && retryHandler.test(throwable);
+    }
+
+    /**
+     * The delay before retrying a failed streaming call.
+     *
+     * @param attempt the attempt that failed, starting at 0
+     * @return the delay in milliseconds
+     */
+    long retryDelayMillis(int attempt) {
+        return Math.min(500 * (long) Math.pow(2, attempt), maxBackoff.toMillis());
+    }
+
+    /**
+     * Load the checkpoint of the topic from the checkpoint store.
+     *
+     * @return the checkpoint, or {@code null} without a checkpoint store
+     * @throws java.io.UncheckedIOException if the checkpoint could not be loaded
+     */
+    @Nullable
+    TopicCheckpointer loadCheckpoint() {
+        var store = checkpointStore;
+        return store != null ? TopicCheckpointer.load(store, getTopicId()) : null;
+    }
+
+    /**
+     * Create the buffer reassembling the chunked messages of one subscription.
+     *
+     * @return the buffer
+     */
+    TopicMessageChunkBuffer newChunkBuffer() {
+        return new TopicMessageChunkBuffer(
+                maxPendingChunkBytes, pendingChunkTimeout, maxPendingChunkSequenceGap, droppedMessageHandler);
+    }
+
+    /**
+     * Create the verifier of the running hashes of one subscription.
+     *
+     * @return the verifier, or {@code null} if verification is disabled
+     */
+    @Nullable
+    TopicRunningHashVerifier newRunningHashVerifier() {
+        return verifyRunningHashes ? new TopicRunningHashVerifier(getTopicId()) : null;
+    }
+
+    /**
+     * Create the monitor of one streaming call.
+     *
+     * @param node         the mirror node of the call, or {@code null} if unknown
+     * @param executor     the executor the stall handler runs on
+     * @param stallHandler called once the call stalled
+     * @return the monitor
+     */
+    MirrorStreamMonitor newStreamMonitor(@Nullable MirrorNode node, Executor executor, Runnable stallHandler) {
+        return new MirrorStreamMonitor(node, stallTimeout, executor, stallHandler);
+    }
+
+    /**
+     * The error that ends a stalled streaming call.
+     *
+     * @return the error
+     */
+    StatusRuntimeException newStallError() {
+        return MirrorStreamMonitor.stallError(stallTimeout);
+    }
+
     private void makeStreamingCall(
             Client client,
             SubscriptionHandle subscriptionHandle,
@@ -237,95 +553,122 @@ public final class TopicMessageQuery {
             int attempt,
             AtomicLong counter,
             AtomicReference<ConsensusTopicResponse> lastMessage,
-            HashMap<TransactionID, ArrayList<ConsensusTopicResponse>> pendingMessages)
+            TopicMessageChunkBuffer chunkBuffer,
+            @Nullable TopicCheckpointer checkpointer,
+            @Nullable TopicRunningHashVerifier verifier,
+            @Nullable MirrorNode previousNode)
             throws InterruptedException {
         // TODO: check status of channel before using it?
-        ClientCall<ConsensusTopicQuery, ConsensusTopicResponse> call = client.mirrorNetwork
-                .getNextMirrorNode()
-                .getChannel()
-                .newCall(ConsensusServiceGrpc.getSubscribeTopicMethod(), CallOptions.DEFAULT);
+        var node = client.mirrorNetwork.getNextMirrorNode(previousNode);
+        ClientCall<ConsensusTopicQuery, ConsensusTopicResponse> call =
+                node.getChannel().newCall(ConsensusServiceGrpc.getSubscribeTopicMethod(), CallOptions.DEFAULT);
+
+        IntConsumer resubscribe = nextAttempt -> {
+            try {
+                makeStreamingCall(
+                        client,
+                        subscriptionHandle,
+                        onNext,
+                        nextAttempt,
+                        counter,
+                        lastMessage,
+                        chunkBuffer,
+                        checkpointer,
+                        verifier,
+                        node);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        };
+
+        var monitor = newStreamMonitor(node, client.executor, () -> {
+            call.cancel("stalled", null);
+
+            var error = newStallError();
+            if (!shouldResubscribe(attempt, error)) {
+                errorHandler.accept(error, null);
+                return;
+            }
+
+            LOGGER.warn(
+                    "Stream of topic {} stalled during attempt #{}. Moving to another mirror node",
+                    getTopicId(),
+                    attempt);
+            resubscribe.accept(attempt + 1);
+        });
 
         subscriptionHandle.setOnUnsubscribe(() -> {
             client.untrackSubscription(subscriptionHandle);
 
+            monitor.stop();
             call.cancel("unsubscribe", null);
         });
 
         client.trackSubscription(subscriptionHandle);
 
-        var newBuilder = builder;
+        var query = buildQuery(counter.get(), lastMessage.get(), checkpointer);
 
-        // Update the start time and limit on retry
-        if (lastMessage.get() != null) {
-            newBuilder = builder.clone();
-
-            if (builder.getLimit() > 0) {
-                newBuilder.setLimit(builder.getLimit() - counter.get());
-            }
-
-            var lastStartTime = lastMessage.get().getConsensusTimestamp();
-            var nextStartTime = Timestamp.newBuilder(lastStartTime).setNanos(lastStartTime.getNanos() + 1);
-            newBuilder.setConsensusStartTime(nextStartTime);
-        }
-
-        ClientCalls.asyncServerStreamingCall(call, newBuilder.build(), new StreamObserver<>() {
+        ClientCalls.asyncServerStreamingCall(call, query, new StreamObserver<>() {
             @Override
             public void onNext(ConsensusTopicResponse consensusTopicResponse) {
-                counter.incrementAndGet();
-                lastMessage.set(consensusTopicResponse);
+                if (!monitor.onMessage(InstantConverter.fromProtobuf(consensusTopicResponse.getConsensusTimestamp()))) {
+                    return;
+                }
 
-                // Short circuit for no chunks or 1/1 chunks
-                if (!consensusTopicResponse.hasChunkInfo()
-                        || consensusTopicResponse.getChunkInfo().getTotal() == 1) {
-                    var message = TopicMessage.ofSingle(consensusTopicResponse);
+                if (verifier != null) {
+                    if (verifier.hasFailed()) {
+                        return;
+                    }
 
                     try {
-                        onNext.accept(message);
-                    } catch (Throwable t) {
-                        errorHandler.accept(t, message);
+                        verifier.verify(consensusTopicResponse);
+                    } catch (TopicIntegrityException e) {
+                        subscriptionHandle.unsubscribe();
+                        errorHandler.accept(e, null);
+                        return;
                     }
-
-                    return;
                 }
 
-                // get the list of chunks for this pending message
-                var initialTransactionID = consensusTopicResponse.getChunkInfo().getInitialTransactionID();
+                counter.incrementAndGet();
+                lastMessage.set(consensusTopicResponse);
 
-                // Can't use `HashMap.putIfAbsent()` since that method is not available on Android
-                if (!pendingMessages.containsKey(initialTransactionID)) {
-                    pendingMessages.put(initialTransactionID, new ArrayList<>());
+                var message = chunkBuffer.add(consensusTopicResponse);
+                if (message == null || (checkpointer != null && checkpointer.isProcessed(message))) {
+                    return;
                 }
 
-                ArrayList<ConsensusTopicResponse> chunks = pendingMessages.get(initialTransactionID);
-
-                // not possible as we do [putIfAbsent]
-                // add our response to the pending chunk list
-                Objects.requireNonNull(chunks).add(consensusTopicResponse);
-
-                // if we now have enough chunks, emit
-                if (chunks.size() == consensusTopicResponse.getChunkInfo().getTotal()) {
-                    var message = TopicMessage.ofMany(chunks);
+                try {
+                    onNext.accept(message);
+                } catch (Throwable t) {
+                    errorHandler.accept(t, message);
+                    return;
+                }
 
-                    try {
-                        onNext.accept(message);
-                    } catch (Throwable t) {
-                        errorHandler.accept(t, message);
-                    }
+                if (checkpointer != null) {
+                    checkpointer.processed(
+                            message,
+                            TopicCheckpointer.resumeAfter(message, chunkBuffer.getOldestPendingTimestamp()));
                 }
             }
 
             @Override
             public void onError(Throwable t) {
-                if (attempt >= maxAttempts || !retryHandler.test(t)) {
+                if ((verifier != null && verifier.hasFailed()) || monitor.hasStalled()) {
+                    // Cancelled after the integrity error was reported, or after moving to another mirror node
+                    return;
+                }
+
+                monitor.onError();
+
+                if (!shouldResubscribe(attempt, t)) {
                     errorHandler.accept(t, null);
                     return;
                 }
 
-                var delay = Math.min(500 * (long) Math.pow(2, attempt), maxBackoff.toMillis());
-                var topicId = TopicId.fromProtobuf(builder.getTopicID());
+                var delay = retryDelayMillis(attempt);
                 LOGGER.warn(
                         "Error subscribing to topic {} during attempt #{}. Waiting {} ms before next attempt: {}",
-                        topicId,
+                        getTopicId(),
                         attempt,
                         delay,
                         t.getMessage());
@@ -338,18 +681,20 @@ public final class TopicMessageQuery {
                     Thread.currentThread().interrupt();
                 }
 
-                try {
-                    makeStreamingCall(
-                            client, subscriptionHandle, onNext, attempt + 1, counter, lastMessage, pendingMessages);
-                } catch (InterruptedException e) {
-                    throw new RuntimeException(e);
-                }
+                resubscribe.accept(attempt + 1);
             }
 
             @Override
             public void onCompleted() {
+                if (monitor.hasStalled()) {
+                    return;
+                }
+
+                monitor.onCompleted();
                 completionHandler.run();
             }
         });
+
+        monitor.start();
     }
 }
@@ -31,6 +31,12 @@ public final class TopicMessageSubmitTransaction extends ChunkedTransaction<Topi
     @Nullable
     private TopicId topicId = null;
 
+    /**
+     * The chunk of a larger message this transaction submits on its own, so chunks can be submitted concurrently.
+     */
+    @Nullable
+    private ConsensusMessageChunkInfo chunkInfo = null;
+
     /**
      * Constructor.
      */
@@ -167,6 +173,32 @@ public final class TopicMessageSubmitTransaction extends ChunkedTransaction<Topi
         return this;
     }
 
+    /**
+     * Submit one chunk of a larger message, in a transaction of its own.
+     * <p>
+     * The message of this transaction must fit into one chunk, and its transaction ID must be set to the transaction ID
+     * of the chunk.
+     *
+     * @param initialTransactionId the transaction ID of the first chunk
+     * @param number               the number of the chunk, starting at 1
+     * @param total                the number of chunks of the message
+     * @return {@code this}
+     */
+    TopicMessageSubmitTransaction setChunkInfo(TransactionId initialTransactionId, int number, int total) {
+        requireNotFrozen();
+        Objects.requireNonNull(initialTransactionId, "initialTransactionId must not be null");
+        if (number < 1 || number > total) {
+            throw new IllegalArgumentException("chunk number must be between 1 and " + total);
+        }
+
+        chunkInfo = ConsensusMessageChunkInfo.newBuilder()
+                .setInitialTransactionID(initialTransactionId.toProtobuf())
+                .setNumber(number)
+                .setTotal(total)
+                .build();
+        return this;
+    }
+
     /**
      * Initialize from the transaction body.
      */
@@ -235,7 +267,10 @@ public final class TopicMessageSubmitTransaction extends ChunkedTransaction<Topi
             int endIndex,
             int chunk,
             int total) {
-        if (total == 1) {
+        if (total == 1 && chunkInfo != null) {
+            body.setConsensusSubmitMessage(
+                    build().setMessage(data.substring(startIndex, endIndex)).setChunkInfo(chunkInfo));
+        } else if (total == 1) {
             body.setConsensusSubmitMessage(build().setMessage(data.substring(startIndex, endIndex)));
         } else {
             body.setConsensusSubmitMessage(build().setMessage(data.substring(startIndex, endIndex))
@@ -0,0 +1,356 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import javax.annotation.Nullable;
+
+/**
+ * Submits messages to a topic without waiting for each submission before starting the next.
+ * <p>
+ * Up to {@code maxInFlight} transactions are submitted at once; {@link #publish(byte[])} blocks while the window is
+ * full. Messages larger than the chunk size are split into chunks as {@link TopicMessageSubmitTransaction} does, but
+ * every chunk is a transaction of its own and the chunks are submitted concurrently, as the mirror node reassembles
+ * them by their initial transaction ID in any order.
+ * <p>
+ * With a window larger than one, the consensus order of messages may differ from the order they were published in.
+ * Use a window of one for strict ordering, at the cost of one round trip to a node per transaction.
+ * <p>
+ * With {@link #setMaxBatchBytes(int) batching} enabled, small messages published in quick succession are packed into
+ * one topic message with {@link TopicMessageBatch}, which saves a transaction fee and a round trip per message. Every
+ * message of the topic is then a batch, even a message sent alone, and subscribers decode each with
+ * {@link TopicMessageBatch#decode(byte[])}. A batch is submitted once it is full or once it lingered for
+ * {@link #setBatchLinger(Duration)}, whichever comes first.
+ */
+public final class TopicPublisher implements AutoCloseable {
+    /**
+     * The default maximum number of transactions submitted at once.
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT = 64;
+
+    /**
+     * The default time a batch waits for more messages.
+     */
+    public static final Duration DEFAULT_BATCH_LINGER = Duration.ofMillis(5);
+
+    private final Client client;
+    private final TopicId topicId;
+
+    // Serializes publishers, so messages are batched and submitted in the order they were published
+    private final Object publishLock = new Object();
+
+    private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+    private int maxBatchBytes = 0;
+    private Duration batchLinger = DEFAULT_BATCH_LINGER;
+    private int chunkSize = 1024;
+    private int maxChunks = 20;
+
+    @Nullable
+    private volatile Semaphore window;
+
+    // Guarded by `this`
+    @Nullable
+    private Batch batch;
+
+    private volatile boolean closed = false;
+
+    /**
+     * Constructor.
+     *
+     * @param client  the client, with an operator paying for the transactions
+     * @param topicId the topic to submit to
+     */
+    public TopicPublisher(Client client, TopicId topicId) {
+        this.client = Objects.requireNonNull(client, "client must not be null");
+        this.topicId = Objects.requireNonNull(topicId, "topicId must not be null");
+    }
+
+    /**
+     * Assign the maximum number of transactions submitted at once.
+     *
+     * @param maxInFlight the maximum number of transactions
+     * @return {@code this}
+     */
+    public synchronized TopicPublisher setMaxInFlight(int maxInFlight) {
+        requireNotStarted();
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be greater than zero");
+        }
+
+        this.maxInFlight = maxInFlight;
+        return this;
+    }
+
+    /**
+     * Assign the maximum size of a batch in bytes, including the framing, or zero to not batch messages.
+     * <p>
+     * Batches never exceed one chunk, so the limit is the smaller of this value and the chunk size. A message that does
+     * not fit in a batch is not batched with others: it is sent on its own as a chunked message, still framed as a
+     * batch of one so subscribers decode it like any other.
+     *
+     * @param maxBatchBytes the maximum size of a batch
+     * @return {@code this}
+     */
+    public synchronized TopicPublisher setMaxBatchBytes(int maxBatchBytes) {
+        requireNotStarted();
+        if (maxBatchBytes < 0) {
+            throw new IllegalArgumentException("maxBatchBytes must not be negative");
+        }
+
+        this.maxBatchBytes = maxBatchBytes;
+        return this;
+    }
+
+    /**
+     * Assign the time a batch waits for more messages before it is submitted.
+     *
+     * @param batchLinger the time
+     * @return {@code this}
+     */
+    public synchronized TopicPublisher setBatchLinger(Duration batchLinger) {
+        requireNotStarted();
+        Objects.requireNonNull(batchLinger, "batchLinger must not be null");
+        if (batchLinger.isNegative()) {
+            throw new IllegalArgumentException("batchLinger must not be negative");
+        }
+
+        this.batchLinger = batchLinger;
+        return this;
+    }
+
+    /**
+     * Assign the size of a chunk in bytes.
+     *
+     * @param chunkSize the chunk size
+     * @return {@code this}
+     */
+    public synchronized TopicPublisher setChunkSize(int chunkSize) {
+        requireNotStarted();
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be greater than zero");
+        }
+
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * Assign the maximum number of chunks of a message.
+     *
+     * @param maxChunks the maximum number of chunks
+     * @return {@code this}
+     */
+    public synchronized TopicPublisher setMaxChunks(int maxChunks) {
+        requireNotStarted();
+        if (maxChunks <= 0) {
+            throw new IllegalArgumentException("maxChunks must be greater than zero");
+        }
+
+        this.maxChunks = maxChunks;
+        return this;
+    }
+
+    /**
+     * Publish a message, blocking while the window of transactions is full.
+     * <p>
+     * The future completes once the transactions carrying the message reached a node, with the response of each chunk,
+     * or of the batch the message was packed into. Like {@link TopicMessageSubmitTransaction}, it does not wait for
+     * consensus; use {@link TransactionResponse#getReceiptAsync(Client)} for that.
+     *
+     * @param message the message
+     * @return the responses of the transactions carrying the message
+     * @throws InterruptedException  if interrupted while waiting for the window, in which case chunks of the message
+     *                               may already have been submitted
+     * @throws IllegalStateException if the publisher is closed
+     */
+    public CompletableFuture<List<TransactionResponse>> publish(byte[] message) throws InterruptedException {
+        Objects.requireNonNull(message, "message must not be null");
+
+        synchronized (publishLock) {
+            var window = start();
+
+            int batchBytes = Math.min(maxBatchBytes, chunkSize);
+            if (maxBatchBytes == 0) {
+                return submit(message, window);
+            }
+
+            int framedSize = TopicMessageBatch.framedSize(message.length);
+            if (TopicMessageBatch.headerSize() + framedSize > batchBytes) {
+                flush();
+                return submit(TopicMessageBatch.encode(List.of(message)), window);
+            }
+
+            synchronized (this) {
+                if (batch != null && batch.size + framedSize <= batchBytes) {
+                    batch.add(message, framedSize);
+                    return batch.future;
+                }
+            }
+
+            flush();
+
+            // The permit of a batch is taken when it is opened, so the linger timer never waits for the window
+            window.acquire();
+            var opened = new Batch();
+            opened.add(message, framedSize);
+            synchronized (this) {
+                batch = opened;
+            }
+
+            Delayer.delayFor(batchLinger.toMillis(), client.executor).thenRun(() -> flush(opened));
+            return opened.future;
+        }
+    }
+
+    /**
+     * Submit the open batch now, without waiting for more messages.
+     */
+    public void flush() {
+        Batch full;
+        synchronized (this) {
+            full = batch;
+            batch = null;
+        }
+
+        if (full != null) {
+            send(full);
+        }
+    }
+
+    /**
+     * Submit the open batch, and reject messages published from now on. Transactions already submitted are not waited
+     * for.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        flush();
+    }
+
+    private synchronized void requireNotStarted() {
+        if (window != null) {
+            throw new IllegalStateException("TopicPublisher already started publishing");
+        }
+    }
+
+    private synchronized Semaphore start() {
+        if (closed) {
+            throw new IllegalStateException("TopicPublisher is closed");
+        }
+        if (window == null) {
+            window = new Semaphore(maxInFlight);
+        }
+
+        return window;
+    }
+
+    private void flush(Batch lingered) {
+        synchronized (this) {
+            if (batch != lingered) {
+                // Already full or flushed
+                return;
+            }
+            batch = null;
+        }
+
+        send(lingered);
+    }
+
+    private void send(Batch full) {
+        var window = Objects.requireNonNull(this.window);
+        var contents = TopicMessageBatch.encode(full.messages);
+
+        execute(new TopicMessageSubmitTransaction().setMessage(contents), window)
+                .thenApply(List::of)
+                .whenComplete((responses, error) -> {
+                    if (error != null) {
+                        full.future.completeExceptionally(error);
+                    } else {
+                        full.future.complete(responses);
+                    }
+                });
+    }
+
+    /**
+     * Submit a message in one transaction, or in one transaction per chunk.
+     */
+    private CompletableFuture<List<TransactionResponse>> submit(byte[] contents, Semaphore window)
+            throws InterruptedException {
+        int total = Math.max(1, (contents.length + chunkSize - 1) / chunkSize);
+        if (total > maxChunks) {
+            throw new IllegalArgumentException("message of " + contents.length + " bytes requires " + total
+                    + " chunks but the maximum allowed chunks is " + maxChunks + ", try using setMaxChunks");
+        }
+
+        if (total == 1) {
+            window.acquire();
+            return execute(new TopicMessageSubmitTransaction().setMessage(contents), window)
+                    .thenApply(List::of);
+        }
+
+        var operatorAccountId = client.getOperatorAccountId();
+        if (operatorAccountId == null) {
+            throw new IllegalStateException(
+                    "`client` must have an `operator` or the transaction ID of each chunk must be known");
+        }
+
+        // Chunk IDs follow the initial one by a nanosecond each, as ChunkedTransaction generates them
+        var initialTransactionId = TransactionId.generate(operatorAccountId);
+        var validStart = Objects.requireNonNull(initialTransactionId.validStart);
+        var futures = new ArrayList<CompletableFuture<TransactionResponse>>(total);
+
+        for (int i = 0; i < total; i++) {
+            int start = i * chunkSize;
+            int end = Math.min(start + chunkSize, contents.length);
+            var transaction = new TopicMessageSubmitTransaction()
+                    .setMessage(ByteString.copyFrom(contents, start, end - start))
+                    .setTransactionId(TransactionId.withValidStart(operatorAccountId, validStart.plusNanos(i)))
+                    .setChunkInfo(initialTransactionId, i + 1, total);
+
+            window.acquire();
+            futures.add(execute(transaction, window));
+        }
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .thenApply(v -> futures.stream().map(CompletableFuture::join).toList());
+    }
+
+    /**
+     * Execute a transaction holding a permit of the window, which is released once the transaction completes.
+     */
+    private CompletableFuture<TransactionResponse> execute(
+            TopicMessageSubmitTransaction transaction, Semaphore window) {
+        CompletableFuture<TransactionResponse> future;
+        try {
+            future = transaction
+                    .setTopicId(topicId)
+                    .setChunkSize(chunkSize)
+                    .setMaxChunks(1)
+                    .executeAsync(client);
+        } catch (RuntimeException e) {
+            window.release();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return future.whenComplete((response, error) -> window.release());
+    }
+
+    /**
+     * Messages waiting to be submitted together, holding a permit of the window.
+     */
+    private static final class Batch {
+        final List<byte[]> messages = new ArrayList<>();
+        final CompletableFuture<List<TransactionResponse>> future = new CompletableFuture<>();
+        int size = TopicMessageBatch.headerSize();
+
+        void add(byte[] message, int framedSize) {
+            messages.add(message);
+            size += framedSize;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteOutput;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Checks that the responses of a subscription form an unbroken chain of the topic's running hashes.
+ * <p>
+ * Each running hash is the SHA-384 hash of the previous running hash, the running hash version, the payer, the topic,
+ * the consensus timestamp, the sequence number and the SHA-384 hash of the message. Only version 3 of the running hash
+ * covers all of these, and only responses with chunk info carry the payer, so other responses are checked for their
+ * sequence number only and their running hash is taken as is for the next one. The first response seeds the chain.
+ * <p>
+ * Consensus nodes write these fields to an {@link java.io.ObjectOutputStream} and hash what it produced: the stream
+ * header, then the fields as a single block of data, as they are far shorter than a block can be. The same framing is
+ * hashed here without the stream.
+ * <p>
+ * The digests and buffers are allocated once and reused for every response, and messages are hashed straight from the
+ * received bytes. A verifier lives as long as its subscription, across reconnects, and is not thread-safe.
+ */
+final class TopicRunningHashVerifier {
+    /**
+     * The running hash version covering the payer and the hash of the message.
+     */
+    static final long RUNNING_HASH_VERSION = 3;
+
+    private static final int HASH_SIZE = 48;
+
+    // version, payer, topic, consensus seconds and nanos, sequence number
+    private static final int FIELDS_SIZE = 8 + 3 * 8 + 3 * 8 + 8 + 4 + 8;
+
+    // The ObjectOutputStream header (STREAM_MAGIC, STREAM_VERSION), then TC_BLOCKDATA and the length of the block
+    private static final byte[] STREAM_PREFIX = {
+        (byte) 0xac, (byte) 0xed, 0x00, 0x05, 0x77, (byte) (HASH_SIZE + FIELDS_SIZE + HASH_SIZE)
+    };
+
+    private final TopicId topicId;
+    private final MessageDigest runningHashDigest;
+    private final MessageDigest messageDigest;
+    private final ByteOutput messageOutput;
+
+    private final ByteBuffer fields = ByteBuffer.allocate(FIELDS_SIZE);
+    private final byte[] previousRunningHash = new byte[HASH_SIZE];
+    private final byte[] hash = new byte[HASH_SIZE];
+
+    private boolean hasPrevious = false;
+    private long nextSequenceNumber = 0;
+    private long verifiedCount = 0;
+    private long unverifiedCount = 0;
+    private boolean failed = false;
+
+    /**
+     * Constructor.
+     *
+     * @param topicId the topic of the subscription
+     */
+    TopicRunningHashVerifier(TopicId topicId) {
+        this.topicId = topicId;
+
+        try {
+            runningHashDigest = MessageDigest.getInstance("SHA-384");
+            messageDigest = MessageDigest.getInstance("SHA-384");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        messageOutput = new DigestOutput(messageDigest);
+    }
+
+    /**
+     * Verify the next response of the subscription.
+     *
+     * @param response the response
+     * @throws TopicIntegrityException if the response does not follow the previous one
+     */
+    void verify(ConsensusTopicResponse response) throws TopicIntegrityException {
+        long sequenceNumber = response.getSequenceNumber();
+        if (nextSequenceNumber != 0 && sequenceNumber != nextSequenceNumber) {
+            failed = true;
+            throw new TopicIntegrityException(
+                    topicId, sequenceNumber, nextSequenceNumber, TopicIntegrityException.Reason.SEQUENCE_GAP);
+        }
+
+        var runningHash = response.getRunningHash();
+        if (hasPrevious && response.getRunningHashVersion() == RUNNING_HASH_VERSION && response.hasChunkInfo()) {
+            computeRunningHash(response);
+            if (!matches(runningHash)) {
+                failed = true;
+                throw new TopicIntegrityException(
+                        topicId, sequenceNumber, sequenceNumber, TopicIntegrityException.Reason.RUNNING_HASH_MISMATCH);
+            }
+            verifiedCount++;
+        } else {
+            unverifiedCount++;
+        }
+
+        hasPrevious = runningHash.size() == HASH_SIZE;
+        if (hasPrevious) {
+            runningHash.copyTo(previousRunningHash, 0);
+        }
+        nextSequenceNumber = sequenceNumber + 1;
+    }
+
+    /**
+     * Whether a response failed verification, after which the subscription must not go on.
+     *
+     * @return whether verification failed
+     */
+    boolean hasFailed() {
+        return failed;
+    }
+
+    /**
+     * The number of responses whose running hash was recomputed and matched.
+     *
+     * @return the number of responses
+     */
+    long getVerifiedCount() {
+        return verifiedCount;
+    }
+
+    /**
+     * The number of responses whose running hash could not be recomputed, because they seeded the chain, used an older
+     * running hash version or lacked the payer.
+     *
+     * @return the number of responses
+     */
+    long getUnverifiedCount() {
+        return unverifiedCount;
+    }
+
+    private void computeRunningHash(ConsensusTopicResponse response) {
+        try {
+            messageDigest.reset();
+            UnsafeByteOperations.unsafeWriteTo(response.getMessage(), messageOutput);
+            messageDigest.digest(hash, 0, HASH_SIZE);
+
+            var payer = response.getChunkInfo().getInitialTransactionID().getAccountID();
+            var consensusTimestamp = response.getConsensusTimestamp();
+            fields.clear();
+            fields.putLong(RUNNING_HASH_VERSION)
+                    .putLong(payer.getShardNum())
+                    .putLong(payer.getRealmNum())
+                    .putLong(payer.getAccountNum())
+                    .putLong(topicId.shard)
+                    .putLong(topicId.realm)
+                    .putLong(topicId.num)
+                    .putLong(consensusTimestamp.getSeconds())
+                    .putInt(consensusTimestamp.getNanos())
+                    .putLong(response.getSequenceNumber())
+                    .flip();
+
+            runningHashDigest.reset();
+            runningHashDigest.update(STREAM_PREFIX);
+            runningHashDigest.update(previousRunningHash);
+            runningHashDigest.update(fields);
+            runningHashDigest.update(hash);
+            runningHashDigest.digest(hash, 0, HASH_SIZE);
+        } catch (DigestException e) {
+            throw new IllegalStateException(e);
+        } catch (IOException e) {
+            // The digest output does not throw
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean matches(ByteString runningHash) {
+        if (runningHash.size() != HASH_SIZE) {
+            return false;
+        }
+
+        for (int i = 0; i < HASH_SIZE; i++) {
+            if (hash[i] != runningHash.byteAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Feeds the bytes of a {@link ByteString} to a digest without copying them.
+     */
+    private static final class DigestOutput extends ByteOutput {
+        private final MessageDigest digest;
+
+        DigestOutput(MessageDigest digest) {
+            this.digest = digest;
+        }
+
+        @Override
+        public void write(byte value) {
+            digest.update(value);
+        }
+
+        @Override
+        public void write(byte[] value, int offset, int length) {
+            digest.update(value, offset, length);
+        }
+
+        @Override
+        public void writeLazy(byte[] value, int offset, int length) {
+            digest.update(value, offset, length);
+        }
+
+        @Override
+        public void write(ByteBuffer value) {
+            digest.update(value);
+        }
+
+        @Override
+        public void writeLazy(ByteBuffer value) {
+            digest.update(value);
+        }
+    }
+}
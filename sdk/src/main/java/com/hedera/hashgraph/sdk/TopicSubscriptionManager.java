@@ -0,0 +1,516 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.base.MoreObjects;
+import io.grpc.ManagedChannel;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Subscribes to many topics at once over a bounded number of mirror node connections.
+ * <p>
+ * Each topic is a flow-controlled subscription as returned by {@link TopicMessageQuery#toPublisher(Client, int)},
+ * placed on the least used of at most {@code maxChannels} channels. gRPC multiplexes the streams of a channel over one
+ * HTTP/2 connection, so thousands of topics do not need thousands of connections. Reconnects back off as configured on
+ * each query and are all scheduled by the SDK's shared timer thread. When a stream fails or stalls, its channel is
+ * replaced by one to another mirror node, which the other topics of the channel move to as they reconnect. A channel
+ * is opened by the first topic placed on it and shut down once it has none left.
+ * <p>
+ * Messages are handed to the handler of their topic on a fixed pool of {@code workerThreads} threads, one message at a
+ * time and in order for each topic, while different topics are handled in parallel. A slow handler only holds back its
+ * own topic: once {@code bufferSize} of its messages are waiting, its stream stops reading from the mirror node.
+ * <p>
+ * Topics can be added and removed at any time. The error and completion handlers of each query are called when its
+ * subscription ends, after which the topic is removed. Closing the manager, or the client it was created with,
+ * unsubscribes from every topic.
+ */
+public final class TopicSubscriptionManager implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TopicSubscriptionManager.class);
+
+    /**
+     * The default maximum number of mirror node channels.
+     */
+    public static final int DEFAULT_MAX_CHANNELS = 4;
+
+    /**
+     * The default number of threads running the handlers.
+     */
+    public static final int DEFAULT_WORKER_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    /**
+     * The default maximum number of received messages waiting for the handler of each topic.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 64;
+
+    /**
+     * The most messages of one topic handled before its worker thread moves on to other topics.
+     */
+    private static final int MAX_BATCH = 64;
+
+    private final Client client;
+    private final int bufferSize;
+    private final ExecutorService workers;
+    private final ConcurrentHashMap<TopicId, Topic> topics = new ConcurrentHashMap<>();
+    private final SubscriptionHandle subscriptionHandle = new SubscriptionHandle();
+
+    // Guarded by `this`
+    private final ManagedChannel[] channels;
+    private final MirrorNode[] channelNodes;
+    private final int[] channelTopics;
+    private boolean closed = false;
+
+    /**
+     * Constructor with the default limits.
+     *
+     * @param client the client whose mirror network is subscribed to
+     */
+    public TopicSubscriptionManager(Client client) {
+        this(client, DEFAULT_MAX_CHANNELS, DEFAULT_WORKER_THREADS, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param client        the client whose mirror network is subscribed to
+     * @param maxChannels   the maximum number of mirror node channels
+     * @param workerThreads the number of threads running the handlers
+     * @param bufferSize    the maximum number of received messages waiting for the handler of each topic
+     */
+    public TopicSubscriptionManager(Client client, int maxChannels, int workerThreads, int bufferSize) {
+        Objects.requireNonNull(client, "client must not be null");
+        if (maxChannels <= 0) {
+            throw new IllegalArgumentException("maxChannels must be greater than zero");
+        }
+        if (workerThreads <= 0) {
+            throw new IllegalArgumentException("workerThreads must be greater than zero");
+        }
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize must be greater than zero");
+        }
+
+        this.client = client;
+        this.bufferSize = bufferSize;
+        this.channels = new ManagedChannel[maxChannels];
+        this.channelNodes = new MirrorNode[maxChannels];
+        this.channelTopics = new int[maxChannels];
+        this.workers = Executors.newFixedThreadPool(workerThreads, r -> {
+            Thread t = new Thread(r, "topic-subscription-worker");
+            t.setDaemon(true);
+            return t;
+        });
+
+        subscriptionHandle.setOnUnsubscribe(this::close);
+        client.trackSubscription(subscriptionHandle);
+    }
+
+    /**
+     * Subscribe to the topic of a query.
+     * <p>
+     * Everything but the handlers is configured on the query, which must not be changed afterwards. Its error handler
+     * is also called when the handler throws, and the subscription then carries on with the next message.
+     *
+     * @param query   the query, with a topic ID
+     * @param handler called with each message of the topic
+     * @throws IllegalStateException if the topic is already subscribed to, or the manager is closed
+     */
+    public void subscribe(TopicMessageQuery query, Consumer<TopicMessage> handler) {
+        Objects.requireNonNull(query, "query must not be null");
+        Objects.requireNonNull(handler, "handler must not be null");
+        var topicId = query.getTopicId();
+
+        Topic topic;
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("TopicSubscriptionManager is closed");
+            }
+            if (topics.containsKey(topicId)) {
+                throw new IllegalStateException("already subscribed to topic " + topicId);
+            }
+
+            int channelIndex = leastUsedChannel();
+            channelTopics[channelIndex]++;
+            topic = new Topic(topicId, query, handler, channelIndex);
+            topics.put(topicId, topic);
+        }
+
+        new TopicMessagePublisher(query, client, bufferSize, previousNode -> getChannel(topic, previousNode))
+                .subscribe(topic);
+    }
+
+    /**
+     * Unsubscribe from a topic. Messages already handed to a worker thread may still reach the handler.
+     *
+     * @param topicId the topic
+     * @return whether the topic was subscribed to
+     */
+    public boolean unsubscribe(TopicId topicId) {
+        var topic = topics.get(Objects.requireNonNull(topicId, "topicId must not be null"));
+        if (topic == null || !remove(topic)) {
+            return false;
+        }
+
+        topic.cancel();
+        return true;
+    }
+
+    /**
+     * The topics currently subscribed to.
+     *
+     * @return the topic IDs
+     */
+    public Set<TopicId> getTopicIds() {
+        return Set.copyOf(topics.keySet());
+    }
+
+    /**
+     * The metrics of a topic.
+     *
+     * @param topicId the topic
+     * @return the metrics, or {@code null} if the topic is not subscribed to
+     */
+    @Nullable
+    public TopicMetrics getMetrics(TopicId topicId) {
+        var topic = topics.get(Objects.requireNonNull(topicId, "topicId must not be null"));
+        return topic != null ? topic.metrics() : null;
+    }
+
+    /**
+     * The metrics of every topic currently subscribed to.
+     *
+     * @return the metrics by topic
+     */
+    public Map<TopicId, TopicMetrics> getMetrics() {
+        var metrics = new HashMap<TopicId, TopicMetrics>();
+        for (var topic : topics.values()) {
+            metrics.put(topic.topicId, topic.metrics());
+        }
+        return metrics;
+    }
+
+    /**
+     * Unsubscribe from every topic and release the channels and worker threads. The error and completion handlers are
+     * not called.
+     */
+    @Override
+    public void close() {
+        ManagedChannel[] openChannels;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            openChannels = channels.clone();
+        }
+
+        client.untrackSubscription(subscriptionHandle);
+
+        for (var topicId : topics.keySet()) {
+            unsubscribe(topicId);
+        }
+
+        workers.shutdown();
+
+        for (var channel : openChannels) {
+            if (channel != null) {
+                channel.shutdownNow();
+            }
+        }
+    }
+
+    private int leastUsedChannel() {
+        int index = 0;
+        for (int i = 1; i < channelTopics.length; i++) {
+            if (channelTopics[i] < channelTopics[index]) {
+                index = i;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Get the channel for a streaming call of a topic, opening it on first use and moving it to another mirror node
+     * when the previous call of the topic failed on it.
+     */
+    private synchronized TopicMessagePublisher.NodeChannel getChannel(Topic topic, @Nullable MirrorNode previousNode)
+            throws InterruptedException {
+        // A channel must not be opened again for a topic that has already been removed from it
+        if (closed || topics.get(topic.topicId) != topic) {
+            throw new IllegalStateException("no longer subscribed to topic " + topic.topicId);
+        }
+
+        int index = topic.channelIndex;
+        var channel = channels[index];
+
+        // Another topic of the channel may already have moved it off the failed node
+        if (channel == null || (previousNode != null && previousNode == channelNodes[index])) {
+            var node = client.mirrorNetwork.getNextMirrorNode(previousNode);
+            if (channel == null || node != channelNodes[index]) {
+                if (channel != null) {
+                    // The calls of other topics still on the old channel carry on until they fail or stall as well
+                    channel.shutdown();
+                }
+
+                channel = node.createChannel();
+                channels[index] = channel;
+                channelNodes[index] = node;
+            }
+        }
+
+        return new TopicMessagePublisher.NodeChannel(channelNodes[index], channel);
+    }
+
+    private synchronized boolean remove(Topic topic) {
+        // The topic may have been unsubscribed and subscribed to again since
+        if (!topics.remove(topic.topicId, topic)) {
+            return false;
+        }
+
+        int index = topic.channelIndex;
+        if (--channelTopics[index] == 0 && channels[index] != null) {
+            // Lets the call of the topic end as it is cancelled
+            channels[index].shutdown();
+            channels[index] = null;
+            channelNodes[index] = null;
+        }
+        return true;
+    }
+
+    /**
+     * The activity of one topic's subscription.
+     */
+    public static final class TopicMetrics {
+        /**
+         * The topic.
+         */
+        public final TopicId topicId;
+
+        /**
+         * The number of messages handed to the handler.
+         */
+        public final long processedCount;
+
+        /**
+         * The number of received messages waiting for the handler.
+         */
+        public final int queuedCount;
+
+        /**
+         * The consensus timestamp of the last message handed to the handler, if any.
+         */
+        @Nullable
+        public final Instant lastConsensusTimestamp;
+
+        /**
+         * The time between the consensus timestamp of the last handled message and when these metrics were taken.
+         */
+        @Nullable
+        public final Duration lag;
+
+        TopicMetrics(
+                TopicId topicId,
+                long processedCount,
+                int queuedCount,
+                @Nullable Instant lastConsensusTimestamp,
+                @Nullable Duration lag) {
+            this.topicId = topicId;
+            this.processedCount = processedCount;
+            this.queuedCount = queuedCount;
+            this.lastConsensusTimestamp = lastConsensusTimestamp;
+            this.lag = lag;
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                    .add("topicId", topicId)
+                    .add("processedCount", processedCount)
+                    .add("queuedCount", queuedCount)
+                    .add("lastConsensusTimestamp", lastConsensusTimestamp)
+                    .add("lag", lag)
+                    .toString();
+        }
+    }
+
+    /**
+     * The subscriber of one topic, which queues its messages and hands them to the handler on a worker thread.
+     * <p>
+     * At most one worker runs a topic at a time, and it gives up its thread after {@link #MAX_BATCH} messages so a busy
+     * topic cannot starve the others. One message is requested from the subscription for each message handled.
+     */
+    private final class Topic implements TopicMessagePublisher.AcknowledgingSubscriber, Runnable {
+        final TopicId topicId;
+        final TopicMessageQuery query;
+        final Consumer<TopicMessage> handler;
+        final int channelIndex;
+
+        private final ConcurrentLinkedQueue<TopicMessage> queue = new ConcurrentLinkedQueue<>();
+        private final ConcurrentLinkedQueue<Runnable> acknowledgements = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        @Nullable
+        private volatile Flow.Subscription subscription;
+
+        @Nullable
+        private volatile Instant lastConsensusTimestamp;
+
+        private volatile boolean cancelled = false;
+        private volatile boolean done = false;
+
+        @Nullable
+        private volatile Throwable error;
+
+        Topic(TopicId topicId, TopicMessageQuery query, Consumer<TopicMessage> handler, int channelIndex) {
+            this.topicId = topicId;
+            this.query = query;
+            this.handler = handler;
+            this.channelIndex = channelIndex;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+
+            if (cancelled) {
+                subscription.cancel();
+            } else {
+                subscription.request(bufferSize);
+            }
+        }
+
+        @Override
+        public void onNext(TopicMessage message, Runnable acknowledge) {
+            // Added before the message, so the worker always finds the acknowledgement of a message it polled
+            acknowledgements.offer(acknowledge);
+            queue.offer(message);
+            queued.incrementAndGet();
+            schedule();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            done = true;
+            schedule();
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            schedule();
+        }
+
+        void cancel() {
+            cancelled = true;
+
+            var subscription = this.subscription;
+            if (subscription != null) {
+                subscription.cancel();
+            }
+        }
+
+        TopicMetrics metrics() {
+            var timestamp = lastConsensusTimestamp;
+            return new TopicMetrics(
+                    topicId,
+                    processed.get(),
+                    queued.get(),
+                    timestamp,
+                    timestamp != null ? Duration.between(timestamp, Instant.now()) : null);
+        }
+
+        private void schedule() {
+            if (!scheduled.compareAndSet(false, true)) {
+                return;
+            }
+
+            try {
+                workers.execute(this);
+            } catch (RejectedExecutionException e) {
+                // The manager was closed
+                scheduled.set(false);
+            }
+        }
+
+        @Override
+        public void run() {
+            for (int i = 0; i < MAX_BATCH && !cancelled; i++) {
+                var message = queue.poll();
+                if (message == null) {
+                    break;
+                }
+
+                handle(message, Objects.requireNonNull(acknowledgements.poll()));
+            }
+
+            if (done && queue.isEmpty() && !cancelled) {
+                finish();
+            }
+
+            scheduled.set(false);
+
+            // A message or the end of the stream may have arrived after the checks above
+            if (!cancelled && (!queue.isEmpty() || (done && !finished.get()))) {
+                schedule();
+            }
+        }
+
+        private void handle(TopicMessage message, Runnable acknowledge) {
+            queued.decrementAndGet();
+
+            try {
+                handler.accept(message);
+            } catch (Throwable t) {
+                query.handleError(t, message);
+            }
+
+            processed.incrementAndGet();
+            lastConsensusTimestamp = message.consensusTimestamp;
+
+            try {
+                acknowledge.run();
+            } catch (RuntimeException e) {
+                LOGGER.error("Failed to save the checkpoint of topic {}", topicId, e);
+            }
+
+            var subscription = this.subscription;
+            if (subscription != null) {
+                subscription.request(1);
+            }
+        }
+
+        private void finish() {
+            if (!finished.compareAndSet(false, true)) {
+                return;
+            }
+
+            remove(this);
+
+            var throwable = error;
+            if (throwable != null) {
+                query.handleError(throwable, null);
+            } else {
+                query.handleCompletion();
+            }
+        }
+    }
+}
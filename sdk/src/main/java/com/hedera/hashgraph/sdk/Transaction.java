@@ -13,6 +13,7 @@ import java.lang.reflect.Modifier;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -25,6 +26,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import javax.annotation.Nullable;
 import org.bouncycastle.crypto.digests.SHA384Digest;
 
@@ -61,6 +63,16 @@ public abstract class Transaction<T extends Transaction<T>>
      */
     private static final Duration DEFAULT_TRANSACTION_VALID_DURATION = Duration.ofSeconds(120);
 
+    /**
+     * Fewer hashes than this cost more to hand over to other threads than to compute on the calling thread
+     */
+    private static final int MIN_PARALLEL_HASHES = 32;
+
+    /**
+     * A digest and a buffer per thread, so hashing a transaction allocates only the hash
+     */
+    private static final ThreadLocal<HashWorkspace> HASH_WORKSPACE = ThreadLocal.withInitial(HashWorkspace::new);
+
     /**
      * Transaction constructors end their work by setting sourceTransactionBody. The expectation is that the Transaction
      * subclass constructor will pick up where the Transaction superclass constructor left off, and will unpack the data
@@ -94,6 +106,13 @@ public abstract class Transaction<T extends Transaction<T>>
      */
     protected List<SignatureMap.Builder> sigPairLists = Collections.emptyList();
 
+    /**
+     * The hashes of the outer transactions, by their index. Each is kept with the outer transaction it was computed
+     * from, and is computed again once that transaction is rebuilt, as it is whenever a signature is added.
+     */
+    @Nullable
+    private TransactionHash[] transactionHashes = null;
+
     /**
      * List of IDs for the transaction based on the operator because the transaction ID includes the operator's account
      */
@@ -121,6 +140,10 @@ public abstract class Transaction<T extends Transaction<T>>
      * Should the transaction id be regenerated
      */
     protected Boolean regenerateTransactionId = null;
+    /**
+     * Should the signature maps sent carry the shortest unique public key prefixes
+     */
+    private boolean shortenSignaturePrefixes = false;
 
     private Duration transactionValidDuration;
 
@@ -593,7 +616,7 @@ public abstract class Transaction<T extends Transaction<T>>
      * @return the hash
      */
     static byte[] hash(byte[] bytes) {
-        var digest = new SHA384Digest();
+        var digest = HASH_WORKSPACE.get().digest;
         var hash = new byte[digest.getDigestSize()];
 
         digest.update(bytes, 0, bytes.length);
@@ -602,6 +625,29 @@ public abstract class Transaction<T extends Transaction<T>>
         return hash;
     }
 
+    /**
+     * Generate a hash from a byte string, without copying it out whole.
+     *
+     * @param bytes the byte string
+     * @return the hash
+     */
+    static byte[] hash(ByteString bytes) {
+        var workspace = HASH_WORKSPACE.get();
+        var digest = workspace.digest;
+        var buffer = workspace.buffer;
+
+        for (int offset = 0; offset < bytes.size(); offset += buffer.length) {
+            int length = Math.min(buffer.length, bytes.size() - offset);
+            bytes.copyTo(buffer, offset, 0, length);
+            digest.update(buffer, 0, length);
+        }
+
+        var hash = new byte[digest.getDigestSize()];
+        digest.doFinal(hash, 0);
+
+        return hash;
+    }
+
     private static boolean publicKeyIsInSigPairList(ByteString publicKeyBytes, List<SignaturePair> sigPairList) {
         for (var pair : sigPairList) {
             if (pair.getPubKeyPrefix().equals(publicKeyBytes)) {
@@ -820,7 +866,7 @@ public abstract class Transaction<T extends Transaction<T>>
 
         buildTransaction(index);
 
-        return hash(outerTransactions.get(index).getSignedTransactionBytes().toByteArray());
+        return getTransactionHashes(index, index + 1)[0];
     }
 
     /**
@@ -836,12 +882,45 @@ public abstract class Transaction<T extends Transaction<T>>
 
         buildAllTransactions();
 
+        var transactionHashes = getTransactionHashes(0, outerTransactions.size());
         var hashes = new HashMap<AccountId, byte[]>();
 
         for (var i = 0; i < outerTransactions.size(); i++) {
-            hashes.put(
-                    nodeAccountIds.get(i),
-                    hash(outerTransactions.get(i).getSignedTransactionBytes().toByteArray()));
+            hashes.put(nodeAccountIds.get(i), transactionHashes[i]);
+        }
+
+        return hashes;
+    }
+
+    /**
+     * The hashes of a range of built outer transactions, computing those not kept yet, in parallel when there are
+     * many of them.
+     *
+     * @param fromIndex the index of the first transaction, inclusive
+     * @param toIndex   the index of the last transaction, exclusive
+     * @return copies of the hashes, in the order of the transactions
+     */
+    byte[][] getTransactionHashes(int fromIndex, int toIndex) {
+        if (transactionHashes == null || transactionHashes.length != outerTransactions.size()) {
+            transactionHashes = new TransactionHash[outerTransactions.size()];
+        }
+        var kept = transactionHashes;
+
+        var stale = IntStream.range(fromIndex, toIndex)
+                .filter(i -> kept[i] == null || kept[i].transaction != outerTransactions.get(i))
+                .toArray();
+        var hashing = Arrays.stream(stale);
+        if (stale.length >= MIN_PARALLEL_HASHES) {
+            hashing = hashing.parallel();
+        }
+        hashing.forEach(i -> {
+            var transaction = outerTransactions.get(i);
+            kept[i] = new TransactionHash(transaction, hash(transaction.getSignedTransactionBytes()));
+        });
+
+        var hashes = new byte[toIndex - fromIndex][];
+        for (int i = fromIndex; i < toIndex; i++) {
+            hashes[i - fromIndex] = kept[i].hash.clone();
         }
 
         return hashes;
@@ -911,6 +990,42 @@ public abstract class Transaction<T extends Transaction<T>>
         return (T) this;
     }
 
+    /**
+     * Should the signature maps sent carry the shortest unique public key prefixes.
+     *
+     * @return should the signature prefixes be shortened
+     */
+    public final boolean getShortenSignaturePrefixes() {
+        return shortenSignaturePrefixes;
+    }
+
+    /**
+     * Send each signature with the shortest prefix of its public key that no other signer of the transaction shares,
+     * instead of the whole key, to shrink the transaction and so its byte-based fees.
+     * <p>
+     * Prefixes are unique among the keys that signed only, not among every key the transaction requires. ECDSA
+     * (secp256k1) signatures keep their whole keys, as the network only matches them to EVM addresses, such as those of
+     * hollow accounts and {@link EvmAddress} keys, by the whole key.
+     * <p>
+     * Only the bytes sent to the network and returned by {@link #toBytes()} are shortened; the signatures of this
+     * transaction keep their whole keys. A transaction read back with {@link #fromBytes(byte[])} can no longer tell
+     * which keys signed it, so {@link #getSignatures()} on it fails.
+     *
+     * @param shortenSignaturePrefixes should the signature prefixes be shortened
+     * @return {@code this}
+     */
+    public final T setShortenSignaturePrefixes(boolean shortenSignaturePrefixes) {
+        this.shortenSignaturePrefixes = shortenSignaturePrefixes;
+
+        // The built transactions carry the prefixes, so they are built again
+        for (int i = 0; i < outerTransactions.size(); i++) {
+            outerTransactions.set(i, null);
+        }
+
+        // noinspection unchecked
+        return (T) this;
+    }
+
     /**
      * Sign the transaction.
      *
@@ -1259,17 +1374,81 @@ public abstract class Transaction<T extends Transaction<T>>
 
         signTransaction(index);
 
+        var signedTransaction = innerSignedTransactions.get(index).setSigMap(sigPairLists.get(index)).build();
+        if (shortenSignaturePrefixes) {
+            // Only the bytes sent are shortened, as the signatures are looked up by their whole keys
+            signedTransaction = signedTransaction.toBuilder()
+                    .setSigMap(shortenSignaturePrefixes(signedTransaction.getSigMap()))
+                    .build();
+        }
+
         outerTransactions.set(
                 index,
                 com.hedera.hashgraph.sdk.proto.Transaction.newBuilder()
-                        .setSignedTransactionBytes(innerSignedTransactions
-                                .get(index)
-                                .setSigMap(sigPairLists.get(index))
-                                .build()
-                                .toByteString())
+                        .setSignedTransactionBytes(signedTransaction.toByteString())
                         .build());
     }
 
+    /**
+     * Cut the public key of each ED25519 signature down to the shortest prefix no other key of the map starts with.
+     * ECDSA signatures keep their whole keys, which the network needs to match them to EVM addresses, but still count
+     * as other keys.
+     * <p>
+     * Once the keys are sorted, the longest prefix a key shares with any other is the one it shares with a neighbour,
+     * so each prefix is one byte longer than that, and never longer than the key.
+     *
+     * @param sigMap the signatures, with whole public keys
+     * @return the signatures, with the shortest unique prefixes
+     */
+    static SignatureMap shortenSignaturePrefixes(SignatureMap sigMap) {
+        var sigPairs = sigMap.getSigPairList();
+        var order = new Integer[sigPairs.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        var comparator = ByteString.unsignedLexicographicalComparator();
+        Arrays.sort(
+                order,
+                (a, b) -> comparator.compare(sigPairs.get(a).getPubKeyPrefix(), sigPairs.get(b).getPubKeyPrefix()));
+
+        var lengths = new int[sigPairs.size()];
+        for (int i = 0; i < order.length; i++) {
+            var key = sigPairs.get(order[i]).getPubKeyPrefix();
+            int length = 1;
+            if (i > 0) {
+                length = Math.max(length, commonPrefixLength(key, sigPairs.get(order[i - 1]).getPubKeyPrefix()) + 1);
+            }
+            if (i < order.length - 1) {
+                length = Math.max(length, commonPrefixLength(key, sigPairs.get(order[i + 1]).getPubKeyPrefix()) + 1);
+            }
+            lengths[order[i]] = Math.min(length, key.size());
+        }
+
+        var shortened = SignatureMap.newBuilder();
+        for (int i = 0; i < sigPairs.size(); i++) {
+            var sigPair = sigPairs.get(i);
+            if (sigPair.getSignatureCase() == SignaturePair.SignatureCase.ECDSA_SECP256K1) {
+                shortened.addSigPair(sigPair);
+                continue;
+            }
+
+            shortened.addSigPair(sigPair.toBuilder()
+                    .setPubKeyPrefix(sigPair.getPubKeyPrefix().substring(0, lengths[i])));
+        }
+
+        return shortened.build();
+    }
+
+    private static int commonPrefixLength(ByteString a, ByteString b) {
+        int length = Math.min(a.size(), b.size());
+        for (int i = 0; i < length; i++) {
+            if (a.byteAt(i) != b.byteAt(i)) {
+                return i;
+            }
+        }
+        return length;
+    }
+
     /**
      * Will sign the specific transaction at {@code index} This function is only ever called after the transaction is
      * frozen.
@@ -1320,7 +1499,7 @@ public abstract class Transaction<T extends Transaction<T>>
             AccountId nodeId,
             com.hedera.hashgraph.sdk.proto.Transaction request) {
         var transactionId = Objects.requireNonNull(getTransactionIdInternal());
-        var hash = hash(request.getSignedTransactionBytes().toByteArray());
+        var hash = hash(request.getSignedTransactionBytes());
         // advance is needed for chunked transactions
         transactionIds.advance();
         return new TransactionResponse(nodeId, transactionId, hash, null, this);
@@ -1410,4 +1589,22 @@ public abstract class Transaction<T extends Transaction<T>>
 
         return body.buildPartial().toString().replaceAll("@[A-Za-z0-9]+", "");
     }
+
+    /**
+     * A hash of an outer transaction, along with the transaction it was computed from.
+     */
+    private static final class TransactionHash {
+        final com.hedera.hashgraph.sdk.proto.Transaction transaction;
+        final byte[] hash;
+
+        TransactionHash(com.hedera.hashgraph.sdk.proto.Transaction transaction, byte[] hash) {
+            this.transaction = transaction;
+            this.hash = hash;
+        }
+    }
+
+    private static final class HashWorkspace {
+        final SHA384Digest digest = new SHA384Digest();
+        final byte[] buffer = new byte[4096];
+    }
 }
@@ -6,6 +6,7 @@ import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -164,19 +165,39 @@ public final class TransactionResponse {
 
     /**
      * Fetch the receipt of the transaction asynchronously.
+     * <p>
+     * With a {@link Client#setMirrorReceiptSource(MirrorReceiptSource) mirror receipt source}, the receipt is only
+     * asked for once the mirror node listed the transaction, or once the source gave up waiting. The wait counts
+     * against the timeout, and the receipt query gets whatever is left of it.
      *
      * @param client  The client with which this will be executed.
      * @param timeout The timeout after which the execution attempt will be cancelled.
      * @return the transaction receipt
      */
     public CompletableFuture<TransactionReceipt> getReceiptAsync(Client client, Duration timeout) {
-        return getReceiptQuery().executeAsync(client, timeout).thenCompose(receipt -> {
-            try {
-                return CompletableFuture.completedFuture(receipt.validateStatus(validateStatus));
-            } catch (ReceiptStatusException e) {
-                return CompletableFuture.failedFuture(e);
-            }
-        });
+        var receiptSource = client.getMirrorReceiptSource();
+        if (receiptSource != null) {
+            long start = System.nanoTime();
+            return receiptSource
+                    .awaitConsensus(transactionId)
+                    .completeOnTimeout(false, timeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .thenCompose(listed -> {
+                        var remaining = timeout.minusNanos(System.nanoTime() - start);
+                        return getReceiptQuery()
+                                .executeAsync(client, remaining.isNegative() ? Duration.ZERO : remaining);
+                    })
+                    .thenCompose(this::validateReceipt);
+        }
+
+        return getReceiptQuery().executeAsync(client, timeout).thenCompose(this::validateReceipt);
+    }
+
+    private CompletableFuture<TransactionReceipt> validateReceipt(TransactionReceipt receipt) {
+        try {
+            return CompletableFuture.completedFuture(receipt.validateStatus(validateStatus));
+        } catch (ReceiptStatusException e) {
+            return CompletableFuture.failedFuture(e);
+        }
     }
 
     /**
@@ -5,6 +5,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.hedera.hashgraph.sdk.utils.Bip32Utils;
 import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
+import org.bouncycastle.crypto.signers.ECDSASigner;
+import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
+import org.bouncycastle.util.BigIntegers;
 import org.bouncycastle.util.encoders.Hex;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -355,4 +364,40 @@ public class ECDSAPrivateKeyTest {
         assertThat(ecdsaPrivateKey4.toStringRaw()).isEqualTo(PRIVATE_KEY4);
         assertThat(ecdsaPrivateKey4.getPublicKey().toStringRaw()).isEqualTo(PUBLIC_KEY4);
     }
+
+    @Test
+    @DisplayName("signatures match a signer created per signature")
+    void signMatchesPerCallSigner() {
+        var key = PrivateKey.fromStringECDSA("8776c6b831a1b61ac10dac0304a2843de4716f54b1919bb91a2685d0fe3f3048");
+        var message = "hello world".getBytes(StandardCharsets.UTF_8);
+
+        var signer = new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()));
+        signer.init(true, new ECPrivateKeyParameters(new BigInteger(1, key.toBytesRaw()), Key.ECDSA_SECP256K1_DOMAIN));
+        var rs = signer.generateSignature(Crypto.calcKeccak256(message));
+        var expected = new byte[64];
+        BigIntegers.asUnsignedByteArray(rs[0], expected, 0, 32);
+        BigIntegers.asUnsignedByteArray(rs[1], expected, 32, 32);
+
+        assertThat(key.sign(message)).isEqualTo(expected);
+        assertThat(key.sign(message)).isEqualTo(expected);
+        assertThat(key.getPublicKey().verify(message, expected)).isTrue();
+    }
+
+    @Test
+    @DisplayName("signs from several threads at once")
+    void signConcurrently() {
+        var key = PrivateKey.generateECDSA();
+        var messages = IntStream.range(0, 64)
+                .mapToObj(i -> ("message " + i).getBytes(StandardCharsets.UTF_8))
+                .toList();
+        var expected = messages.stream().map(key::sign).toList();
+
+        var futures = messages.stream()
+                .map(message -> CompletableFuture.supplyAsync(() -> key.sign(message)))
+                .toList();
+
+        for (int i = 0; i < messages.size(); i++) {
+            assertThat(futures.get(i).join()).isEqualTo(expected.get(i));
+        }
+    }
 }
@@ -523,4 +523,18 @@ class Ed25519PrivateKeyTest {
         assertThat(ed25519PrivateKey1.toStringRaw()).isEqualTo(PRIVATE_KEY1);
         assertThat(ed25519PrivateKey1.getPublicKey().toStringRaw()).isEqualTo(PUBLIC_KEY1);
     }
+
+    @Test
+    @DisplayName("signs as deriving the public key from the seed does")
+    void signMatchesSigningFromSeed() {
+        var key = PrivateKey.fromString(TEST_KEY_STR);
+        var message = "hello world".getBytes(StandardCharsets.UTF_8);
+
+        var expected = new byte[Ed25519.SIGNATURE_SIZE];
+        Ed25519.sign(key.toBytesRaw(), 0, message, 0, message.length, expected, 0);
+
+        assertThat(key.sign(message)).isEqualTo(expected);
+        assertThat(key.sign(message)).isEqualTo(expected);
+        assertThat(key.getPublicKey().verify(message, expected)).isTrue();
+    }
 }
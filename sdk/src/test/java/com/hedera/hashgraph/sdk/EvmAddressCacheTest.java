@@ -0,0 +1,117 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EvmAddressCacheTest {
+    private static final EvmAddress EVM_ADDRESS = EvmAddress.fromString("0x86dc8a1ce9c3b4b5c7ab2d0bfd7b8b3c6bfa9f0d");
+
+    @Test
+    void putStoresBothDirections() {
+        var cache = new EvmAddressCache().put(new AccountId(0, 0, 1234), EVM_ADDRESS);
+
+        assertThat(cache.getEvmAddress(0, 0, 1234)).isEqualTo(EVM_ADDRESS);
+        assertThat(cache.getNum(0, 0, EVM_ADDRESS)).isEqualTo(1234L);
+        assertThat(cache.getNum(0, 0, "0x86DC8A1CE9C3B4B5C7AB2D0BFD7B8B3C6BFA9F0D")).isEqualTo(1234L);
+        assertThat(cache.getEvmAddress(1, 0, 1234)).isNull();
+    }
+
+    @Test
+    void reverseLookupIsPerShardAndRealm() {
+        var cache = new EvmAddressCache().put(1, 2, 1234, EVM_ADDRESS);
+
+        assertThat(cache.getNum(1, 2, EVM_ADDRESS)).isEqualTo(1234L);
+        assertThat(cache.getNum(0, 0, EVM_ADDRESS)).isNull();
+        assertThat(cache.getNum(1, 3, EVM_ADDRESS)).isNull();
+
+        cache.put(0, 0, 5678, EVM_ADDRESS);
+        assertThat(cache.getNum(0, 0, EVM_ADDRESS)).isEqualTo(5678L);
+        assertThat(cache.getNum(1, 2, EVM_ADDRESS)).isEqualTo(1234L);
+    }
+
+    @Test
+    void bulkPrefill() {
+        var accounts = new HashMap<AccountId, EvmAddress>();
+        for (int i = 0; i < 10; i++) {
+            accounts.put(new AccountId(0, 0, 1000 + i), EvmAddress.fromBytes(new byte[] {
+                0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1, (byte) i
+            }));
+        }
+
+        var cache = new EvmAddressCache()
+                .putAccounts(accounts)
+                .putContracts(Map.of(new ContractId(0, 0, 5005), EVM_ADDRESS));
+
+        assertThat(cache.size()).isEqualTo(11);
+        assertThat(cache.getEvmAddress(0, 0, 1003)).isEqualTo(accounts.get(new AccountId(0, 0, 1003)));
+        assertThat(cache.getNum(0, 0, EVM_ADDRESS)).isEqualTo(5005L);
+    }
+
+    @Test
+    void isBounded() {
+        var cache = new EvmAddressCache(1);
+        cache.put(0, 0, 1, EVM_ADDRESS);
+        cache.put(0, 0, 2, EvmAddress.fromString("0x0000000000000000000000000000000000000002"));
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getEvmAddress(0, 0, 1)).isNull();
+    }
+
+    @Test
+    void rejectsNonPositiveSize() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new EvmAddressCache(0));
+    }
+
+    @Test
+    void saveAndLoad(@TempDir Path dir) throws Exception {
+        var file = dir.resolve("evm-addresses.txt");
+        new EvmAddressCache().put(1, 2, 1234, EVM_ADDRESS).saveTo(file);
+
+        var loaded = new EvmAddressCache().loadFrom(file);
+
+        assertThat(loaded.getEvmAddress(1, 2, 1234)).isEqualTo(EVM_ADDRESS);
+        assertThat(loaded.getNum(1, 2, EVM_ADDRESS)).isEqualTo(1234L);
+    }
+
+    @Test
+    void loadIgnoresMissingFile(@TempDir Path dir) throws Exception {
+        assertThat(new EvmAddressCache().loadFrom(dir.resolve("missing")).size()).isZero();
+    }
+
+    @Test
+    void loadRejectsMalformedFile(@TempDir Path dir) throws Exception {
+        var file = Files.writeString(dir.resolve("evm-addresses.txt"), "0.0.1234 nope\n");
+
+        assertThatExceptionOfType(IOException.class).isThrownBy(() -> new EvmAddressCache().loadFrom(file));
+    }
+
+    @Test
+    void populateUsesClientCache() throws Exception {
+        try (var client = Client.forNetwork(Map.of())) {
+            assertThat(client.getEvmAddressCache()).isNull();
+            client.setEvmAddressCache(new EvmAddressCache().put(0, 0, 1234, EVM_ADDRESS));
+
+            // The client has no mirror network, so these can only succeed from the cache
+            assertThat(new AccountId(0, 0, 1234).populateAccountEvmAddress(client).evmAddress)
+                    .isEqualTo(EVM_ADDRESS);
+            assertThat(AccountId.fromEvmAddress(EVM_ADDRESS, 0, 0)
+                            .populateAccountNum(client)
+                            .num)
+                    .isEqualTo(1234);
+
+            client.setEvmAddressCache(null);
+            assertThatExceptionOfType(ExecutionException.class)
+                    .isThrownBy(() -> new AccountId(0, 0, 1234).populateAccountEvmAddress(client));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileTopicCheckpointStoreTest {
+    private static final TopicId TOPIC = TopicId.fromString("0.0.1000");
+    private static final TopicCheckpoint CHECKPOINT =
+            new TopicCheckpoint(Instant.ofEpochSecond(1_700_000_000L, 5), 42);
+
+    @Test
+    void writesOnCloseAndReloads(@TempDir Path dir) throws Exception {
+        var file = dir.resolve("checkpoints");
+
+        try (var store = new FileTopicCheckpointStore(file, 100, Duration.ofHours(1))) {
+            store.save(TOPIC, new TopicCheckpoint(Instant.ofEpochSecond(1), 1));
+            store.save(TOPIC, CHECKPOINT);
+            store.save(TopicId.fromString("0.0.7"), CHECKPOINT);
+            assertThat(file).doesNotExist();
+        }
+
+        assertThat(Files.readAllLines(file, StandardCharsets.UTF_8))
+                .containsExactly("0.0.7 1700000000.000000005 42", "0.0.1000 1700000000.000000005 42");
+
+        try (var store = new FileTopicCheckpointStore(file)) {
+            assertThat(store.load(TOPIC)).isEqualTo(CHECKPOINT);
+            assertThat(store.load(TopicId.fromString("0.0.8"))).isNull();
+        }
+    }
+
+    @Test
+    @Timeout(5)
+    void writesWhenBatchIsFull(@TempDir Path dir) throws Exception {
+        var file = dir.resolve("checkpoints");
+
+        try (var store = new FileTopicCheckpointStore(file, 2, Duration.ofHours(1))) {
+            store.save(TOPIC, CHECKPOINT);
+            store.save(TopicId.fromString("0.0.7"), CHECKPOINT);
+
+            awaitFile(file, 2);
+        }
+    }
+
+    @Test
+    @Timeout(5)
+    void writesAfterMaxDelay(@TempDir Path dir) throws Exception {
+        var file = dir.resolve("checkpoints");
+
+        try (var store = new FileTopicCheckpointStore(file, 100, Duration.ofMillis(10))) {
+            store.save(TOPIC, CHECKPOINT);
+
+            awaitFile(file, 1);
+        }
+    }
+
+    @Test
+    @Timeout(5)
+    void retriesFailedWriteWithoutNewSaves(@TempDir Path dir) throws Exception {
+        var file = dir.resolve("missing").resolve("checkpoints");
+
+        try (var store = new FileTopicCheckpointStore(file, 100, Duration.ofMillis(10))) {
+            store.save(TOPIC, CHECKPOINT);
+
+            // Writes fail until the directory of the file exists
+            TimeUnit.MILLISECONDS.sleep(100);
+            assertThat(file).doesNotExist();
+            Files.createDirectory(file.getParent());
+
+            awaitFile(file, 1);
+        }
+    }
+
+    @Test
+    void rejectsMalformedFile(@TempDir Path dir) throws Exception {
+        var file = dir.resolve("checkpoints");
+        Files.write(file, List.of("0.0.1000 1700000000.000000005"), StandardCharsets.UTF_8);
+
+        assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> new FileTopicCheckpointStore(file))
+                .withMessageContaining("0.0.1000");
+    }
+
+    private static void awaitFile(Path file, int lines) throws Exception {
+        while (!Files.exists(file)
+                || Files.readAllLines(file, StandardCharsets.UTF_8).size() < lines) {
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+    }
+}
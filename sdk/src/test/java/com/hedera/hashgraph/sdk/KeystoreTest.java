@@ -2,11 +2,14 @@
 package com.hedera.hashgraph.sdk;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -53,4 +56,86 @@ class KeystoreTest {
 
         assertThat(privateKey2.toString()).isEqualTo(TEST_KEY_STR);
     }
+
+    @Test
+    @DisplayName("Keystore.fromStreamAsync returns correct key")
+    void keystoreFromStreamAsync() {
+        InputStream inputStream = KeystoreTest.class.getResourceAsStream("/test-keystore2.bin");
+        Keystore keystore = Keystore.fromStreamAsync(inputStream, PASSPHRASE, ForkJoinPool.commonPool(), null)
+                .join();
+
+        assertThat(keystore.getEd25519().toString()).isEqualTo(TEST_KEY_STR);
+    }
+
+    @Test
+    @DisplayName("Keystore.fromStreams decrypts keystores in parallel, in order")
+    void keystoreFromStreams() throws IOException {
+        var otherKey = PrivateKey.generateED25519();
+        var outputStream = new ByteArrayOutputStream();
+        new Keystore(otherKey).export(outputStream, "other passphrase");
+
+        var keystores = Keystore.fromStreams(
+                List.of(
+                        KeystoreTest.class.getResourceAsStream("/test-keystore.bin"),
+                        new ByteArrayInputStream(outputStream.toByteArray()),
+                        KeystoreTest.class.getResourceAsStream("/test-keystore2.bin")),
+                List.of(PASSPHRASE, "other passphrase", PASSPHRASE),
+                2,
+                null);
+
+        assertThat(keystores).hasSize(3);
+        assertThat(keystores.get(0).getEd25519().toString()).isEqualTo(TEST_KEY_STR);
+        assertThat(keystores.get(1).getEd25519().toString()).isEqualTo(otherKey.toString());
+        assertThat(keystores.get(2).getEd25519().toString()).isEqualTo(TEST_KEY_STR);
+    }
+
+    @Test
+    @DisplayName("Keystore.fromStreams throws the error of a keystore")
+    void keystoreFromStreamsWrongPassphrase() {
+        assertThatThrownBy(() -> Keystore.fromStreams(
+                        List.of(KeystoreTest.class.getResourceAsStream("/test-keystore2.bin")),
+                        List.of("wrong passphrase"),
+                        1,
+                        null))
+                .isInstanceOf(BadKeyException.class)
+                .hasMessage("HMAC mismatch; passphrase is incorrect");
+    }
+
+    @Test
+    @DisplayName("Keystore.fromStream reuses the derived key of the right passphrase only")
+    void keystoreFromStreamWithCache() throws IOException {
+        var bytes = KeystoreTest.class.getResourceAsStream("/test-keystore2.bin").readAllBytes();
+        var cache = new DerivedKeyCache();
+
+        Keystore.fromStream(new ByteArrayInputStream(bytes), PASSPHRASE, cache);
+        assertThat(cache.size()).isEqualTo(1);
+
+        Keystore keystore = Keystore.fromStream(new ByteArrayInputStream(bytes), PASSPHRASE, cache);
+        assertThat(keystore.getEd25519().toString()).isEqualTo(TEST_KEY_STR);
+        assertThat(cache.size()).isEqualTo(1);
+
+        assertThatThrownBy(() -> Keystore.fromStream(new ByteArrayInputStream(bytes), "wrong passphrase", cache))
+                .isInstanceOf(BadKeyException.class);
+
+        cache.clear();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("PrivateKey.readKeystores decrypts keystores with a cache")
+    void privateKeyReadKeystores() throws IOException {
+        var bytes = KeystoreTest.class.getResourceAsStream("/test-keystore2.bin").readAllBytes();
+        var cache = new DerivedKeyCache();
+
+        var keys = PrivateKey.readKeystores(
+                List.of(new ByteArrayInputStream(bytes), new ByteArrayInputStream(bytes)),
+                List.of(PASSPHRASE, PASSPHRASE),
+                2,
+                cache);
+
+        assertThat(keys).hasSize(2).allSatisfy(key -> assertThat(key.toString()).isEqualTo(TEST_KEY_STR));
+        assertThat(PrivateKey.readKeystore(new ByteArrayInputStream(bytes), PASSPHRASE, cache).toString())
+                .isEqualTo(TEST_KEY_STR);
+        assertThat(cache.size()).isEqualTo(1);
+    }
 }
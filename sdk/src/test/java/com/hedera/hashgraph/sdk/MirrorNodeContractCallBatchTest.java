@@ -0,0 +1,97 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import com.google.protobuf.ByteString;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MirrorNodeContractCallBatchTest {
+    private static final String CONTRACT = "0x00000000000000000000000000000000000004d2";
+    private static final ByteString CALL_DATA = ByteString.copyFrom(new byte[] {0x70, (byte) 0xa0, (byte) 0x82, 0x31});
+
+    private Client client;
+    private MirrorNodeContractCallCache cache;
+
+    @BeforeEach
+    void setUp() {
+        // No mirror network is configured, so only calls answered from the cache can succeed
+        cache = new MirrorNodeContractCallCache(20_000, Duration.ofMinutes(1));
+        client = Client.forNetwork(Map.of()).setMirrorNodeContractCallCache(cache);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        client.close();
+    }
+
+    private static MirrorNodeContractCallCache.Key key(String contract) {
+        return new MirrorNodeContractCallCache.Key(contract, null, CALL_DATA.toByteArray(), 0, 0, 0, 0, false);
+    }
+
+    @Test
+    void returnsResultsInOrderWithPerCallErrors() throws Exception {
+        var other = "0x00000000000000000000000000000000000004d3";
+        cache.put(key(CONTRACT), "0x01");
+        cache.put(key(other), "0x02");
+
+        var results = new MirrorNodeContractCallBatch()
+                .addCall(other, CALL_DATA)
+                .addCall("0x00000000000000000000000000000000000004d4", CALL_DATA)
+                .addCall(new MirrorNodeContractCallQuery().setFunctionParameters(CALL_DATA))
+                .addCall(CONTRACT, CALL_DATA)
+                .execute(client);
+
+        assertThat(results).hasSize(4);
+        assertThat(results.get(0).getResult()).isEqualTo("0x02");
+        assertThat(results.get(1).isSuccess()).isFalse();
+        assertThat(results.get(1).getError()).hasMessageContaining("Mirror URL not found");
+        assertThat(results.get(2).getError()).isInstanceOf(NullPointerException.class);
+        assertThat(results.get(3).getResult()).isEqualTo("0x01");
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> results.get(1).getResult());
+    }
+
+    @Test
+    void deduplicatesIdenticalCalls() throws Exception {
+        var batch = new MirrorNodeContractCallBatch();
+        for (int i = 0; i < 10; i++) {
+            batch.addCall(CONTRACT, CALL_DATA);
+        }
+
+        var results = batch.setMaxConcurrency(3).execute(client);
+
+        assertThat(results).hasSize(10).allSatisfy(result -> assertThat(result.isSuccess()).isFalse());
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void handlesManyImmediateResults() throws Exception {
+        var batch = new MirrorNodeContractCallBatch().setMaxConcurrency(1);
+        for (int i = 0; i < 10_000; i++) {
+            var contract = EntityIdHelper.toSolidityAddress(0, 0, i);
+            cache.put(key(contract), "0x" + i);
+            batch.addCall(contract, CALL_DATA);
+        }
+
+        var results = batch.execute(client);
+
+        assertThat(results).hasSize(10_000);
+        assertThat(results.get(9_999).getResult()).isEqualTo("0x9999");
+    }
+
+    @Test
+    void emptyBatch() throws Exception {
+        assertThat(new MirrorNodeContractCallBatch().execute(client)).isEmpty();
+    }
+
+    @Test
+    void rejectsInvalidConcurrency() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new MirrorNodeContractCallBatch().setMaxConcurrency(0));
+    }
+}
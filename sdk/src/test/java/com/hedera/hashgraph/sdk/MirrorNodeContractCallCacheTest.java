@@ -0,0 +1,112 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import com.google.protobuf.ByteString;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class MirrorNodeContractCallCacheTest {
+    private static final String CONTRACT = "0x00000000000000000000000000000000000004d2";
+    private static final String SENDER = "0x0000000000000000000000000000000000000abc";
+    private static final byte[] CALL_DATA = {0x70, (byte) 0xa0, (byte) 0x82, 0x31};
+
+    private static MirrorNodeContractCallCache.Key key(long blockNumber) {
+        return new MirrorNodeContractCallCache.Key(CONTRACT, SENDER, CALL_DATA, 0, 0, 0, blockNumber, false);
+    }
+
+    @Test
+    void keyIgnoresAddressFormatting() {
+        var key = key(100);
+        var other = new MirrorNodeContractCallCache.Key(
+                CONTRACT.substring(2).toUpperCase(), SENDER, CALL_DATA.clone(), 0, 0, 0, 100, false);
+
+        assertThat(other).isEqualTo(key).hasSameHashCodeAs(key);
+    }
+
+    @Test
+    void keyDistinguishesEveryParameter() {
+        var key = key(100);
+
+        assertThat(key).isNotEqualTo(key(101));
+        assertThat(key).isNotEqualTo(key(null, CALL_DATA, 0, 0, 0, false));
+        assertThat(key).isNotEqualTo(key(SENDER, new byte[] {1}, 0, 0, 0, false));
+        assertThat(key).isNotEqualTo(key(SENDER, CALL_DATA, 1, 0, 0, false));
+        assertThat(key).isNotEqualTo(key(SENDER, CALL_DATA, 0, 1, 0, false));
+        assertThat(key).isNotEqualTo(key(SENDER, CALL_DATA, 0, 0, 1, false));
+        assertThat(key).isNotEqualTo(key(SENDER, CALL_DATA, 0, 0, 0, true));
+    }
+
+    private static MirrorNodeContractCallCache.Key key(
+            String sender, byte[] callData, long value, long gas, long gasPrice, boolean estimate) {
+        return new MirrorNodeContractCallCache.Key(CONTRACT, sender, callData, value, gas, gasPrice, 100, estimate);
+    }
+
+    @Test
+    void recordsHitsAndMisses() {
+        var cache = new MirrorNodeContractCallCache();
+
+        assertThat(cache.get(key(100))).isNull();
+        cache.put(key(100), "0x01");
+        assertThat(cache.get(key(100))).isEqualTo("0x01");
+        assertThat(cache.get(key(100))).isEqualTo("0x01");
+
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitRate()).isEqualTo(2.0 / 3.0);
+    }
+
+    @Test
+    void latestResultsExpire() {
+        var cache = new MirrorNodeContractCallCache(10, Duration.ZERO);
+
+        cache.put(key(0), "0x01");
+        cache.put(key(100), "0x02");
+
+        assertThat(cache.get(key(0))).isNull();
+        assertThat(cache.get(key(100))).isEqualTo("0x02");
+    }
+
+    @Test
+    void isBounded() {
+        var cache = new MirrorNodeContractCallCache(2, Duration.ofMinutes(1));
+
+        for (int block = 1; block <= 5; block++) {
+            cache.put(key(block), "0x01");
+        }
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isEqualTo(3);
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new MirrorNodeContractCallCache(0, Duration.ZERO));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new MirrorNodeContractCallCache(1, Duration.ofSeconds(-1)));
+    }
+
+    @Test
+    void pinnedCallIsAnsweredFromCache() throws Exception {
+        try (var client = Client.forNetwork(Map.of())) {
+            var cache = new MirrorNodeContractCallCache();
+            client.setMirrorNodeContractCallCache(cache);
+            cache.put(key(100), "0x2a");
+
+            // The client has no mirror network, so this can only succeed from the cache
+            var result = new MirrorNodeContractCallQuery()
+                    .setContractEvmAddress(CONTRACT)
+                    .setSenderEvmAddress(SENDER)
+                    .setFunctionParameters(ByteString.copyFrom(CALL_DATA))
+                    .setBlockNumber(100)
+                    .execute(client);
+
+            assertThat(result).isEqualTo("0x2a");
+            assertThat(cache.getHitCount()).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+class MirrorNodeHealthTest {
+    @Test
+    void failuresWorsenScore() {
+        var healthy = new MirrorNodeHealth();
+        var failing = new MirrorNodeHealth();
+
+        healthy.streamStarted();
+        healthy.firstMessage(Duration.ofMillis(200));
+        failing.streamStarted();
+        failing.failed();
+
+        assertThat(failing.score()).isGreaterThan(healthy.score());
+    }
+
+    @Test
+    void recoversFromFailures() {
+        var health = new MirrorNodeHealth();
+        health.failed();
+        var failedScore = health.score();
+
+        for (int i = 0; i < 10; i++) {
+            health.firstMessage(Duration.ofMillis(10));
+        }
+
+        assertThat(health.score()).isLessThan(failedScore / 5);
+    }
+
+    @Test
+    void slowerFirstMessageWorsensScore() {
+        var fast = new MirrorNodeHealth();
+        var slow = new MirrorNodeHealth();
+
+        fast.firstMessage(Duration.ofMillis(50));
+        slow.firstMessage(Duration.ofMillis(2_000));
+
+        assertThat(slow.score()).isGreaterThan(fast.score());
+    }
+
+    @Test
+    void snapshotsAverages() {
+        var health = new MirrorNodeHealth();
+        var now = Instant.now();
+
+        assertThat(health.toStats("in-process:test").timeToFirstMessage).isNull();
+
+        health.streamStarted();
+        health.firstMessage(Duration.ofMillis(100));
+        health.message(now.minusSeconds(2), now);
+        health.streamStarted();
+        health.failed();
+
+        var stats = health.toStats("in-process:test");
+        assertThat(stats.address).isEqualTo("in-process:test");
+        assertThat(stats.streamCount).isEqualTo(2);
+        assertThat(stats.failureCount).isEqualTo(1);
+        assertThat(stats.failureRate).isBetween(0.0, 1.0);
+        assertThat(stats.timeToFirstMessage).isEqualTo(Duration.ofMillis(100));
+        assertThat(stats.streamLag).isEqualTo(Duration.ofSeconds(2));
+    }
+}
@@ -0,0 +1,63 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class MirrorNodeJsonBodyHandlerTest {
+
+    private static ByteArrayInputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void readStringMemberSkipsOtherMembers() {
+        var json = "{\"account\":\"0.0.1234\",\"balance\":{\"balance\":10,\"tokens\":[{\"token_id\":\"0.0.1\"}]},"
+                + "\"key\":null,\"evm_address\":\"0x00000000000000000000000000000000000004d2\"}";
+
+        var value = MirrorNodeJsonBodyHandler.parse(
+                stream(json), reader -> MirrorNodeJsonBodyHandler.readStringMember(reader, "evm_address"));
+
+        assertThat(value).isEqualTo("0x00000000000000000000000000000000000004d2");
+    }
+
+    @Test
+    void parseHexLongOfStringMember() {
+        var value = MirrorNodeJsonBodyHandler.parseHexLong(MirrorNodeJsonBodyHandler.parse(
+                stream("{\"result\":\"0x000000000000000000000000000000000000000000000000000000000000d4f1\"}"),
+                reader -> MirrorNodeJsonBodyHandler.readStringMember(reader, "result")));
+
+        assertThat(value).isEqualTo(0xd4f1L);
+    }
+
+    @Test
+    void missingMemberThrows() {
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> MirrorNodeJsonBodyHandler.parse(
+                        stream("{\"links\":{\"next\":null}}"),
+                        reader -> MirrorNodeJsonBodyHandler.readStringMember(reader, "result")))
+                .withMessageContaining("result");
+    }
+
+    @Test
+    void nullMemberThrows() {
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> MirrorNodeJsonBodyHandler.parse(
+                        stream("{\"evm_address\":null}"),
+                        reader -> MirrorNodeJsonBodyHandler.readStringMember(reader, "evm_address")));
+    }
+
+    @Test
+    void parsesLargeContractCallResult() {
+        var hex = "ab".repeat(2 * 1024 * 1024);
+        var json = "{\"result\":\"0x" + hex + "\"}";
+
+        var value = MirrorNodeJsonBodyHandler.parse(stream(json), MirrorNodeContractQuery::parseContractCallResult);
+
+        assertThat(value).hasSize(hex.length() + 2).startsWith("0xabab");
+    }
+}
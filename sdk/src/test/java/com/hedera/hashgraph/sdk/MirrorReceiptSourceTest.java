@@ -0,0 +1,89 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MirrorReceiptSourceTest {
+    private static final AccountId PAYER = AccountId.fromString("0.0.1800");
+    private static final Instant VALID_START = Instant.ofEpochSecond(1_700_000_000L, 5);
+
+    private Client client;
+    private MirrorReceiptSource source;
+
+    @BeforeEach
+    void setup() {
+        client = Client.forNetwork(Collections.emptyMap());
+        // Long enough for the tests to never see a poll
+        source = new MirrorReceiptSource(client, Duration.ofHours(1), Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void teardown() throws Exception {
+        source.close();
+        client.close();
+    }
+
+    private static MirrorNodeTransaction listed(TransactionId transactionId, Instant consensusTimestamp) {
+        return new MirrorNodeTransaction(
+                transactionId, consensusTimestamp, "CRYPTOTRANSFER", "SUCCESS", Hbar.ZERO, "", List.of());
+    }
+
+    @Test
+    void completesListedTransactions() {
+        var first = TransactionId.withValidStart(PAYER, VALID_START);
+        var second = TransactionId.withValidStart(PAYER, VALID_START.plusNanos(1));
+        var firstListed = source.awaitConsensus(first);
+        var secondListed = source.awaitConsensus(second);
+
+        source.accept(PAYER, List.of(listed(first, VALID_START.plusSeconds(3))));
+
+        assertThat(firstListed).isCompletedWithValue(true);
+        assertThat(secondListed).isNotDone();
+        assertThat(source.getPendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    void listsTransactionsAfterCursor() {
+        assertThat(MirrorReceiptSource.endpoint(PAYER, VALID_START.minusNanos(1)))
+                .isEqualTo("/transactions?account.id=0.0.1800&timestamp=gt:1700000000.000000004&order=asc&limit=100");
+    }
+
+    @Test
+    void fallsBackAfterTimeout() {
+        var listed = source.awaitConsensus(TransactionId.withValidStart(PAYER, VALID_START));
+
+        source.expire(System.nanoTime());
+        assertThat(listed).isNotDone();
+
+        source.expire(System.nanoTime() + Duration.ofMinutes(2).toNanos());
+        assertThat(listed).isCompletedWithValue(false);
+        assertThat(source.getPendingCount()).isZero();
+    }
+
+    @Test
+    void doesNotAwaitScheduledTransactions() {
+        var transactionId = TransactionId.withValidStart(PAYER, VALID_START).setScheduled(true);
+
+        assertThat(source.awaitConsensus(transactionId)).isCompletedWithValue(false);
+        assertThat(source.getPendingCount()).isZero();
+    }
+
+    @Test
+    void closeReleasesWaiters() {
+        var listed = source.awaitConsensus(TransactionId.withValidStart(PAYER, VALID_START));
+
+        source.close();
+
+        assertThat(listed).isCompletedWithValue(false);
+        assertThat(source.awaitConsensus(TransactionId.withValidStart(PAYER, VALID_START)))
+                .isCompletedWithValue(false);
+    }
+}
@@ -0,0 +1,156 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.Test;
+
+class MirrorRestPagerTest {
+
+    private static ByteArrayInputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void parsesPageAndStripsApiPrefixFromNextLink() {
+        var json = "{\"timestamp\":\"1700000000.000000000\",\"balances\":["
+                + "{\"account\":\"0.0.10\",\"balance\":100,\"tokens\":[{\"token_id\":\"0.0.20\",\"balance\":5}]},"
+                + "{\"account\":\"0.0.11\",\"balance\":200,\"tokens\":[]}],"
+                + "\"links\":{\"next\":\"/api/v1/balances?limit=100&account.id=gt:0.0.11\"}}";
+
+        var page = MirrorNodeJsonBodyHandler.parse(
+                stream(json),
+                reader -> MirrorRestPager.parsePage(reader, "balances", MirrorRestPager::parseAccountBalance));
+
+        assertThat(page.next).isEqualTo("/balances?limit=100&account.id=gt:0.0.11");
+        assertThat(page.items).hasSize(2);
+        assertThat(page.items.get(0).getKey()).isEqualTo(AccountId.fromString("0.0.10"));
+        assertThat(page.items.get(0).getValue().hbars).isEqualTo(Hbar.fromTinybars(100));
+        assertThat(page.items.get(0).getValue().tokens).isEqualTo(Map.of(TokenId.fromString("0.0.20"), 5L));
+        assertThat(page.items.get(1).getValue().tokens).isEmpty();
+    }
+
+    @Test
+    void lastPageHasNoNextLink() {
+        var json = "{\"balances\":[{\"account\":\"0.0.10\",\"balance\":7,\"decimals\":2}],\"links\":{\"next\":null}}";
+
+        var page = MirrorNodeJsonBodyHandler.parse(
+                stream(json),
+                reader -> MirrorRestPager.parsePage(reader, "balances", MirrorRestPager::parseTokenBalance));
+
+        assertThat(page.next).isNull();
+        assertThat(page.items).containsExactly(Map.entry(AccountId.fromString("0.0.10"), 7L));
+    }
+
+    @Test
+    void parsesNft() {
+        var json = "{\"nfts\":[{\"account_id\":\"0.0.10\",\"created_timestamp\":\"1700000000.000000123\","
+                + "\"deleted\":false,\"metadata\":\"AQID\",\"serial_number\":3,\"spender\":null,"
+                + "\"token_id\":\"0.0.20\"}],\"links\":{\"next\":null}}";
+
+        var page = MirrorNodeJsonBodyHandler.parse(
+                stream(json),
+                reader -> MirrorRestPager.parsePage(
+                        reader, "nfts", item -> MirrorRestPager.parseNft(item, LedgerId.TESTNET)));
+
+        var nft = page.items.get(0);
+        assertThat(nft.nftId).isEqualTo(new NftId(TokenId.fromString("0.0.20"), 3));
+        assertThat(nft.accountId).isEqualTo(AccountId.fromString("0.0.10"));
+        assertThat(nft.creationTime).isEqualTo(Instant.ofEpochSecond(1700000000, 123));
+        assertThat(nft.metadata).containsExactly(1, 2, 3);
+        assertThat(nft.spenderId).isNull();
+    }
+
+    @Test
+    void parsesDeletedNftWithoutOwner() {
+        var json = "{\"nfts\":[{\"account_id\":null,\"created_timestamp\":\"1700000000.000000123\","
+                + "\"deleted\":true,\"metadata\":\"AQID\",\"serial_number\":4,\"spender\":null,"
+                + "\"token_id\":\"0.0.20\"},{\"account_id\":\"0.0.10\",\"created_timestamp\":\"1700000000.000000124\","
+                + "\"deleted\":false,\"metadata\":\"AQID\",\"serial_number\":5,\"token_id\":\"0.0.20\"}],"
+                + "\"links\":{\"next\":null}}";
+
+        var page = MirrorNodeJsonBodyHandler.parse(
+                stream(json),
+                reader -> MirrorRestPager.parsePage(
+                        reader, "nfts", item -> MirrorRestPager.parseNft(item, LedgerId.TESTNET)));
+
+        assertThat(page.items).hasSize(2);
+        assertThat(page.items.get(0).nftId).isEqualTo(new NftId(TokenId.fromString("0.0.20"), 4));
+        assertThat(page.items.get(0).accountId).isNull();
+        assertThat(page.items.get(1).accountId).isEqualTo(AccountId.fromString("0.0.10"));
+    }
+
+    @Test
+    void parsesNftForClientWithoutLedgerId() throws Exception {
+        var json = "{\"nfts\":[{\"account_id\":\"0.0.10\",\"created_timestamp\":\"1700000000.000000123\","
+                + "\"deleted\":false,\"metadata\":\"AQID\",\"serial_number\":3,\"token_id\":\"0.0.20\"}],"
+                + "\"links\":{\"next\":null}}";
+
+        try (var client = Client.forNetwork(Map.of())) {
+            assertThat(client.getLedgerId()).isNull();
+
+            var page = MirrorNodeJsonBodyHandler.parse(
+                    stream(json),
+                    reader -> MirrorRestPager.parsePage(
+                            reader, "nfts", item -> MirrorRestPager.parseNft(item, client.getLedgerId())));
+
+            var nft = page.items.get(0);
+            assertThat(nft.ledgerId).isNull();
+            assertThat(TokenNftInfo.fromBytes(nft.toBytes()).nftId).isEqualTo(nft.nftId);
+        }
+    }
+
+    @Test
+    void parsesTransaction() {
+        var json = "{\"transactions\":[{\"charged_tx_fee\":84650,\"consensus_timestamp\":\"1700000001.000000002\","
+                + "\"memo_base64\":\"aGVsbG8=\",\"name\":\"CRYPTOTRANSFER\",\"result\":\"SUCCESS\","
+                + "\"transaction_id\":\"0.0.10-1700000000-000000005\","
+                + "\"transfers\":[{\"account\":\"0.0.10\",\"amount\":-100,\"is_approval\":false},"
+                + "{\"account\":\"0.0.11\",\"amount\":100,\"is_approval\":false}]}],\"links\":{\"next\":null}}";
+
+        var page = MirrorNodeJsonBodyHandler.parse(
+                stream(json),
+                reader -> MirrorRestPager.parsePage(reader, "transactions", MirrorRestPager::parseTransaction));
+
+        var transaction = page.items.get(0);
+        assertThat(transaction.transactionId)
+                .isEqualTo(TransactionId.withValidStart(
+                        AccountId.fromString("0.0.10"), Instant.ofEpochSecond(1700000000, 5)));
+        assertThat(transaction.consensusTimestamp).isEqualTo(Instant.ofEpochSecond(1700000001, 2));
+        assertThat(transaction.memo).isEqualTo("hello");
+        assertThat(transaction.getStatus()).isEqualTo(Status.SUCCESS);
+        assertThat(transaction.chargedTransactionFee).isEqualTo(Hbar.fromTinybars(84650));
+        assertThat(transaction.transfers).hasSize(2);
+        assertThat(transaction.transfers.get(1).amount).isEqualTo(Hbar.fromTinybars(100));
+    }
+
+    @Test
+    void parsesTimestampWithoutNanos() {
+        assertThat(InstantConverter.fromString("1700000000")).isEqualTo(Instant.ofEpochSecond(1700000000));
+    }
+
+    @Test
+    void rejectsMalformedTransactionId() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> MirrorRestPager.parseTransactionId("0.0.10@1700000000.5"));
+    }
+
+    @Test
+    void iteratesOnlyOnceAndSurfacesFetchErrors() throws Exception {
+        try (var client = Client.forNetwork(Map.of())) {
+            var pager = MirrorRestPager.accountBalances(client);
+            var iterator = pager.iterator();
+
+            assertThatExceptionOfType(CompletionException.class)
+                    .isThrownBy(iterator::hasNext)
+                    .withMessageContaining("Mirror URL not found");
+            assertThatExceptionOfType(IllegalStateException.class).isThrownBy(pager::iterator);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.hashgraph.sdk.utils.Bip32Utils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MnemonicKeyRingTest {
+    private static final String MNEMONIC_24_WORD_STRING =
+            "inmate flip alley wear offer often piece magnet surge toddler submit right radio absent pear floor belt raven price stove replace reduce plate home";
+
+    private Mnemonic mnemonic;
+
+    @BeforeEach
+    void setup() throws Exception {
+        mnemonic = Mnemonic.fromString(MNEMONIC_24_WORD_STRING);
+    }
+
+    @Test
+    void derivesStandardEd25519Keys() {
+        var keyRing = MnemonicKeyRing.forEd25519(mnemonic, "some pass");
+
+        assertThat(keyRing.derive(0).toStringRaw())
+                .isEqualTo(mnemonic.toStandardEd25519PrivateKey("some pass", 0).toStringRaw());
+        assertThat(keyRing.derive(2147483647).toStringRaw())
+                .isEqualTo(mnemonic.toStandardEd25519PrivateKey("some pass", 2147483647).toStringRaw());
+        assertThat(keyRing.getCachedNodeCount()).isEqualTo(4);
+    }
+
+    @Test
+    void derivesStandardECDSAsecp256k1Keys() {
+        var keyRing = MnemonicKeyRing.forECDSAsecp256k1(mnemonic, "");
+
+        assertThat(keyRing.derive(0).toStringRaw())
+                .isEqualTo(mnemonic.toStandardECDSAsecp256k1PrivateKey("", 0).toStringRaw());
+        assertThat(keyRing.derive(Bip32Utils.toHardenedIndex(0)).toStringRaw())
+                .isEqualTo(mnemonic.toStandardECDSAsecp256k1PrivateKey("", Bip32Utils.toHardenedIndex(0))
+                        .toStringRaw());
+    }
+
+    @Test
+    void derivesRangeInOrder() {
+        var keyRing = MnemonicKeyRing.forECDSAsecp256k1(mnemonic, "");
+
+        var keys = keyRing.deriveRange(10, 74);
+
+        assertThat(keys).hasSize(64);
+        for (int i = 0; i < keys.size(); i++) {
+            assertThat(keys.get(i).toStringRaw()).isEqualTo(keyRing.derive(10 + i).toStringRaw());
+        }
+        assertThat(keys.get(0).toStringRaw())
+                .isEqualTo(mnemonic.toStandardECDSAsecp256k1PrivateKey("", 10).toStringRaw());
+    }
+
+    @Test
+    void derivesCustomPathsSharingNodes() {
+        var keyRing = MnemonicKeyRing.forECDSAsecp256k1(mnemonic, "");
+        int purpose = Bip32Utils.toHardenedIndex(44);
+        int coinType = Bip32Utils.toHardenedIndex(60);
+        int account = Bip32Utils.toHardenedIndex(0);
+
+        assertThat(keyRing.derivePath(purpose, coinType, account, 0, 3).toStringRaw())
+                .isEqualTo(mnemonic.toStandardECDSAsecp256k1PrivateKeyCustomDerivationPath("", "m/44'/60'/0'/0/3")
+                        .toStringRaw());
+        assertThat(keyRing.getCachedNodeCount()).isEqualTo(4);
+
+        keyRing.derivePath(purpose, coinType, account, 1, 3);
+        assertThat(keyRing.getCachedNodeCount()).isEqualTo(5);
+    }
+
+    @Test
+    void deriveRangeReversed() {
+        var keyRing = MnemonicKeyRing.forEd25519(mnemonic, "");
+
+        assertThatThrownBy(() -> keyRing.deriveRange(5, 4))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("fromIndex must not be greater than toIndex");
+    }
+}
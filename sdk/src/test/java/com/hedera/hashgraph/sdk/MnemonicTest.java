@@ -3,9 +3,11 @@ package com.hedera.hashgraph.sdk;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
 
 import com.hedera.hashgraph.sdk.utils.Bip32Utils;
 import java.util.Arrays;
+import java.util.List;
 import org.bouncycastle.util.encoders.Hex;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -752,4 +754,44 @@ public class MnemonicTest {
         assertThat(key3.toStringRaw()).isEqualTo(PRIVATE_KEY_3);
         assertThat(key3.getPublicKey().toStringRaw()).isSubstringOf(PUBLIC_KEY_3);
     }
+
+    @Test
+    @DisplayName("Mnemonic.validateAll() validates each phrase as Mnemonic.fromString() does")
+    void validateAll() {
+        var generated = Mnemonic.generate24().toString();
+        var mnemonics = List.of(
+                MNEMONIC_24_WORD_STRING,
+                new StringBuilder(MNEMONIC_12_WORD_STRING.toUpperCase()),
+                MNEMONIC_LEGACY_V1_STRING,
+                generated + " ",
+                "abandon ability able about above absent absorb abstract absurd abuse access accident",
+                "abandon ability able about",
+                generated.replaceFirst("^\\w+", "nonword"),
+                "",
+                MNEMONIC_24_WORD_STRING + " " + MNEMONIC_24_WORD_STRING);
+
+        assertThat(Mnemonic.validateAll(mnemonics))
+                .containsExactly(
+                        entry(4, BadMnemonicReason.ChecksumMismatch),
+                        entry(5, BadMnemonicReason.BadLength),
+                        entry(6, BadMnemonicReason.UnknownWords),
+                        entry(7, BadMnemonicReason.BadLength),
+                        entry(8, BadMnemonicReason.BadLength));
+    }
+
+    @Test
+    @DisplayName("word lists find every word at its index")
+    void wordListIndex() {
+        for (var wordList : List.of(MnemonicWordList.bip39(), MnemonicWordList.legacy())) {
+            for (int i = 0; i < wordList.words.size(); i++) {
+                assertThat(wordList.indexOf(wordList.words.get(i))).isEqualTo(i);
+            }
+        }
+
+        assertThat(MnemonicWordList.bip39().indexOf("zoo")).isEqualTo(2047);
+        assertThat(MnemonicWordList.bip39().indexOf("Zoo")).isEqualTo(-1);
+        assertThat(MnemonicWordList.bip39().indexOf("the zoo", 4, 7, false)).isEqualTo(2047);
+        assertThat(MnemonicWordList.bip39().indexOf("ZOO", 0, 3, true)).isEqualTo(2047);
+        assertThat(MnemonicWordList.bip39().indexOf("zo")).isEqualTo(-1);
+    }
 }
@@ -0,0 +1,190 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.Timestamp;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicQuery;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class PartitionedTopicConsumerTest {
+    private static final Instant START_TIME = Instant.ofEpochSecond(1_700_000_000L);
+
+    private final ConsensusServiceStub consensusServiceStub = new ConsensusServiceStub();
+    private final List<Throwable> errors = new CopyOnWriteArrayList<>();
+    private final AtomicInteger completions = new AtomicInteger();
+    private Client client;
+    private Server server;
+    private TopicMessageQuery query;
+
+    @BeforeEach
+    void setup() throws Exception {
+        client = Client.forNetwork(Collections.emptyMap());
+        client.setMirrorNetwork(List.of("in-process:test"));
+        server = InProcessServerBuilder.forName("test")
+                .addService(consensusServiceStub)
+                .directExecutor()
+                .build()
+                .start();
+        query = new TopicMessageQuery()
+                .setTopicId(TopicId.fromString("0.0.1000"))
+                .setStartTime(START_TIME)
+                .setErrorHandler((t, message) -> errors.add(t))
+                .setCompletionHandler(completions::incrementAndGet);
+    }
+
+    @AfterEach
+    void teardown() throws Exception {
+        client.close();
+        server.shutdown();
+        server.awaitTermination();
+    }
+
+    @Test
+    @Timeout(10)
+    void keepsEachKeyInOrder() {
+        consensusServiceStub.messageCount = 200;
+        var received = new ConcurrentHashMap<Long, List<Long>>();
+
+        Consumer<TopicMessage> handler = message -> {
+            Uninterruptibles.sleepUninterruptibly(ThreadLocalRandom.current().nextInt(100), TimeUnit.MICROSECONDS);
+            received.computeIfAbsent(message.sequenceNumber % 7, key -> new CopyOnWriteArrayList<>())
+                    .add(message.sequenceNumber);
+        };
+
+        Function<TopicMessage, Long> key = message -> message.sequenceNumber % 7;
+
+        try (var consumer = new PartitionedTopicConsumer(query, 4, 16, key, handler)) {
+            consumer.subscribe(client);
+
+            awaitUntil(() -> completions.get() == 1);
+
+            assertThat(received).hasSize(7);
+            assertThat(received.values()).allSatisfy(sequenceNumbers -> assertThat(sequenceNumbers)
+                    .isSorted()
+                    .doesNotHaveDuplicates());
+            assertThat(consumer.getCompletedCount()).isEqualTo(200);
+            assertThat(consumer.getInFlightCount()).isZero();
+            assertThat(consumer.getLowWatermark()).isEqualTo(START_TIME.plusSeconds(200));
+            assertThat(errors).isEmpty();
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    void watermarkWaitsForSlowestLane() {
+        consensusServiceStub.messageCount = 10;
+        var release = new CountDownLatch(1);
+        var handled = new CopyOnWriteArrayList<Long>();
+
+        try (var consumer = new PartitionedTopicConsumer(query, 2, message -> message.sequenceNumber % 2, message -> {
+            if (message.sequenceNumber == 2) {
+                Uninterruptibles.awaitUninterruptibly(release);
+            }
+            handled.add(message.sequenceNumber);
+        })) {
+            consumer.subscribe(client);
+
+            // The odd lane runs ahead of the blocked even lane
+            awaitUntil(() -> handled.contains(9L));
+            assertThat(consumer.getLowWatermark()).isEqualTo(START_TIME.plusSeconds(1));
+            assertThat(consumer.getCompletedCount()).isEqualTo(1);
+
+            release.countDown();
+            awaitUntil(() -> completions.get() == 1);
+            assertThat(consumer.getLowWatermark()).isEqualTo(START_TIME.plusSeconds(10));
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    void handlerErrorsDoNotStopLane() {
+        consensusServiceStub.messageCount = 3;
+        var handled = new CopyOnWriteArrayList<Long>();
+
+        try (var consumer = new PartitionedTopicConsumer(query, 1, message -> 0, message -> {
+            handled.add(message.sequenceNumber);
+            if (message.sequenceNumber == 1) {
+                throw new IllegalStateException("handler failed");
+            }
+        })) {
+            consumer.subscribe(client);
+
+            awaitUntil(() -> completions.get() == 1);
+            assertThat(handled).containsExactly(1L, 2L, 3L);
+            assertThat(errors).singleElement().isInstanceOf(IllegalStateException.class);
+            assertThat(consumer.getLowWatermark()).isEqualTo(START_TIME.plusSeconds(3));
+        }
+    }
+
+    @Test
+    void subscribesOnlyOnce() {
+        try (var consumer = new PartitionedTopicConsumer(query, 1, message -> 0, message -> {})) {
+            consumer.subscribe(client);
+
+            assertThatThrownBy(() -> consumer.subscribe(client))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("PartitionedTopicConsumer already subscribed");
+        }
+    }
+
+    @Test
+    void limitsMustBePositive() {
+        assertThatThrownBy(() -> new PartitionedTopicConsumer(query, 0, message -> 0, message -> {}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("laneCount must be greater than zero");
+        assertThatThrownBy(() -> new PartitionedTopicConsumer(query, 1, 0, message -> 0, message -> {}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("maxInFlight must be greater than zero");
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        while (!condition.getAsBoolean()) {
+            Uninterruptibles.sleepUninterruptibly(10, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static class ConsensusServiceStub extends ConsensusServiceGrpc.ConsensusServiceImplBase {
+
+        private volatile int messageCount;
+
+        @Override
+        public void subscribeTopic(
+                ConsensusTopicQuery consensusTopicQuery, StreamObserver<ConsensusTopicResponse> streamObserver) {
+            for (long sequenceNumber = 1; sequenceNumber <= messageCount; sequenceNumber++) {
+                streamObserver.onNext(ConsensusTopicResponse.newBuilder()
+                        .setConsensusTimestamp(Timestamp.newBuilder()
+                                .setSeconds(START_TIME.getEpochSecond() + sequenceNumber))
+                        .setSequenceNumber(sequenceNumber)
+                        .setMessage(ByteString.copyFromUtf8("message"))
+                        .setRunningHash(ByteString.copyFromUtf8("hash"))
+                        .build());
+            }
+
+            streamObserver.onCompleted();
+        }
+    }
+}
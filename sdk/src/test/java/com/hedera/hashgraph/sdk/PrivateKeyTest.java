@@ -2,13 +2,17 @@
 package com.hedera.hashgraph.sdk;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import com.google.protobuf.InvalidProtocolBufferException;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Collections;
 import org.bouncycastle.util.encoders.Hex;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 public class PrivateKeyTest {
     private static final PrivateKey unusedPrivateKey = PrivateKey.fromString(
@@ -44,6 +48,26 @@ public class PrivateKeyTest {
                         "f3a13a555f1f8cd6532716b8f388bd4e9d8ed0b252743e923114c0c6cbfe414cf791c8e859afd3c12009ecf2cb20dacf01636d80823bcdbd9ec1ce59afe008f0");
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"ED25519", "ECDSA"})
+    void signIntoBuffer(String keyType) {
+        var key = keyType.equals("ED25519") ? PrivateKey.generateED25519() : PrivateKey.generateECDSA();
+        var message = "hello world".getBytes(StandardCharsets.UTF_8);
+        var buffer = new byte[70];
+
+        assertThat(key.sign(message, buffer, 3)).isEqualTo(64);
+        assertThat(Arrays.copyOfRange(buffer, 3, 67)).isEqualTo(key.sign(message));
+        assertThat(buffer[0]).isZero();
+        assertThat(buffer[69]).isZero();
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> key.sign(message, buffer, 7))
+                .withMessage("signature buffer must have room for 64 bytes");
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> key.sign(message, buffer, -1))
+                .withMessage("signature buffer must have room for 64 bytes");
+    }
+
     @Test
     void supports0xPrefix() {
         PrivateKey.fromString("0x8776c6b831a1b61ac10dac0304a2843de4716f54b1919bb91a2685d0fe3f3048");
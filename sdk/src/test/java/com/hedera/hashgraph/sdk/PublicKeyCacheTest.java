@@ -0,0 +1,87 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import org.bouncycastle.util.encoders.Hex;
+import org.junit.jupiter.api.Test;
+
+class PublicKeyCacheTest {
+    private static final String ED25519_KEY = "e0c8ec2758a5879ffac226a13c0c516b799e72e35141a0dd828f94d37988a4b7";
+    private static final String ECDSA_KEY = "03b69a75a5ddb1c0747e995d47555019e5d8a28003ab5202bd92f534361fb4ec8a";
+
+    @Test
+    void internsKeysByEncoding() {
+        assertThat(PublicKey.fromString(ED25519_KEY)).isSameAs(PublicKey.fromString(ED25519_KEY));
+        assertThat(PublicKey.fromString(ECDSA_KEY)).isSameAs(PublicKey.fromString(ECDSA_KEY));
+
+        var der = PublicKey.fromString(ECDSA_KEY).toStringDER();
+        assertThat(PublicKey.fromStringDER(der)).isSameAs(PublicKey.fromStringDER(der));
+        assertThat(PublicKey.fromStringDER(der)).isEqualTo(PublicKey.fromString(ECDSA_KEY));
+
+        var protobufKey = PublicKey.fromString(ECDSA_KEY).toProtobufKey();
+        assertThat(Key.fromProtobufKey(protobufKey)).isSameAs(PublicKey.fromString(ECDSA_KEY));
+    }
+
+    @Test
+    void keysDoNotShareTheirBytes() {
+        var bytes = Hex.decode(ED25519_KEY);
+        var key = PublicKey.fromBytes(bytes);
+
+        bytes[0] ^= 1;
+        key.toBytesRaw()[1] ^= 1;
+
+        assertThat(key.toStringRaw()).isEqualTo(ED25519_KEY);
+        assertThat(PublicKey.fromString(ED25519_KEY).toStringRaw()).isEqualTo(ED25519_KEY);
+    }
+
+    @Test
+    void internedKeysVerify() {
+        var message = "hello".getBytes(StandardCharsets.UTF_8);
+
+        for (var privateKey : new PrivateKey[] {PrivateKey.generateED25519(), PrivateKey.generateECDSA()}) {
+            var signature = privateKey.sign(message);
+            var publicKey = PublicKey.fromBytes(privateKey.getPublicKey().toBytesRaw());
+
+            assertThat(publicKey.verify(message, signature)).isTrue();
+            assertThat(publicKey.verify(message, signature)).isTrue();
+            assertThat(publicKey.verify("other".getBytes(StandardCharsets.UTF_8), signature)).isFalse();
+        }
+    }
+
+    @Test
+    void countsHitsAndMisses() {
+        var cache = new PublicKeyCache(10);
+        var bytes = Hex.decode(ED25519_KEY);
+
+        var key = cache.intern(PublicKeyCache.ED25519, bytes, PublicKey::fromBytesED25519);
+        assertThat(cache.intern(PublicKeyCache.ED25519, bytes, PublicKey::fromBytesED25519)).isSameAs(key);
+
+        var stats = cache.getStats();
+        assertThat(stats.hitCount).isEqualTo(1);
+        assertThat(stats.missCount).isEqualTo(1);
+        assertThat(stats.hitRate).isEqualTo(0.5);
+        assertThat(stats.size).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotKeepInvalidKeys() {
+        var cache = new PublicKeyCache(10);
+        // Neither a compressed point nor the all zero key
+        var bytes = new byte[33];
+        bytes[0] = 0x05;
+
+        assertThatThrownBy(() -> cache.intern(PublicKeyCache.ECDSA_SECP256K1, bytes, PublicKey::fromBytesECDSA))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(cache.getStats().size).isZero();
+    }
+
+    @Test
+    void maximumSizeNotPositive() {
+        assertThatThrownBy(() -> new PublicKeyCache(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("maximumSize must be greater than zero");
+    }
+}
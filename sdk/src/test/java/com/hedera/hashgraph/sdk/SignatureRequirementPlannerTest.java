@@ -0,0 +1,100 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SignatureRequirementPlannerTest {
+    private static final PublicKey KEY_A = PrivateKey.generateED25519().getPublicKey();
+    private static final PublicKey KEY_B = PrivateKey.generateED25519().getPublicKey();
+    private static final PublicKey KEY_C = PrivateKey.generateED25519().getPublicKey();
+    private static final PublicKey KEY_D = PrivateKey.generateED25519().getPublicKey();
+    private static final PublicKey KEY_E = PrivateKey.generateED25519().getPublicKey();
+
+    @Test
+    void keyListNeedsEveryKey() {
+        var planner = new SignatureRequirementPlanner(KeyList.of(KEY_A, KEY_B, KEY_C));
+
+        var requirement = planner.plan(List.of(KEY_B));
+        assertThat(requirement.satisfied).isFalse();
+        assertThat(requirement.satisfiable).isTrue();
+        assertThat(requirement.missingKeys).containsExactly(KEY_A, KEY_C);
+
+        assertThat(planner.plan(List.of(KEY_A, KEY_B, KEY_C)).satisfied).isTrue();
+    }
+
+    @Test
+    void thresholdNeedsFewestKeys() {
+        var key = KeyList.withThreshold(2);
+        key.add(KeyList.of(KEY_A, KEY_B));
+        key.add(KEY_C);
+        key.add(KeyList.of(KEY_D, KEY_E));
+        var planner = new SignatureRequirementPlanner(key);
+
+        assertThat(planner.plan(List.of()).missingKeys).hasSize(3);
+        assertThat(planner.plan(List.of(KEY_D)).missingKeys).containsExactlyInAnyOrder(KEY_C, KEY_E);
+        assertThat(planner.plan(List.of(KEY_A, KEY_D)).missingKeys).hasSize(1);
+        assertThat(planner.plan(List.of(KEY_C, KEY_D, KEY_E)).satisfied).isTrue();
+    }
+
+    @Test
+    void thresholdPrefersSharedKeys() {
+        var key = KeyList.withThreshold(2);
+        key.add(KeyList.of(KEY_A, KEY_B));
+        key.add(KeyList.of(KEY_A, KEY_C));
+        key.add(KeyList.of(KEY_D, KEY_E, KEY_B));
+
+        var requirement = new SignatureRequirementPlanner(key).plan(List.of());
+        assertThat(requirement.missingKeys).containsExactlyInAnyOrder(KEY_A, KEY_B, KEY_C);
+    }
+
+    @Test
+    void contractKeysCannotSign() {
+        var planner = new SignatureRequirementPlanner(KeyList.of(KEY_A, new ContractId(1001)));
+
+        var requirement = planner.plan(List.of(KEY_A));
+        assertThat(requirement.satisfied).isFalse();
+        assertThat(requirement.satisfiable).isFalse();
+        assertThat(requirement.missingKeys).isEmpty();
+
+        var key = KeyList.withThreshold(1);
+        key.add(new DelegateContractId(1001));
+        key.add(KEY_A);
+        assertThat(new SignatureRequirementPlanner(key).plan(List.of()).missingKeys).containsExactly(KEY_A);
+    }
+
+    @Test
+    void invalidThresholdCannotBeSatisfied() {
+        var key = KeyList.withThreshold(3);
+        key.add(KEY_A);
+        key.add(KEY_B);
+
+        assertThat(new SignatureRequirementPlanner(key).plan(List.of(KEY_A, KEY_B)).satisfiable).isFalse();
+    }
+
+    @Test
+    void evmAddressIsSatisfiedByItsKey() {
+        var ecdsaKey = PrivateKey.generateECDSA().getPublicKey();
+        var planner = new SignatureRequirementPlanner(KeyList.of(KEY_A, ecdsaKey.toEvmAddress()));
+
+        assertThat(planner.plan(List.of(KEY_A)).missingKeys).containsExactly(ecdsaKey.toEvmAddress());
+        assertThat(planner.plan(List.of(KEY_A, ecdsaKey)).satisfied).isTrue();
+    }
+
+    @Test
+    void plansSignaturesOfTransaction() {
+        var privateKey = PrivateKey.generateED25519();
+        var transaction = new TransferTransaction()
+                .setNodeAccountIds(List.of(new AccountId(3), new AccountId(4)))
+                .setTransactionId(TransactionId.generate(new AccountId(1001)))
+                .freeze();
+        var planner = new SignatureRequirementPlanner(KeyList.of(privateKey.getPublicKey(), KEY_A));
+
+        assertThat(planner.plan(transaction).missingKeys).containsExactly(privateKey.getPublicKey(), KEY_A);
+
+        privateKey.signTransaction(transaction);
+        assertThat(planner.plan(transaction).missingKeys).containsExactly(KEY_A);
+    }
+}
@@ -0,0 +1,108 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.protobuf.ByteString;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SignatureVerifierTest {
+    private static final PrivateKey ED25519_KEY = PrivateKey.fromString(
+            "302e020100300506032b657004220420db484b828e64b2d8f12ce3c0a0e93a0b8cce7af1bb8f39c97732394482538e10");
+    private static final PrivateKey ECDSA_KEY =
+            PrivateKey.fromStringECDSA("8776c6b831a1b61ac10dac0304a2843de4716f54b1919bb91a2685d0fe3f3048");
+
+    private static TransferTransaction signedTransaction() {
+        var transaction = new TransferTransaction()
+                .setNodeAccountIds(List.of(new AccountId(3), new AccountId(4), new AccountId(5)))
+                .setTransactionId(TransactionId.generate(new AccountId(1001)))
+                .freeze();
+
+        ED25519_KEY.signTransaction(transaction);
+        ECDSA_KEY.signTransaction(transaction);
+        return transaction;
+    }
+
+    @Test
+    void verifiesEverySignatureOfTransaction() {
+        var transaction = signedTransaction();
+
+        assertThat(new SignatureVerifier().verifyTransaction(transaction)).isTrue();
+    }
+
+    @Test
+    void rejectsTamperedSignature() {
+        var transaction = signedTransaction();
+        transaction.innerSignedTransactions
+                .get(2)
+                .getSigMapBuilder()
+                .getSigPairBuilder(1)
+                .setECDSASecp256K1(ByteString.copyFrom(new byte[64]));
+
+        assertThat(new SignatureVerifier().verifyTransaction(transaction)).isFalse();
+    }
+
+    @Test
+    void rejectsSignatureOfOtherBody() {
+        var transaction = signedTransaction();
+        var otherSignature = transaction.innerSignedTransactions.get(1).getSigMap().getSigPair(0);
+        transaction.innerSignedTransactions.get(0).getSigMapBuilder().setSigPair(0, otherSignature);
+
+        assertThat(new SignatureVerifier().verifyTransaction(transaction)).isFalse();
+    }
+
+    @Test
+    void rejectsShortPrefix() {
+        var transaction = signedTransaction();
+        var sigPair = transaction.innerSignedTransactions.get(0).getSigMapBuilder().getSigPairBuilder(0);
+        sigPair.setPubKeyPrefix(sigPair.getPubKeyPrefix().substring(0, 4));
+
+        assertThat(new SignatureVerifier().verifyTransaction(transaction)).isFalse();
+    }
+
+    @Test
+    void verifiesTransactionsIndependently() {
+        var tampered = signedTransaction();
+        tampered.innerSignedTransactions
+                .get(0)
+                .getSigMapBuilder()
+                .getSigPairBuilder(0)
+                .setEd25519(ByteString.copyFrom(new byte[64]));
+
+        var verifier = new SignatureVerifier();
+        var results = verifier.verifyTransactions(List.of(signedTransaction(), tampered, signedTransaction()));
+
+        assertThat(results).containsExactly(true, false, true);
+    }
+
+    @Test
+    void verifiesMessagesLikePublicKey() {
+        var message = "hello".getBytes(StandardCharsets.UTF_8);
+        var verifier = new SignatureVerifier();
+
+        for (var key : List.of(ED25519_KEY, ECDSA_KEY)) {
+            var signature = key.sign(message);
+
+            assertThat(verifier.verify(key.getPublicKey(), message, signature)).isTrue();
+            assertThat(verifier.verify(key.getPublicKey(), "other".getBytes(StandardCharsets.UTF_8), signature))
+                    .isFalse();
+            assertThat(verifier.verify(key.getPublicKey(), message, new byte[12])).isFalse();
+        }
+    }
+
+    @Test
+    void rejectsKeyNotOnCurve() {
+        var transaction = signedTransaction();
+        var key = new byte[33];
+        key[0] = 5;
+        transaction.innerSignedTransactions
+                .get(0)
+                .getSigMapBuilder()
+                .getSigPairBuilder(1)
+                .setPubKeyPrefix(ByteString.copyFrom(key));
+
+        assertThat(new SignatureVerifier(Runnable::run).verifyTransaction(transaction)).isFalse();
+    }
+}
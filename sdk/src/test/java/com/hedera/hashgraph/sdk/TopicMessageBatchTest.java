@@ -0,0 +1,62 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TopicMessageBatchTest {
+    @Test
+    void roundTrips() {
+        var large = new byte[300];
+        Arrays.fill(large, (byte) 7);
+        var messages = List.of("first".getBytes(StandardCharsets.UTF_8), new byte[0], large);
+
+        var batch = TopicMessageBatch.encode(messages);
+
+        assertThat(batch).hasSize(TopicMessageBatch.encodedSize(messages));
+        assertThat(TopicMessageBatch.isBatch(batch)).isTrue();
+        assertThat(TopicMessageBatch.decode(batch)).containsExactlyElementsOf(messages);
+    }
+
+    @Test
+    void encodesEmptyBatch() {
+        var batch = TopicMessageBatch.encode(List.of());
+
+        assertThat(batch).containsExactly(0xff, 0x48, 0x42, TopicMessageBatch.VERSION);
+        assertThat(TopicMessageBatch.decode(batch)).isEmpty();
+    }
+
+    @Test
+    void rejectsOtherMessages() {
+        var contents = "HB plain message".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(TopicMessageBatch.isBatch(contents)).isFalse();
+        assertThatThrownBy(() -> TopicMessageBatch.decode(contents))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("contents are not a topic message batch");
+    }
+
+    @Test
+    void rejectsUnsupportedVersion() {
+        var contents = new byte[] {(byte) 0xff, 0x48, 0x42, 9};
+
+        assertThat(TopicMessageBatch.isBatch(contents)).isFalse();
+        assertThatThrownBy(() -> TopicMessageBatch.decode(contents))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("unsupported topic message batch version 9");
+    }
+
+    @Test
+    void rejectsTruncatedBatch() {
+        var batch = TopicMessageBatch.encode(List.of(new byte[10]));
+
+        assertThatThrownBy(() -> TopicMessageBatch.decode(Arrays.copyOf(batch, batch.length - 1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("truncated topic message batch");
+    }
+}
@@ -0,0 +1,138 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.AccountID;
+import com.hedera.hashgraph.sdk.proto.ConsensusMessageChunkInfo;
+import com.hedera.hashgraph.sdk.proto.Timestamp;
+import com.hedera.hashgraph.sdk.proto.TransactionID;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TopicMessageChunkBufferTest {
+    private static final long START_SECONDS = 1_700_000_000L;
+
+    private final List<DroppedTopicMessage> dropped = new ArrayList<>();
+
+    private TopicMessageChunkBuffer buffer(long maxPendingBytes, Duration timeout, long maxSequenceGap) {
+        return new TopicMessageChunkBuffer(maxPendingBytes, timeout, maxSequenceGap, dropped::add);
+    }
+
+    private static ConsensusTopicResponse chunk(long sequenceNumber, int payer, int number, int total) {
+        return chunk(sequenceNumber, START_SECONDS + sequenceNumber, payer, number, total);
+    }
+
+    private static ConsensusTopicResponse chunk(long sequenceNumber, long seconds, int payer, int number, int total) {
+        var response = ConsensusTopicResponse.newBuilder()
+                .setConsensusTimestamp(Timestamp.newBuilder().setSeconds(seconds))
+                .setSequenceNumber(sequenceNumber)
+                .setMessage(ByteString.copyFrom(new byte[] {(byte) number, (byte) number}))
+                .setRunningHash(ByteString.copyFrom(new byte[] {(byte) sequenceNumber}));
+
+        if (total > 0) {
+            response.setChunkInfo(ConsensusMessageChunkInfo.newBuilder()
+                    .setInitialTransactionID(TransactionID.newBuilder()
+                            .setAccountID(AccountID.newBuilder().setAccountNum(payer))
+                            .setTransactionValidStart(Timestamp.newBuilder().setSeconds(START_SECONDS)))
+                    .setNumber(number)
+                    .setTotal(total));
+        }
+
+        return response.build();
+    }
+
+    @Test
+    void reassemblesChunksInAnyOrder() {
+        var buffer = buffer(1024, Duration.ofMinutes(5), Long.MAX_VALUE);
+
+        assertThat(buffer.add(chunk(1, 3, 2, 3))).isNull();
+        assertThat(buffer.add(chunk(2, 3, 1, 3))).isNull();
+        var message = buffer.add(chunk(3, 3, 3, 3));
+
+        assertThat(message).isNotNull();
+        assertThat(message.contents).containsExactly(1, 1, 2, 2, 3, 3);
+        assertThat(message.sequenceNumber).isEqualTo(3);
+        assertThat(buffer.size()).isZero();
+        assertThat(buffer.getPendingBytes()).isZero();
+    }
+
+    @Test
+    void passesThroughSingleMessages() {
+        var buffer = buffer(1024, Duration.ofMinutes(5), Long.MAX_VALUE);
+
+        assertThat(buffer.add(chunk(1, 3, 0, 0))).isNotNull();
+        assertThat(buffer.add(chunk(2, 3, 1, 1))).isNotNull();
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    void ignoresDuplicateAndMalformedChunks() {
+        var buffer = buffer(1024, Duration.ofMinutes(5), Long.MAX_VALUE);
+
+        assertThat(buffer.add(chunk(1, 3, 1, 2))).isNull();
+        assertThat(buffer.add(chunk(1, 3, 1, 2))).isNull();
+        assertThat(buffer.add(chunk(2, 3, 3, 2))).isNull();
+        assertThat(buffer.add(chunk(3, 4, 0, 2))).isNull();
+        assertThat(buffer.size()).isEqualTo(1);
+        assertThat(buffer.getPendingBytes()).isEqualTo(2);
+
+        assertThat(buffer.add(chunk(4, 3, 2, 2))).isNotNull();
+        assertThat(dropped).isEmpty();
+    }
+
+    @Test
+    void dropsMessagesOlderThanTimeout() {
+        var buffer = buffer(1024, Duration.ofSeconds(10), Long.MAX_VALUE);
+
+        buffer.add(chunk(1, START_SECONDS, 3, 1, 2));
+        buffer.add(chunk(2, START_SECONDS + 5, 4, 1, 2));
+        buffer.add(chunk(3, START_SECONDS + 11, 5, 0, 0));
+
+        assertThat(dropped).singleElement().satisfies(message -> {
+            assertThat(message.reason).isEqualTo(DroppedTopicMessage.Reason.TIMED_OUT);
+            assertThat(message.transactionId.accountId).isEqualTo(new AccountId(0, 0, 3));
+            assertThat(message.receivedChunks).isEqualTo(1);
+            assertThat(message.totalChunks).isEqualTo(2);
+            assertThat(message.firstSequenceNumber).isEqualTo(1);
+        });
+        assertThat(buffer.size()).isEqualTo(1);
+        assertThat(buffer.getDroppedMessageCount()).isEqualTo(1);
+    }
+
+    @Test
+    void dropsMessagesBeyondSequenceGap() {
+        var buffer = buffer(1024, Duration.ofMinutes(5), 2);
+
+        buffer.add(chunk(1, 3, 1, 2));
+        buffer.add(chunk(2, 4, 0, 0));
+        assertThat(dropped).isEmpty();
+
+        buffer.add(chunk(4, 4, 0, 0));
+        assertThat(dropped)
+                .singleElement()
+                .extracting(message -> message.reason)
+                .isEqualTo(DroppedTopicMessage.Reason.SEQUENCE_GAP);
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    void dropsOldestMessagesOverMemoryLimit() {
+        var buffer = buffer(4, Duration.ofMinutes(5), Long.MAX_VALUE);
+
+        buffer.add(chunk(1, 3, 1, 3));
+        buffer.add(chunk(2, 4, 1, 3));
+        buffer.add(chunk(3, 5, 1, 3));
+
+        assertThat(dropped)
+                .singleElement()
+                .returns(DroppedTopicMessage.Reason.MEMORY_LIMIT, message -> message.reason)
+                .returns(1L, message -> message.firstSequenceNumber);
+        assertThat(buffer.size()).isEqualTo(2);
+        assertThat(buffer.getPendingBytes()).isEqualTo(4);
+    }
+}
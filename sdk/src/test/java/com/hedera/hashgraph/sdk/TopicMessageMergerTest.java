@@ -0,0 +1,219 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicQuery;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class TopicMessageMergerTest {
+    private static final Instant START_TIME = Instant.ofEpochSecond(1_700_000_000L);
+    private static final TopicId TOPIC_A = new TopicId(0, 0, 1);
+    private static final TopicId TOPIC_B = new TopicId(0, 0, 2);
+
+    private final ConsensusServiceStub consensusServiceStub = new ConsensusServiceStub();
+    private final List<String> merged = new CopyOnWriteArrayList<>();
+    private final List<String> late = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean complete = new AtomicBoolean();
+    private Client client;
+    private Server server;
+
+    @BeforeEach
+    void setup() throws Exception {
+        client = Client.forNetwork(Collections.emptyMap());
+        client.setMirrorNetwork(List.of("in-process:test"));
+        server = InProcessServerBuilder.forName("test")
+                .addService(consensusServiceStub)
+                .directExecutor()
+                .build()
+                .start();
+    }
+
+    @AfterEach
+    void teardown() throws Exception {
+        client.close();
+        server.shutdown();
+        server.awaitTermination();
+    }
+
+    private TopicMessageMerger merger() {
+        return new TopicMessageMerger((topicId, message) -> merged.add(label(topicId, message)))
+                .addTopic(new TopicMessageQuery().setTopicId(TOPIC_A).setStartTime(START_TIME))
+                .addTopic(new TopicMessageQuery().setTopicId(TOPIC_B).setStartTime(START_TIME))
+                .setLateMessageHandler((topicId, message) -> late.add(label(topicId, message)))
+                .setCompletionHandler(() -> complete.set(true));
+    }
+
+    private static String label(TopicId topicId, TopicMessage message) {
+        var millis = Duration.between(START_TIME, message.consensusTimestamp).toMillis();
+        return (topicId.equals(TOPIC_A) ? "A" : "B") + millis;
+    }
+
+    @Test
+    @Timeout(5)
+    void mergesInConsensusOrder() {
+        consensusServiceStub.timestamps.put(1L, LongStream.rangeClosed(1, 50).map(i -> i * 2 - 1).toArray());
+        consensusServiceStub.timestamps.put(2L, LongStream.rangeClosed(1, 50).map(i -> i * 2).toArray());
+
+        // A share of two messages per topic makes the fast topic wait for the slow one throughout
+        try (var merger = merger().setMaxBufferedMessages(4).setMaxLateness(Duration.ofDays(1))) {
+            merger.subscribe(client);
+
+            awaitUntil(complete::get);
+
+            assertThat(merged)
+                    .hasSize(100)
+                    .containsExactlyElementsOf(LongStream.rangeClosed(1, 100)
+                            .mapToObj(i -> (i % 2 == 1 ? "A" : "B") + i)
+                            .toList());
+            assertThat(late).isEmpty();
+            assertThat(merger.getBufferedCount()).isZero();
+        }
+    }
+
+    @Test
+    @Timeout(5)
+    void movesOnWithoutQuietTopicAfterLateness() {
+        var gate = new CountDownLatch(1);
+        consensusServiceStub.timestamps.put(1L, new long[] {1000, 2000, 3000});
+        consensusServiceStub.timestamps.put(2L, new long[] {1500, 4000});
+        consensusServiceStub.gates.put(2L, gate);
+
+        try (var merger = merger().setMaxLateness(Duration.ofSeconds(1))) {
+            merger.subscribe(client);
+
+            // Topic A ended, and quiet topic B is assumed to have caught up to one second before A's last message
+            awaitUntil(() -> merged.size() == 2);
+            assertThat(merged).containsExactly("A1000", "A2000");
+            assertThat(merger.getWatermark()).isEqualTo(START_TIME.plusMillis(2000));
+            assertThat(merger.getBufferedCount()).isEqualTo(1);
+
+            gate.countDown();
+            awaitUntil(complete::get);
+
+            assertThat(merged).containsExactly("A1000", "A2000", "A3000", "B4000");
+            assertThat(late).containsExactly("B1500");
+        }
+    }
+
+    @Test
+    @Timeout(5)
+    void movesOnWhenBusyTopicFillsShareWhileOtherIsSilent() {
+        var gate = new CountDownLatch(1);
+        consensusServiceStub.timestamps.put(1L, LongStream.rangeClosed(1, 10).toArray());
+        consensusServiceStub.timestamps.put(2L, new long[0]);
+        consensusServiceStub.gates.put(2L, gate);
+
+        // Topic A's messages span far less than the lateness, and fill its share of two long before they all arrive
+        try (var merger = merger().setMaxBufferedMessages(4).setMaxLateness(Duration.ofMillis(200))) {
+            merger.subscribe(client);
+
+            awaitUntil(() -> merged.size() == 10);
+            assertThat(merged).containsExactlyElementsOf(LongStream.rangeClosed(1, 10).mapToObj(i -> "A" + i).toList());
+
+            gate.countDown();
+            awaitUntil(complete::get);
+            assertThat(late).isEmpty();
+        }
+    }
+
+    @Test
+    void rejectsDuplicateTopics() {
+        var query = new TopicMessageQuery().setTopicId(TOPIC_A);
+
+        assertThatThrownBy(() -> new TopicMessageMerger((topicId, message) -> {})
+                        .addTopic(query)
+                        .addTopic(query))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("topic 0.0.1 was already added");
+    }
+
+    @Test
+    void rejectsChangesAfterSubscribe() {
+        consensusServiceStub.timestamps.put(1L, new long[0]);
+        consensusServiceStub.timestamps.put(2L, new long[0]);
+
+        try (var merger = merger()) {
+            merger.subscribe(client);
+
+            assertThatThrownBy(() -> merger.setMaxBufferedMessages(1))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("TopicMessageMerger already subscribed");
+        }
+    }
+
+    @Test
+    void requiresTopics() {
+        assertThatThrownBy(() -> new TopicMessageMerger((topicId, message) -> {}).subscribe(client))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("no topic was added");
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        while (!condition.getAsBoolean()) {
+            Uninterruptibles.sleepUninterruptibly(10, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Streams messages at the given milliseconds after the start time, for topics with a gate only once it opens.
+     */
+    private static class ConsensusServiceStub extends ConsensusServiceGrpc.ConsensusServiceImplBase {
+
+        private final Map<Long, long[]> timestamps = new ConcurrentHashMap<>();
+        private final Map<Long, CountDownLatch> gates = new ConcurrentHashMap<>();
+
+        @Override
+        public void subscribeTopic(
+                ConsensusTopicQuery consensusTopicQuery, StreamObserver<ConsensusTopicResponse> streamObserver) {
+            long topicNum = consensusTopicQuery.getTopicID().getTopicNum();
+            var gate = gates.get(topicNum);
+
+            if (gate == null) {
+                respond(timestamps.get(topicNum), streamObserver);
+            } else {
+                new Thread(() -> {
+                            Uninterruptibles.awaitUninterruptibly(gate);
+                            respond(timestamps.get(topicNum), streamObserver);
+                        })
+                        .start();
+            }
+        }
+
+        private static void respond(long[] millis, StreamObserver<ConsensusTopicResponse> streamObserver) {
+            for (int i = 0; i < millis.length; i++) {
+                streamObserver.onNext(ConsensusTopicResponse.newBuilder()
+                        .setConsensusTimestamp(InstantConverter.toProtobuf(START_TIME.plusMillis(millis[i])))
+                        .setSequenceNumber(i + 1)
+                        .setMessage(ByteString.copyFromUtf8("message"))
+                        .setRunningHash(ByteString.copyFromUtf8("hash"))
+                        .build());
+            }
+
+            streamObserver.onCompleted();
+        }
+    }
+}
@@ -28,10 +28,15 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.InstanceOfAssertFactories;
@@ -48,6 +53,9 @@ class TopicMessageQueryTest {
 
     private static final Instant START_TIME = Instant.now();
 
+    // Leaves the stream open without further responses
+    private static final Object STALL = new Object();
+
     private Client client;
     private final AtomicBoolean complete = new AtomicBoolean(false);
     private final List<Throwable> errors = new ArrayList<>();
@@ -183,6 +191,24 @@ class TopicMessageQueryTest {
                 .containsExactly(1L, 2L);
     }
 
+    @Test
+    @Timeout(3)
+    void subscribeReportsSequenceGap() {
+        consensusServiceStub.requests.add(request().build());
+        consensusServiceStub.responses.add(response(1L));
+        consensusServiceStub.responses.add(response(3L));
+
+        topicMessageQuery.setVerifyRunningHashes(true);
+        subscribeToMirror(received::add);
+
+        assertThat(errors).singleElement().isInstanceOfSatisfying(TopicIntegrityException.class, e -> {
+            assertThat(e.reason).isEqualTo(TopicIntegrityException.Reason.SEQUENCE_GAP);
+            assertThat(e.sequenceNumber).isEqualTo(3L);
+            assertThat(e.expectedSequenceNumber).isEqualTo(2L);
+        });
+        Assertions.assertThat(received).extracting(t -> t.sequenceNumber).containsExactly(1L);
+    }
+
     @Test
     @Timeout(3)
     void subscribeChunked() {
@@ -371,6 +397,154 @@ class TopicMessageQueryTest {
         Assertions.assertThat(received).isEmpty();
     }
 
+    @Test
+    @Timeout(3)
+    void movesOnFromStalledStream() {
+        ConsensusTopicResponse response = response(1L);
+        Instant nextTimestamp = toInstant(response.getConsensusTimestamp()).plusNanos(1L);
+        topicMessageQuery.setStallTimeout(Duration.ofMillis(100));
+
+        consensusServiceStub.requests.add(request().build());
+        consensusServiceStub.requests.add(
+                request().setConsensusStartTime(toTimestamp(nextTimestamp)).build());
+        consensusServiceStub.responses.add(response);
+        consensusServiceStub.responses.add(STALL);
+        consensusServiceStub.responses.add(response(2L));
+
+        subscribeToMirror(received::add);
+
+        Assertions.assertThat(received).extracting(t -> t.sequenceNumber).containsExactly(1L, 2L);
+        assertThat(errors).isEmpty();
+        assertThat(client.getMirrorNodeStats()).singleElement().satisfies(stats -> {
+            assertThat(stats.streamCount).isEqualTo(2);
+            assertThat(stats.failureCount).isEqualTo(1);
+            assertThat(stats.timeToFirstMessage).isNotNull();
+        });
+    }
+
+    @Test
+    void setStallTimeoutNotPositive() {
+        assertThatThrownBy(() -> topicMessageQuery.setStallTimeout(Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("stallTimeout must be positive");
+    }
+
+    @Test
+    @Timeout(3)
+    void publisherDeliversOnlyRequestedMessages() {
+        consensusServiceStub.requests.add(request().build());
+        consensusServiceStub.responses.add(response(1L));
+        consensusServiceStub.responses.add(response(2L));
+        consensusServiceStub.responses.add(response(3L));
+
+        var subscriber = new RecordingSubscriber(1);
+        topicMessageQuery.toPublisher(client, 2).subscribe(subscriber);
+
+        awaitUntil(() -> subscriber.received.size() == 1);
+        Uninterruptibles.sleepUninterruptibly(100, TimeUnit.MILLISECONDS);
+        Assertions.assertThat(subscriber.received).hasSize(1);
+        assertThat(subscriber.complete).isFalse();
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        awaitUntil(() -> subscriber.complete);
+        Assertions.assertThat(subscriber.received)
+                .extracting(t -> t.sequenceNumber)
+                .containsExactly(1L, 2L, 3L);
+        Assertions.assertThat(subscriber.error).isNull();
+    }
+
+    @Test
+    @Timeout(3)
+    void publisherRetriesWithLimit() {
+        ConsensusTopicResponse response = response(1L);
+        Instant nextTimestamp = toInstant(response.getConsensusTimestamp()).plusNanos(1L);
+        ConsensusTopicQuery.Builder request = request();
+        topicMessageQuery.setLimit(2);
+
+        consensusServiceStub.requests.add(request.setLimit(2L).build());
+        consensusServiceStub.requests.add(request.setConsensusStartTime(toTimestamp(nextTimestamp))
+                .setLimit(1L)
+                .build());
+        consensusServiceStub.responses.add(response);
+        consensusServiceStub.responses.add(Status.RESOURCE_EXHAUSTED.asRuntimeException());
+        consensusServiceStub.responses.add(response(2L));
+
+        var subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        topicMessageQuery.toPublisher(client).subscribe(subscriber);
+
+        awaitUntil(() -> subscriber.complete);
+        Assertions.assertThat(subscriber.received)
+                .extracting(t -> t.sequenceNumber)
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    @Timeout(3)
+    void publisherSignalsError() {
+        consensusServiceStub.requests.add(request().build());
+        consensusServiceStub.responses.add(Status.INVALID_ARGUMENT.asRuntimeException());
+
+        var subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        topicMessageQuery.toPublisher(client).subscribe(subscriber);
+
+        awaitUntil(() -> subscriber.error != null);
+        assertThat(subscriber.error)
+                .isInstanceOf(StatusRuntimeException.class)
+                .extracting(t -> ((StatusRuntimeException) t).getStatus().getCode())
+                .isEqualTo(Status.Code.INVALID_ARGUMENT);
+        assertThat(subscriber.complete).isFalse();
+    }
+
+    @Test
+    @Timeout(3)
+    void resumesAfterCheckpoint() {
+        var store = new InMemoryCheckpointStore();
+        store.save(TopicId.fromString("0.0.1000"), new TopicCheckpoint(START_TIME, 2L));
+        topicMessageQuery.setCheckpointStore(store);
+
+        consensusServiceStub.requests.add(
+                request().setConsensusStartTime(toTimestamp(START_TIME.plusNanos(1L))).build());
+        consensusServiceStub.responses.add(response(2L));
+        consensusServiceStub.responses.add(response(3L));
+
+        subscribeToMirror(received::add);
+
+        Assertions.assertThat(received).extracting(t -> t.sequenceNumber).containsExactly(3L);
+        assertThat(store.load(TopicId.fromString("0.0.1000")))
+                .isEqualTo(new TopicCheckpoint(START_TIME.plusSeconds(3L), 3L));
+    }
+
+    @Test
+    @Timeout(3)
+    void checkpointStaysBeforeIncompleteMessages() {
+        var store = new InMemoryCheckpointStore();
+        topicMessageQuery.setCheckpointStore(store);
+
+        consensusServiceStub.requests.add(request().build());
+        consensusServiceStub.responses.add(response(1L, 2));
+        consensusServiceStub.responses.add(response(3L));
+
+        subscribeToMirror(received::add);
+
+        Assertions.assertThat(received).extracting(t -> t.sequenceNumber).containsExactly(3L);
+        assertThat(store.load(TopicId.fromString("0.0.1000")))
+                .isEqualTo(new TopicCheckpoint(START_TIME.plusSeconds(1L).minusNanos(1L), 3L));
+    }
+
+    @Test
+    void publisherBufferSizeMustBePositive() {
+        assertThatThrownBy(() -> topicMessageQuery.toPublisher(client, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("bufferSize must be greater than zero");
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        while (!condition.getAsBoolean()) {
+            Uninterruptibles.sleepUninterruptibly(10, TimeUnit.MILLISECONDS);
+        }
+    }
+
     private void subscribeToMirror(Consumer<TopicMessage> onNext) {
         SubscriptionHandle subscriptionHandle = topicMessageQuery.subscribe(client, onNext);
         Stopwatch stopwatch = Stopwatch.createStarted();
@@ -451,6 +625,10 @@ class TopicMessageQueryTest {
                     return;
                 }
 
+                if (response == STALL) {
+                    return;
+                }
+
                 streamObserver.onNext((ConsensusTopicResponse) response);
             }
 
@@ -463,6 +641,55 @@ class TopicMessageQueryTest {
         }
     }
 
+    private static class InMemoryCheckpointStore implements TopicCheckpointStore {
+
+        private final Map<TopicId, TopicCheckpoint> checkpoints = new ConcurrentHashMap<>();
+
+        @Override
+        public TopicCheckpoint load(TopicId topicId) {
+            return checkpoints.get(topicId);
+        }
+
+        @Override
+        public void save(TopicId topicId, TopicCheckpoint checkpoint) {
+            checkpoints.put(topicId, checkpoint);
+        }
+    }
+
+    private static class RecordingSubscriber implements Flow.Subscriber<TopicMessage> {
+
+        private final long initialRequest;
+        private final List<TopicMessage> received = new CopyOnWriteArrayList<>();
+        private volatile Flow.Subscription subscription;
+        private volatile boolean complete;
+        private volatile Throwable error;
+
+        RecordingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(initialRequest);
+        }
+
+        @Override
+        public void onNext(TopicMessage item) {
+            received.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            complete = true;
+        }
+    }
+
     private byte[] combine(byte[] array1, byte[] array2) {
         byte[] joinedArray = new byte[array1.length + array2.length];
         System.arraycopy(array1, 0, joinedArray, 0, array1.length);
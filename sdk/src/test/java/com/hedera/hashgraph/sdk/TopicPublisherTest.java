@@ -0,0 +1,132 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.ConsensusSubmitMessageTransactionBody;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.SignedTransaction;
+import com.hedera.hashgraph.sdk.proto.Transaction;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+
+class TopicPublisherTest {
+    private static final TopicId TOPIC_ID = new TopicId(0, 0, 1000);
+
+    private final List<TransactionBody> submitted = new CopyOnWriteArrayList<>();
+
+    private List<Object> okResponses(int count) {
+        var responses = new ArrayList<Object>();
+        for (int i = 0; i < count; i++) {
+            responses.add((Function<Object, Object>) request -> {
+                var transaction = (Transaction) request;
+                var signedTransaction = SignedTransaction.parseFrom(transaction.getSignedTransactionBytes());
+                submitted.add(TransactionBody.parseFrom(signedTransaction.getBodyBytes()));
+
+                return com.hedera.hashgraph.sdk.proto.TransactionResponse.newBuilder()
+                        .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK)
+                        .build();
+            });
+        }
+        return responses;
+    }
+
+    @Test
+    void submitsChunksAsSeparateTransactions() throws Exception {
+        var message = new byte[2500];
+        new Random(42).nextBytes(message);
+
+        try (var mocker = Mocker.withResponses(List.of(okResponses(3)));
+                var publisher = new TopicPublisher(mocker.client, TOPIC_ID).setChunkSize(1024)) {
+            var responses = publisher.publish(message).get();
+
+            assertThat(responses).hasSize(3);
+            assertThat(submitted).hasSize(3);
+
+            var chunks = submitted.stream()
+                    .map(TransactionBody::getConsensusSubmitMessage)
+                    .sorted(Comparator.comparingInt(chunk -> chunk.getChunkInfo().getNumber()))
+                    .toList();
+            var initialTransactionId = chunks.get(0).getChunkInfo().getInitialTransactionID();
+
+            assertThat(chunks).extracting(chunk -> chunk.getChunkInfo().getNumber()).containsExactly(1, 2, 3);
+            assertThat(chunks).allSatisfy(chunk -> {
+                assertThat(chunk.getChunkInfo().getTotal()).isEqualTo(3);
+                assertThat(chunk.getChunkInfo().getInitialTransactionID()).isEqualTo(initialTransactionId);
+                assertThat(chunk.getTopicID().getTopicNum()).isEqualTo(1000);
+            });
+            assertThat(submitted)
+                    .filteredOn(body -> body.getConsensusSubmitMessage().getChunkInfo().getNumber() == 1)
+                    .singleElement()
+                    .satisfies(body -> assertThat(body.getTransactionID()).isEqualTo(initialTransactionId));
+            assertThat(chunks.stream()
+                            .map(ConsensusSubmitMessageTransactionBody::getMessage)
+                            .reduce(ByteString.EMPTY, ByteString::concat)
+                            .toByteArray())
+                    .isEqualTo(message);
+        }
+    }
+
+    @Test
+    void packsSmallMessagesIntoOneBatch() throws Exception {
+        try (var mocker = Mocker.withResponses(List.of(okResponses(1)));
+                var publisher = new TopicPublisher(mocker.client, TOPIC_ID)
+                        .setMaxBatchBytes(1024)
+                        .setBatchLinger(Duration.ofDays(1))) {
+            var first = publisher.publish("first".getBytes());
+            var second = publisher.publish("second".getBytes());
+            var third = publisher.publish("third".getBytes());
+            publisher.flush();
+
+            assertThat(first.get()).hasSize(1).isEqualTo(second.get()).isEqualTo(third.get());
+            assertThat(submitted).singleElement().satisfies(body -> {
+                var contents = body.getConsensusSubmitMessage().getMessage().toByteArray();
+                assertThat(TopicMessageBatch.decode(contents))
+                        .containsExactly("first".getBytes(), "second".getBytes(), "third".getBytes());
+                assertThat(body.getConsensusSubmitMessage().hasChunkInfo()).isFalse();
+            });
+        }
+    }
+
+    @Test
+    void submitsLingeringBatch() throws Exception {
+        try (var mocker = Mocker.withResponses(List.of(okResponses(1)));
+                var publisher = new TopicPublisher(mocker.client, TOPIC_ID)
+                        .setMaxBatchBytes(1024)
+                        .setBatchLinger(Duration.ofMillis(10))) {
+            assertThat(publisher.publish("message".getBytes()).get()).hasSize(1);
+            assertThat(submitted).hasSize(1);
+        }
+    }
+
+    @Test
+    void rejectsTooManyChunks() throws Exception {
+        try (var mocker = Mocker.withResponses(List.of(List.of()));
+                var publisher = new TopicPublisher(mocker.client, TOPIC_ID).setChunkSize(10).setMaxChunks(2)) {
+            assertThatThrownBy(() -> publisher.publish(new byte[21]))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("message of 21 bytes requires 3 chunks but the maximum allowed chunks is 2, "
+                            + "try using setMaxChunks");
+        }
+    }
+
+    @Test
+    void rejectsChangesAfterPublishing() throws Exception {
+        try (var mocker = Mocker.withResponses(List.of(okResponses(1)));
+                var publisher = new TopicPublisher(mocker.client, TOPIC_ID)) {
+            publisher.publish("message".getBytes()).get();
+
+            assertThatThrownBy(() -> publisher.setMaxInFlight(1))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("TopicPublisher already started publishing");
+        }
+    }
+}
@@ -0,0 +1,129 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.AccountID;
+import com.hedera.hashgraph.sdk.proto.ConsensusMessageChunkInfo;
+import com.hedera.hashgraph.sdk.proto.Timestamp;
+import com.hedera.hashgraph.sdk.proto.TransactionID;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TopicRunningHashVerifierTest {
+    private static final TopicId TOPIC = new TopicId(0, 0, 1000);
+    private static final AccountID PAYER = AccountID.newBuilder().setAccountNum(1001).build();
+
+    /**
+     * A chain of version 3 responses, hashed the way consensus nodes do: through an {@link ObjectOutputStream}, whose
+     * framing the verifier reproduces without one.
+     */
+    private static List<ConsensusTopicResponse> chain(int length) throws Exception {
+        var responses = new ArrayList<ConsensusTopicResponse>();
+        var runningHash = new byte[48];
+
+        for (long sequenceNumber = 1; sequenceNumber <= length; sequenceNumber++) {
+            var message = ("message " + sequenceNumber).getBytes(StandardCharsets.UTF_8);
+            var seconds = 1_700_000_000L + sequenceNumber;
+            int nanos = (int) sequenceNumber * 7;
+
+            var bytes = new ByteArrayOutputStream();
+            var out = new ObjectOutputStream(bytes);
+            out.write(runningHash);
+            out.writeLong(3);
+            out.writeLong(PAYER.getShardNum());
+            out.writeLong(PAYER.getRealmNum());
+            out.writeLong(PAYER.getAccountNum());
+            out.writeLong(TOPIC.shard);
+            out.writeLong(TOPIC.realm);
+            out.writeLong(TOPIC.num);
+            out.writeLong(seconds);
+            out.writeInt(nanos);
+            out.writeLong(sequenceNumber);
+            out.write(MessageDigest.getInstance("SHA-384").digest(message));
+            out.flush();
+            runningHash = MessageDigest.getInstance("SHA-384").digest(bytes.toByteArray());
+
+            responses.add(ConsensusTopicResponse.newBuilder()
+                    .setConsensusTimestamp(Timestamp.newBuilder().setSeconds(seconds).setNanos(nanos))
+                    .setSequenceNumber(sequenceNumber)
+                    .setMessage(ByteString.copyFrom(message))
+                    .setRunningHash(ByteString.copyFrom(runningHash))
+                    .setRunningHashVersion(3)
+                    .setChunkInfo(ConsensusMessageChunkInfo.newBuilder()
+                            .setInitialTransactionID(TransactionID.newBuilder().setAccountID(PAYER))
+                            .setNumber(1)
+                            .setTotal(1))
+                    .build());
+        }
+
+        return responses;
+    }
+
+    @Test
+    void verifiesChain() throws Exception {
+        var verifier = new TopicRunningHashVerifier(TOPIC);
+
+        for (var response : chain(10)) {
+            verifier.verify(response);
+        }
+
+        // The first response seeds the chain
+        assertThat(verifier.getUnverifiedCount()).isEqualTo(1);
+        assertThat(verifier.getVerifiedCount()).isEqualTo(9);
+        assertThat(verifier.hasFailed()).isFalse();
+    }
+
+    @Test
+    void detectsTamperedMessage() throws Exception {
+        var responses = chain(3);
+        var verifier = new TopicRunningHashVerifier(TOPIC);
+        verifier.verify(responses.get(0));
+
+        var tampered = responses.get(1).toBuilder()
+                .setMessage(ByteString.copyFromUtf8("forged"))
+                .build();
+
+        assertThatExceptionOfType(TopicIntegrityException.class)
+                .isThrownBy(() -> verifier.verify(tampered))
+                .returns(TopicIntegrityException.Reason.RUNNING_HASH_MISMATCH, e -> e.reason)
+                .returns(2L, e -> e.sequenceNumber);
+        assertThat(verifier.hasFailed()).isTrue();
+    }
+
+    @Test
+    void detectsGap() throws Exception {
+        var responses = chain(3);
+        var verifier = new TopicRunningHashVerifier(TOPIC);
+        verifier.verify(responses.get(0));
+
+        assertThatExceptionOfType(TopicIntegrityException.class)
+                .isThrownBy(() -> verifier.verify(responses.get(2)))
+                .returns(TopicIntegrityException.Reason.SEQUENCE_GAP, e -> e.reason)
+                .returns(3L, e -> e.sequenceNumber)
+                .returns(2L, e -> e.expectedSequenceNumber);
+    }
+
+    @Test
+    void onlyChecksSequenceOfOlderVersions() throws Exception {
+        var verifier = new TopicRunningHashVerifier(TOPIC);
+
+        for (var response : chain(3)) {
+            verifier.verify(response.toBuilder()
+                    .setRunningHashVersion(2)
+                    .setMessage(ByteString.copyFromUtf8("unchecked"))
+                    .build());
+        }
+
+        assertThat(verifier.getVerifiedCount()).isZero();
+        assertThat(verifier.getUnverifiedCount()).isEqualTo(3);
+    }
+}
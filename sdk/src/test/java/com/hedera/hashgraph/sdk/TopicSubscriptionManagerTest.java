@@ -0,0 +1,266 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.hashgraph.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.Timestamp;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicQuery;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class TopicSubscriptionManagerTest {
+    private static final Instant START_TIME = Instant.ofEpochSecond(1_700_000_000L);
+
+    private final ConsensusServiceStub consensusServiceStub = new ConsensusServiceStub();
+    private final List<Throwable> errors = new CopyOnWriteArrayList<>();
+    private Client client;
+    private Server server;
+    private TopicSubscriptionManager manager;
+
+    @BeforeEach
+    void setup() throws Exception {
+        client = Client.forNetwork(Collections.emptyMap());
+        client.setMirrorNetwork(List.of("in-process:test"));
+        server = InProcessServerBuilder.forName("test")
+                .addService(consensusServiceStub)
+                .directExecutor()
+                .build()
+                .start();
+        manager = new TopicSubscriptionManager(client, 2, 2, 4);
+    }
+
+    @AfterEach
+    void teardown() throws Exception {
+        manager.close();
+        client.close();
+        server.shutdown();
+        server.awaitTermination();
+    }
+
+    @Test
+    @Timeout(5)
+    void deliversEachTopicInOrder() {
+        var received = new ConcurrentHashMap<TopicId, List<Long>>();
+        var completed = new CopyOnWriteArrayList<TopicId>();
+
+        for (int num = 1; num <= 5; num++) {
+            var topicId = new TopicId(0, 0, num);
+            consensusServiceStub.messageCounts.put((long) num, 20);
+            received.put(topicId, new CopyOnWriteArrayList<>());
+
+            manager.subscribe(
+                    query(topicId).setCompletionHandler(() -> completed.add(topicId)),
+                    message -> received.get(topicId).add(message.sequenceNumber));
+        }
+
+        awaitUntil(() -> completed.size() == 5);
+
+        assertThat(received.values())
+                .allSatisfy(sequenceNumbers -> assertThat(sequenceNumbers)
+                        .hasSize(20)
+                        .isSorted()
+                        .doesNotHaveDuplicates());
+        assertThat(manager.getTopicIds()).isEmpty();
+        assertThat(errors).isEmpty();
+    }
+
+    @Test
+    @Timeout(5)
+    void reportsMetricsOfSlowTopic() throws Exception {
+        var topicId = new TopicId(0, 0, 1);
+        consensusServiceStub.messageCounts.put(1L, 3);
+        var release = new CountDownLatch(1);
+        var completed = new AtomicBoolean();
+
+        manager.subscribe(query(topicId).setCompletionHandler(() -> completed.set(true)), message -> {
+            Uninterruptibles.awaitUninterruptibly(release);
+        });
+
+        awaitUntil(() -> {
+            var metrics = manager.getMetrics(topicId);
+            return metrics != null && metrics.queuedCount == 2;
+        });
+
+        var metrics = manager.getMetrics(topicId);
+        assertThat(metrics).isNotNull();
+        assertThat(metrics.processedCount).isZero();
+        assertThat(metrics.lastConsensusTimestamp).isNull();
+        assertThat(metrics.lag).isNull();
+        assertThat(manager.getMetrics()).containsOnlyKeys(topicId);
+
+        release.countDown();
+        awaitUntil(completed::get);
+        assertThat(manager.getMetrics(topicId)).isNull();
+    }
+
+    @Test
+    @Timeout(5)
+    void handlerErrorsDoNotEndSubscription() {
+        var topicId = new TopicId(0, 0, 1);
+        consensusServiceStub.messageCounts.put(1L, 3);
+        var received = new CopyOnWriteArrayList<Long>();
+        var completed = new AtomicBoolean();
+
+        manager.subscribe(query(topicId).setCompletionHandler(() -> completed.set(true)), message -> {
+            received.add(message.sequenceNumber);
+            if (message.sequenceNumber == 2) {
+                throw new IllegalStateException("handler failed");
+            }
+        });
+
+        awaitUntil(completed::get);
+        assertThat(received).containsExactly(1L, 2L, 3L);
+        assertThat(errors).singleElement().isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @Timeout(5)
+    void unsubscribeAndSubscribeAgain() {
+        var topicId = new TopicId(0, 0, 1);
+        var handler = (Consumer<TopicMessage>) message -> {};
+
+        manager.subscribe(query(topicId), handler);
+        assertThatThrownBy(() -> manager.subscribe(query(topicId), handler))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("already subscribed to topic 0.0.1");
+
+        assertThat(manager.unsubscribe(topicId)).isTrue();
+        assertThat(manager.unsubscribe(topicId)).isFalse();
+        assertThat(manager.getTopicIds()).isEmpty();
+
+        manager.subscribe(query(topicId), handler);
+        assertThat(manager.getTopicIds()).containsExactly(topicId);
+    }
+
+    @Test
+    @Timeout(10)
+    void movesChannelOffFailedMirrorNode() throws Exception {
+        var otherStub = new ConsensusServiceStub();
+        var otherServer = InProcessServerBuilder.forName("test-2")
+                .addService(otherStub)
+                .directExecutor()
+                .build()
+                .start();
+
+        try {
+            client.setMirrorNetwork(List.of("in-process:test", "in-process:test-2"));
+            for (var stub : List.of(consensusServiceStub, otherStub)) {
+                stub.messageCounts.put(1L, 3);
+                stub.failuresLeft.set(1);
+            }
+
+            var received = new CopyOnWriteArrayList<Long>();
+            var completed = new AtomicBoolean();
+            manager.subscribe(
+                    query(new TopicId(0, 0, 1)).setCompletionHandler(() -> completed.set(true)),
+                    message -> received.add(message.sequenceNumber));
+
+            awaitUntil(completed::get);
+
+            // Each failed call moves the channel to the other mirror node
+            assertThat(received).containsExactly(1L, 2L, 3L);
+            assertThat(consensusServiceStub.calls.get() + otherStub.calls.get()).isEqualTo(3);
+            assertThat(consensusServiceStub.calls.get()).isPositive();
+            assertThat(otherStub.calls.get()).isPositive();
+        } finally {
+            otherServer.shutdown();
+            otherServer.awaitTermination();
+        }
+    }
+
+    @Test
+    void rejectsSubscriptionsAfterClose() {
+        manager.close();
+
+        assertThatThrownBy(() -> manager.subscribe(query(new TopicId(0, 0, 1)), message -> {}))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("TopicSubscriptionManager is closed");
+    }
+
+    @Test
+    void limitsMustBePositive() {
+        assertThatThrownBy(() -> new TopicSubscriptionManager(client, 0, 1, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("maxChannels must be greater than zero");
+        assertThatThrownBy(() -> new TopicSubscriptionManager(client, 1, 0, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("workerThreads must be greater than zero");
+        assertThatThrownBy(() -> new TopicSubscriptionManager(client, 1, 1, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("bufferSize must be greater than zero");
+    }
+
+    private TopicMessageQuery query(TopicId topicId) {
+        return new TopicMessageQuery()
+                .setTopicId(topicId)
+                .setStartTime(START_TIME)
+                .setErrorHandler((t, message) -> errors.add(t));
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        while (!condition.getAsBoolean()) {
+            Uninterruptibles.sleepUninterruptibly(10, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Streams the configured number of messages of each topic, or keeps the stream open for other topics, after failing
+     * the configured number of calls.
+     */
+    private static class ConsensusServiceStub extends ConsensusServiceGrpc.ConsensusServiceImplBase {
+
+        private final Map<Long, Integer> messageCounts = new ConcurrentHashMap<>();
+        private final AtomicInteger failuresLeft = new AtomicInteger();
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public void subscribeTopic(
+                ConsensusTopicQuery consensusTopicQuery, StreamObserver<ConsensusTopicResponse> streamObserver) {
+            calls.incrementAndGet();
+            if (failuresLeft.getAndUpdate(failures -> Math.max(0, failures - 1)) > 0) {
+                streamObserver.onError(Status.UNAVAILABLE.asRuntimeException());
+                return;
+            }
+
+            var count = messageCounts.get(consensusTopicQuery.getTopicID().getTopicNum());
+            if (count == null) {
+                return;
+            }
+
+            for (long sequenceNumber = 1; sequenceNumber <= count; sequenceNumber++) {
+                streamObserver.onNext(ConsensusTopicResponse.newBuilder()
+                        .setConsensusTimestamp(Timestamp.newBuilder()
+                                .setSeconds(START_TIME.getEpochSecond() + sequenceNumber))
+                        .setSequenceNumber(sequenceNumber)
+                        .setMessage(ByteString.copyFromUtf8("message"))
+                        .setRunningHash(ByteString.copyFromUtf8("hash"))
+                        .build());
+            }
+
+            streamObserver.onCompleted();
+        }
+    }
+}
@@ -4,7 +4,10 @@ package com.hedera.hashgraph.sdk;
 import static com.hedera.hashgraph.sdk.Transaction.fromBytes;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
+import com.hedera.hashgraph.sdk.proto.SignatureMap;
+import com.hedera.hashgraph.sdk.proto.SignaturePair;
 import com.hedera.hashgraph.sdk.proto.SignedTransaction;
 import com.hedera.hashgraph.sdk.proto.TokenAssociateTransactionBody;
 import com.hedera.hashgraph.sdk.proto.TransactionBody;
@@ -93,6 +96,114 @@ public class TransactionTest {
         assertThat(tokenAssociateTransactionFromBytes).isInstanceOf(TokenAssociateTransaction.class);
     }
 
+    @Test
+    void shortenSignaturePrefixesKeepsEachPrefixUnique() {
+        var sigMap = SignatureMap.newBuilder()
+                .addSigPair(SignaturePair.newBuilder().setPubKeyPrefix(ByteString.copyFrom(Hex.decode("010203"))))
+                .addSigPair(SignaturePair.newBuilder().setPubKeyPrefix(ByteString.copyFrom(Hex.decode("020304"))))
+                .addSigPair(SignaturePair.newBuilder().setPubKeyPrefix(ByteString.copyFrom(Hex.decode("010304"))))
+                .addSigPair(SignaturePair.newBuilder().setPubKeyPrefix(ByteString.copyFrom(Hex.decode("0102"))))
+                .build();
+
+        var prefixes = Transaction.shortenSignaturePrefixes(sigMap).getSigPairList().stream()
+                .map(sigPair -> Hex.toHexString(sigPair.getPubKeyPrefix().toByteArray()))
+                .toList();
+
+        assertThat(prefixes).containsExactly("010203", "02", "0103", "0102");
+    }
+
+    @Test
+    void shortenSignaturePrefixesShrinksTransactionBytes() throws InvalidProtocolBufferException {
+        var transaction = new TransferTransaction()
+                .setNodeAccountIds(testNodeAccountIds)
+                .setTransactionId(TransactionId.withValidStart(testAccountId, validStart))
+                .freeze();
+        var privateKeys = List.of(unusedPrivateKey, PrivateKey.generateED25519(), PrivateKey.generateECDSA());
+        for (var privateKey : privateKeys) {
+            transaction.sign(privateKey);
+        }
+
+        var bytes = transaction.toBytes();
+        var shortenedBytes = transaction.setShortenSignaturePrefixes(true).toBytes();
+        assertThat(shortenedBytes.length).isLessThan(bytes.length);
+
+        // The signatures keep their whole keys
+        assertThat(transaction.getSignatures().get(testNodeAccountIds.get(0)))
+                .containsOnlyKeys(privateKeys.stream().map(PrivateKey::getPublicKey).toList());
+
+        var signedTransaction = SignedTransaction.parseFrom(transaction.makeRequest().getSignedTransactionBytes());
+        for (var sigPair : signedTransaction.getSigMap().getSigPairList()) {
+            var signers = privateKeys.stream()
+                    .filter(privateKey -> ByteString.copyFrom(privateKey.getPublicKey().toBytesRaw())
+                            .startsWith(sigPair.getPubKeyPrefix()))
+                    .toList();
+            assertThat(signers).hasSize(1);
+        }
+
+        assertThat(transaction.setShortenSignaturePrefixes(false).toBytes()).isEqualTo(bytes);
+    }
+
+    @Test
+    void shortenSignaturePrefixesKeepsEcdsaKeysWhole() throws InvalidProtocolBufferException {
+        var ecdsaKey = PrivateKey.generateECDSA();
+        var transaction = new TransferTransaction()
+                .setNodeAccountIds(testNodeAccountIds)
+                .setTransactionId(TransactionId.withValidStart(testAccountId, validStart))
+                .setShortenSignaturePrefixes(true)
+                .freeze()
+                .sign(unusedPrivateKey)
+                .sign(ecdsaKey);
+
+        var signedTransaction = SignedTransaction.parseFrom(transaction.makeRequest().getSignedTransactionBytes());
+        assertThat(signedTransaction.getSigMap().getSigPairList()).hasSize(2).allSatisfy(sigPair -> {
+            if (sigPair.getSignatureCase() == SignaturePair.SignatureCase.ECDSA_SECP256K1) {
+                assertThat(sigPair.getPubKeyPrefix().size()).isEqualTo(33);
+                assertThat(sigPair.getPubKeyPrefix().toByteArray())
+                        .isEqualTo(ecdsaKey.getPublicKey().toBytesRaw());
+            } else {
+                assertThat(sigPair.getPubKeyPrefix().size()).isLessThan(32);
+            }
+        });
+    }
+
+    @Test
+    void transactionHashesAreKeptUntilSigned() {
+        var transaction = new TransferTransaction()
+                .setNodeAccountIds(testNodeAccountIds)
+                .setTransactionId(TransactionId.withValidStart(testAccountId, validStart))
+                .freeze();
+
+        var unsignedHashes = transaction.getTransactionHashPerNode();
+        assertThat(transaction.getTransactionHashPerNode()).isEqualTo(unsignedHashes);
+        assertThat(transaction.getTransactionHash()).isEqualTo(unsignedHashes.get(testNodeAccountIds.get(0)));
+
+        // Callers get copies of the kept hashes
+        transaction.getTransactionHash()[0] ^= 1;
+        assertThat(transaction.getTransactionHash()).isEqualTo(unsignedHashes.get(testNodeAccountIds.get(0)));
+
+        transaction.sign(unusedPrivateKey);
+        var signedHashes = transaction.getTransactionHashPerNode();
+        for (var nodeAccountId : testNodeAccountIds) {
+            assertThat(signedHashes.get(nodeAccountId)).isNotEqualTo(unsignedHashes.get(nodeAccountId));
+            assertThat(signedHashes.get(nodeAccountId))
+                    .isEqualTo(Transaction.hash(transaction.outerTransactions
+                            .get(testNodeAccountIds.indexOf(nodeAccountId))
+                            .getSignedTransactionBytes()
+                            .toByteArray()));
+        }
+    }
+
+    @Test
+    void hashOfByteStringMatchesHashOfBytes() {
+        var bytes = new byte[10_000];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+
+        assertThat(Transaction.hash(ByteString.copyFrom(bytes))).isEqualTo(Transaction.hash(bytes));
+        assertThat(Transaction.hash(ByteString.EMPTY)).isEqualTo(Transaction.hash(new byte[0]));
+    }
+
     private TokenAssociateTransaction spawnTestTransaction(TransactionBody txBody) {
         return new TokenAssociateTransaction(txBody)
                 .setNodeAccountIds(testNodeAccountIds)